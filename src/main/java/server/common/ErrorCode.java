@@ -142,7 +142,15 @@ public enum ErrorCode {
     VEO_API_QUOTA_EXCEEDED("B1906", "Veo API 할당량을 초과했습니다.", HttpStatus.TOO_MANY_REQUESTS),
     VEO_API_UNAUTHORIZED("B1907", "Veo API 인증에 실패했습니다.", HttpStatus.UNAUTHORIZED),
     VEO_OPERATION_INTERRUPTED("B1908", "비디오 생성 작업이 중단되었습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
-    VEO_INSUFFICIENT_CREDITS("B1909", "비디오 생성을 위한 크레딧이 부족합니다.", HttpStatus.PAYMENT_REQUIRED);
+    VEO_INSUFFICIENT_CREDITS("B1909", "비디오 생성을 위한 크레딧이 부족합니다.", HttpStatus.PAYMENT_REQUIRED),
+    VEO_ADMISSION_QUEUE_FULL("B1910", "비디오 생성 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
+    VEO_UPLOAD_URL_SIGNING_FAILED("B1911", "이미지 업로드 URL 발급에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    VEO_INVALID_IDEMPOTENCY_KEY("B1912", "Idempotency-Key 형식이 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+    VEO_IDEMPOTENCY_KEY_REUSED("B1913", "같은 Idempotency-Key로 다른 내용의 요청이 이미 접수되었습니다.", HttpStatus.UNPROCESSABLE_ENTITY),
+    VEO_IDEMPOTENT_REQUEST_IN_PROGRESS("B1914", "같은 Idempotency-Key의 요청이 아직 접수 중입니다. 잠시 후 다시 시도해주세요.", HttpStatus.CONFLICT),
+    VEO_OPERATION_CANCELLED("B1915", "사용자가 비디오 생성 작업을 취소했습니다.", HttpStatus.CONFLICT),
+    VEO_OPERATION_FORBIDDEN("B1916", "본인이 요청한 비디오 생성 작업이 아닙니다.", HttpStatus.FORBIDDEN),
+    VEO_RATE_LIMIT_EXCEEDED("B1917", "비디오 생성 요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS);
 
     private final String code;
     private final String message;
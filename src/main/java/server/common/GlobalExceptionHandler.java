@@ -5,6 +5,7 @@ import server.common.response.ResponseForm;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -56,6 +57,23 @@ public class GlobalExceptionHandler {
         );
     }
 
+    /**
+     * 처리 한도 초과로 거절된 요청을 핸들링 - Retry-After 헤더로 재시도 시점 안내
+     *
+     * @param e       처리 한도 초과 예외 클래스
+     * @param request 요청 서블릿 객체
+     * @return 429 에러 응답 json
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    protected ResponseEntity<ResponseForm<Void>> handleTooManyRequestsException(TooManyRequestsException e,
+                                                                                HttpServletRequest request) {
+        log.warn("[요청 한도 초과] from {} api, retry after {}s", request.getRequestURI(), e.getRetryAfterSeconds());
+
+        return ResponseEntity.status(e.getErrorCode().getHttpstatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ResponseForm<>(e.getErrorCode(), e.getMessage()));
+    }
+
     /**
      * 클라이언트가 타당하지 않은 값을 넘겨주었을 생기는 에러를 커스터마이징하여 핸들링
      *
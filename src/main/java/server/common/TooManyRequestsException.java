@@ -0,0 +1,16 @@
+package server.common;
+
+import lombok.Getter;
+
+/**
+ * 처리 한도를 넘어 거절된 요청 예외 - 응답에 Retry-After 헤더로 재시도 시점을 알려줌
+ */
+@Getter
+public class TooManyRequestsException extends CustomException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -30,6 +30,54 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * Veo 비디오 생성 작업 실행용 Executor
+     * 요청 스레드(Tomcat)를 점유하지 않도록 생성 작업을 분리
+     */
+    @Bean(name = "veoExecutor")
+    public Executor veoExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("VeoExecutor-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Veo 입력 이미지 병렬 업로드용 Executor
+     * 풀이 가득 차면 호출 스레드에서 직접 업로드하여 자연스럽게 속도를 조절
+     */
+    @Bean(name = "imageUploadExecutor")
+    public Executor imageUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("ImageUploadExecutor-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 생성된 비디오 메타데이터(크기, 재생 길이, 포스터) 추출용 Executor
+     * 요청/폴링 경로와 분리된 후처리 단계 - 밀리면 추출을 건너뛰고 기본 정보만 유지
+     */
+    @Bean(name = "videoMetadataExecutor")
+    public Executor videoMetadataExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("VideoMetadataExecutor-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
     @Override
     public Executor getAsyncExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -19,7 +19,8 @@ public class CorsConfig {
                 registry.addMapping("/**")
                         .allowedOriginPatterns("*")  // ✅ 해커톤용 모든 Origin 허용
                         .allowedHeaders("*")
-                        .exposedHeaders("ACCESS_KEY", "Authorization", "RefreshToken")
+                        .exposedHeaders("ACCESS_KEY", "Authorization", "RefreshToken",
+                                "X-RateLimit-Limit", "X-RateLimit-Remaining", "Retry-After")
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "HEAD", "OPTIONS", "PATCH")
                         .allowCredentials(true);
             }
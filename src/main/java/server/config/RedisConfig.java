@@ -1,5 +1,6 @@
 package server.config;
 
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -14,11 +15,14 @@ import org.springframework.data.redis.cache.RedisCacheManager.RedisCacheManagerB
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import server.veo.service.VeoResultCache;
+import server.veo.service.VideoMetadataService;
 
 @Configuration
 @EnableCaching
@@ -38,12 +42,25 @@ public class RedisConfig {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        // Veo 작업 레지스트리의 LocalDateTime 직렬화를 위해 JavaTimeModule 등록
+        GenericJackson2JsonRedisSerializer valueSerializer = new GenericJackson2JsonRedisSerializer()
+                .configure(objectMapper -> objectMapper.registerModule(new JavaTimeModule()));
+        redisTemplate.setValueSerializer(valueSerializer);
         redisTemplate.setHashKeySerializer(new StringRedisSerializer());
-        redisTemplate.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.setHashValueSerializer(valueSerializer);
         return redisTemplate;
     }
 
+    /**
+     * Redis pub/sub 구독 컨테이너 - Veo 작업 상태 이벤트(SSE)와 취소 요청의 노드 간 전달용
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
     // CacheManager (Spring @Cacheable 기반 설정)
     @Bean
     public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
@@ -62,8 +79,27 @@ public class RedisConfig {
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
                         new GenericJackson2JsonRedisSerializer()));
 
+        // Veo 생성 결과 캐시 - GeneratedVideo의 LocalDateTime 직렬화를 위해 JavaTimeModule 등록
+        RedisCacheConfiguration veoGeneratedVideoCacheConfig = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofDays(7))  // TTL: 7일
+                .serializeKeysWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new GenericJackson2JsonRedisSerializer()
+                                .configure(objectMapper -> objectMapper.registerModule(new JavaTimeModule()))));
+
+        // 비디오 메타데이터 캐시 - 비디오 ID별 크기/재생 길이/포스터 URL
+        RedisCacheConfiguration veoVideoMetadataCacheConfig = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofDays(7))  // TTL: 7일
+                .serializeKeysWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new GenericJackson2JsonRedisSerializer()));
+
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
         cacheConfigurations.put("recommendation", recommendationCacheConfig); // 추천 캐시
+        cacheConfigurations.put(VeoResultCache.CACHE_NAME, veoGeneratedVideoCacheConfig); // Veo 생성 결과 캐시
+        cacheConfigurations.put(VideoMetadataService.CACHE_NAME, veoVideoMetadataCacheConfig); // 비디오 메타데이터 캐시
 
         return RedisCacheManagerBuilder.fromConnectionFactory(connectionFactory)
                 .cacheDefaults(defaultConfig)
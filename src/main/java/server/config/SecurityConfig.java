@@ -1,5 +1,6 @@
 package server.config;
 
+import jakarta.servlet.DispatcherType;
 import server.security.auth.jwt.JwtAuthenticationFilter;
 import server.security.auth.service.JwtService;
 import lombok.RequiredArgsConstructor;
@@ -25,7 +26,8 @@ public class SecurityConfig {
             "/swagger-ui/**",       // Swagger UI
             "/v3/api-docs/**",      // Swagger API docs
             "/actuator/prometheus", // Prometheus 모니터링
-            "/api/v1/veo/**"
+            "/api/v1/veo/health",   // Veo 서비스 상태 확인
+            "/api/v1/veo/local-object-store/**" // 로컬 직접 업로드 (loadtest) - 서명 URL 자체가 인증
 
     };
 
@@ -38,6 +40,8 @@ public class SecurityConfig {
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 등 비동기 요청의 재디스패치 - 최초 요청에서 이미 인증됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers(PERMIT_URL_ARRAY).permitAll()
                         .anyRequest().authenticated())
                 .addFilterBefore(new JwtAuthenticationFilter(jwtService, Arrays.asList(PERMIT_URL_ARRAY)),
@@ -5,6 +5,7 @@ import com.google.genai.Client;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.core.io.ClassPathResource;
 
 import java.io.File;
@@ -21,8 +22,10 @@ import com.google.cloud.storage.StorageOptions;
  * ✅ Vertex AI 서비스 계정 인증을 지원
  * ✅ 적절한 OAuth2 scope 설정
  * ✅ 상세한 디버깅 및 오류 처리
+ * ✅ loadtest 프로파일에서는 가짜 백엔드/로컬 객체 저장소를 사용하므로 생성하지 않음
  */
 @Configuration
+@Profile("!loadtest")
 public class VeoConfig {
 
     @Value("${google.cloud.project-id}")
@@ -0,0 +1,120 @@
+package server.veo.api;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.NoSuchFileException;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import server.veo.backend.LocalObjectStore;
+import server.veo.backend.LocalUploadSessions;
+
+/**
+ * 로컬 객체 저장소 직접 업로드 엔드포인트 (loadtest 프로파일)
+ *
+ * GCS 재개 가능 업로드 프로토콜의 필요한 부분만 재현하여 서명 URL 업로드 흐름을 오프라인에서 확인할 수 있게 합니다.
+ * - POST {서명 URL} + x-goog-resumable: start → 201, Location: 세션 URI
+ * - PUT {세션 URI} (Content-Range: bytes a-b/전체) → 308 + Range (진행 중) 또는 200 (완료)
+ * - PUT {세션 URI} (Content-Range: bytes *&#47;전체) → 현재 진행 상태 조회
+ */
+@Hidden
+@RestController
+@Profile("loadtest")
+@RequiredArgsConstructor
+@Slf4j
+public class LocalObjectStoreController {
+
+    private static final Pattern CONTENT_RANGE = Pattern.compile("bytes (?:(\\d+)-(\\d+)|\\*)/(\\d+|\\*)");
+    private static final HttpStatus RESUME_INCOMPLETE = HttpStatus.PERMANENT_REDIRECT; // 308
+
+    private final LocalObjectStore objectStore;
+    private final LocalUploadSessions uploadSessions;
+
+    /**
+     * 재개 가능 업로드 세션 시작 - 서명, 만료 시각, Content-Type 확인
+     */
+    @PostMapping(LocalObjectStore.UPLOAD_PATH)
+    public ResponseEntity<Void> startUpload(
+            @RequestParam("object") String objectName,
+            @RequestParam String contentType,
+            @RequestParam long maxBytes,
+            @RequestParam long expires,
+            @RequestParam String signature,
+            @RequestHeader(value = "x-goog-resumable", required = false) String resumable,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String requestContentType
+    ) throws IOException {
+        if (!objectStore.verifyUploadSignature(objectName, contentType, maxBytes, expires, signature)
+                || !"start".equals(resumable)
+                || !contentType.equals(requestContentType)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        String sessionId = uploadSessions.start(objectName, contentType, maxBytes);
+        return ResponseEntity.created(URI.create(objectStore.sessionUrlOf(sessionId))).build();
+    }
+
+    /**
+     * 세션에 청크 업로드 또는 진행 상태 조회
+     */
+    @PutMapping(LocalObjectStore.SESSION_PATH + "/{sessionId}")
+    public ResponseEntity<Map<String, Object>> upload(
+            @PathVariable String sessionId,
+            @RequestHeader(value = HttpHeaders.CONTENT_RANGE, required = false) String contentRange,
+            HttpServletRequest request
+    ) {
+        try (InputStream body = request.getInputStream()) {
+            LocalUploadSessions.Progress progress;
+            if (contentRange == null) {
+                progress = uploadSessions.writeAll(sessionId, body);
+            } else {
+                Matcher matcher = CONTENT_RANGE.matcher(contentRange.trim());
+                if (!matcher.matches()) {
+                    return ResponseEntity.badRequest().build();
+                }
+                Long totalBytes = matcher.group(3).equals("*") ? null : Long.parseLong(matcher.group(3));
+                progress = matcher.group(1) == null
+                        ? uploadSessions.status(sessionId)
+                        : uploadSessions.write(sessionId, Long.parseLong(matcher.group(1)), totalBytes, body);
+            }
+            return toResponse(progress);
+
+        } catch (NoSuchFileException e) {
+            return ResponseEntity.notFound().build();
+        } catch (FileAlreadyExistsException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (IOException e) {
+            log.warn("⚠️ 로컬 직접 업로드 실패 - 세션: {}, 오류: {}", sessionId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> toResponse(LocalUploadSessions.Progress progress) {
+        if (progress.complete()) {
+            return ResponseEntity.ok(Map.of(
+                    "name", progress.objectName(),
+                    "contentType", progress.contentType(),
+                    "size", String.valueOf(progress.receivedBytes())));
+        }
+        ResponseEntity.BodyBuilder incomplete = ResponseEntity.status(RESUME_INCOMPLETE);
+        if (progress.receivedBytes() > 0) {
+            incomplete.header(HttpHeaders.RANGE, "bytes=0-" + (progress.receivedBytes() - 1));
+        }
+        return incomplete.build();
+    }
+}
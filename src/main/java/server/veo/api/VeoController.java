@@ -3,46 +3,98 @@ package server.veo.api;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import server.common.response.ResponseForm;
+import server.veo.dto.ImageUploadTicket;
+import server.veo.dto.ImageUploadUrlRequest;
+import server.veo.dto.UploadedImageGenerationRequest;
 import server.veo.dto.VideoGenerationRequest;
 import server.veo.dto.VideoGenerationResponse;
+import server.veo.service.ImageUploadUrlService;
+import server.veo.service.VeoOperationEvents;
+import server.veo.service.VeoRateLimiter;
 import server.veo.service.VeoVideoService;
 
 /**
- * 해커톤용 간단한 동기식 Veo 비디오 생성 API
- * 복잡한 비동기, SSE, WebSocket 기능 없이 가장 단순하게 구현
+ * Veo 비디오 생성 API
  * ✅ multipart/form-data로 이미지 파일 직접 업로드 지원
+ * ✅ 서명된 업로드 URL로 객체 저장소에 직접 올린 이미지의 객체 참조로도 생성 가능 (이미지 바이트가 서버를 거치지 않음)
+ * ✅ 생성 요청은 작업 ID를 즉시 반환하고, 결과는 작업 조회 API 또는 SSE 이벤트 스트림으로 확인
+ * ✅ 로그인한 회원만 생성 가능 - 회원/IP별 요청 한도(VeoRateLimiter)와 남은 한도 헤더 적용
  */
 @RestController
 @RequestMapping("/api/v1/veo")
 @RequiredArgsConstructor
 @Slf4j
-@Tag(name = "Veo Video Generation", description = "간단한 동기식 비디오 생성 API (해커톤용)")
+@Tag(name = "Veo Video Generation", description = "비동기 작업 기반 비디오 생성 API")
 public class VeoController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final VeoVideoService veoVideoService;
+    private final ImageUploadUrlService imageUploadUrlService;
+    private final VeoOperationEvents veoOperationEvents;
+    private final VeoRateLimiter veoRateLimiter;
 
     /**
-     * 동기식 비디오 생성 - 완료될 때까지 기다렸다가 결과 반환
+     * 이미지 직접 업로드 URL 발급 - 이미지 슬롯마다 짧은 수명의 서명된 재개 가능 업로드 URL 반환
+     */
+    @PostMapping("/uploads")
+    @Operation(
+            summary = "이미지 직접 업로드 URL 발급",
+            description = "이미지 슬롯마다 서명된 재개 가능 업로드 URL을 발급합니다. "
+                    + "각 uploadUrl에 headers를 붙여 POST하면 응답 Location으로 업로드 세션 URI를 받고, 그 URI에 이미지를 PUT합니다. "
+                    + "업로드가 끝나면 슬롯들의 objectName을 POST /api/v1/veo/generate (application/json)로 전달합니다."
+    )
+    public ResponseForm<ImageUploadTicket> issueUploadUrls(
+            @RequestBody @Valid ImageUploadUrlRequest request,
+            @AuthenticationPrincipal Long memberId) {
+
+        return new ResponseForm<>(imageUploadUrlService.issue(request.contentTypes(), memberId));
+    }
+
+    /**
+     * 비디오 생성 작업 접수 - 작업 ID와 IN_PROGRESS(또는 QUEUED) 상태를 즉시 반환
      * ✅ 이미지 파일을 직접 업로드하여 비디오 생성
      */
     @PostMapping(value = "/generate", consumes = "multipart/form-data")
     @Operation(
-            summary = "동기식 비디오 생성 (이미지 파일 업로드)",
-            description = "프롬프트와 이미지 파일들을 입력받아 동기적으로 비디오를 생성하고 결과를 반환합니다. (완료까지 약 2-3분 소요)"
+            summary = "비디오 생성 작업 접수 (이미지 파일 업로드)",
+            description = "이미지 파일들을 입력받아 비디오 생성 작업을 접수하고 작업 ID를 즉시 반환합니다. "
+                    + "결과는 GET /api/v1/veo/operations/{operationId} 로 조회합니다. (완료까지 약 2-3분 소요) "
+                    + "동시 실행 한도를 넘으면 QUEUED 상태와 대기열 순번을, 대기열까지 가득 차면 429와 Retry-After 헤더를 반환합니다. "
+                    + "Idempotency-Key 헤더를 보내면 같은 키로 재전송된 요청은 새 작업 없이 원래 작업의 현재 상태를 반환합니다. "
+                    + "회원 등급별 요청 한도가 있으며 X-RateLimit-Limit / X-RateLimit-Remaining 헤더로 남은 한도를, "
+                    + "한도를 넘으면 429와 Retry-After 헤더를 반환합니다."
     )
     public ResponseForm<VideoGenerationResponse> generateVideo(
             @Parameter(description = "이미지 파일들 (최대 10개)", required = false)
             @RequestPart(value = "imageFiles", required = false)
-            MultipartFile[] imageFiles) {
+            MultipartFile[] imageFiles,
+            @Parameter(description = "재전송 시 중복 생성을 막는 클라이언트 생성 키 (UUID 권장)")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @AuthenticationPrincipal Long memberId,
+            Authentication authentication,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
 
         log.info("🎬 비디오 생성 요청");
 
@@ -51,11 +103,87 @@ public class VeoController {
                 imageFiles
         );
 
-        // 동기적으로 비디오 생성 (완료까지 기다림)
-        VideoGenerationResponse response = veoVideoService.generate(request);
+        VideoGenerationResponse response = veoVideoService.submit(request, memberId,
+                VeoRateLimiter.roleOf(authentication), idempotencyKey,
+                () -> veoRateLimiter.consume(authentication, httpRequest.getRemoteAddr(), httpResponse));
 
         return new ResponseForm<>(response);
+    }
+
+    /**
+     * 직접 업로드한 이미지의 객체 참조로 비디오 생성 작업 접수
+     */
+    @PostMapping(value = "/generate", consumes = "application/json")
+    @Operation(
+            summary = "비디오 생성 작업 접수 (직접 업로드한 이미지)",
+            description = "POST /api/v1/veo/uploads 로 발급받은 URL로 올린 이미지의 objectName들을 입력받아 "
+                    + "비디오 생성 작업을 접수하고 작업 ID를 즉시 반환합니다. 업로드가 끝나지 않은 객체가 있으면 400을 반환합니다. "
+                    + "Idempotency-Key 헤더와 요청 한도는 multipart 요청과 동일하게 동작합니다."
+    )
+    public ResponseForm<VideoGenerationResponse> generateVideoFromUploads(
+            @RequestBody @Valid UploadedImageGenerationRequest request,
+            @Parameter(description = "재전송 시 중복 생성을 막는 클라이언트 생성 키 (UUID 권장)")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @AuthenticationPrincipal Long memberId,
+            Authentication authentication,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
+
+        log.info("🎬 비디오 생성 요청 (직접 업로드)");
+        return new ResponseForm<>(veoVideoService.submitUploaded(request.objectNames(), memberId,
+                VeoRateLimiter.roleOf(authentication), idempotencyKey,
+                () -> veoRateLimiter.consume(authentication, httpRequest.getRemoteAddr(), httpResponse)));
+    }
+
+    /**
+     * 비디오 생성 작업 상태 조회
+     */
+    @GetMapping("/operations/{operationId}")
+    @Operation(summary = "비디오 생성 작업 조회",
+            description = "작업 ID로 비디오 생성 작업의 상태와 결과를 조회합니다. 다른 회원의 작업은 조회할 수 없습니다(403).")
+    public ResponseForm<VideoGenerationResponse> getOperation(
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable String operationId,
+            @AuthenticationPrincipal Long memberId) {
+
+        return new ResponseForm<>(veoVideoService.getOperation(operationId, memberId));
+    }
+
+    /**
+     * 비디오 생성 작업 취소 - 폴링을 멈추고 실행 슬롯을 반환하여 대기 중인 다른 작업이 바로 시작되게 함
+     */
+    @DeleteMapping("/operations/{operationId}")
+    @Operation(
+            summary = "비디오 생성 작업 취소",
+            description = "진행 중이거나 대기 중인 작업을 취소하고 취소 사유와 함께 FAILED 상태를 반환합니다. "
+                    + "이미 종료된 작업은 현재 상태를 그대로 반환합니다. 다른 회원의 작업은 취소할 수 없습니다(403)."
+    )
+    public ResponseForm<VideoGenerationResponse> cancelOperation(
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable String operationId,
+            @AuthenticationPrincipal Long memberId) {
+
+        return new ResponseForm<>(veoVideoService.cancel(operationId, memberId));
+    }
+
+    /**
+     * 비디오 생성 작업 이벤트 스트림 (SSE) - 상태 전이와 진행률 추정을 발생 즉시 전달
+     */
+    @GetMapping(value = "/operations/{operationId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "비디오 생성 작업 이벤트 구독",
+            description = "작업의 상태 전이(state)와 진행률/남은 시간 추정(progress) 이벤트를 Server-Sent Events로 전달합니다. "
+                    + "구독 직후 현재 상태를 한 번 보내고, 작업이 완료 또는 실패하면 마지막 state 이벤트 후 연결을 닫습니다. "
+                    + "짧은 주기의 작업 조회 폴링 대신 사용합니다. 다른 회원의 작업은 구독할 수 없습니다(403)."
+    )
+    public SseEmitter streamOperationEvents(
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable String operationId,
+            @AuthenticationPrincipal Long memberId) {
 
+        // 연결을 열기 전에 소유 여부 확인 (없는 작업 404, 다른 회원의 작업 403)
+        veoVideoService.getOperation(operationId, memberId);
+        return veoOperationEvents.subscribe(operationId, () -> veoVideoService.getOperation(operationId, memberId));
     }
 
     /**
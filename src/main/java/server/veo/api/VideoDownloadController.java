@@ -1,16 +1,17 @@
 package server.veo.api;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import server.veo.service.GcsVideoCacheService;
 import server.veo.service.VideoStorageService;
 
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.Optional;
 
 /**
  * 생성된 비디오 파일 다운로드 컨트롤러
@@ -21,39 +22,122 @@ import java.nio.file.Path;
 @Slf4j
 public class VideoDownloadController {
 
+    // 내용 기반 파일명 - URL의 내용이 바뀌지 않으므로 브라우저/CDN이 1년간 재검증 없이 재사용
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    // 그 외 - 캐시하되 매번 ETag로 재검증 (변경이 없으면 304)
+    private static final String REVALIDATE_CACHE_CONTROL = "no-cache";
+
+    private static final String VIDEO_PATH_PREFIX = "/api/v1/videos/";
+
     private final VideoStorageService videoStorageService;
+    private final VideoResponseWriter videoResponseWriter;
+    private final GcsVideoCacheService gcsVideoCacheService;
 
     /**
      * 비디오 파일 다운로드
+     * ✅ Range(단일/다중) → 206, ETag/If-None-Match → 304, If-Range 지원 - 탐색/재생 시 필요한 바이트만 전송
+     * ✅ 내용 기반 파일명이면 Cache-Control: immutable (1년) - 반복 요청은 브라우저/CDN에서 처리
      */
     @GetMapping("/{fileName}")
-    public ResponseEntity<Resource> downloadVideo(@PathVariable String fileName) {
+    public void downloadVideo(@PathVariable String fileName, HttpServletRequest request,
+                              HttpServletResponse response) {
         try {
-            log.info("📥 비디오 다운로드 요청: {}", fileName);
+            log.info("📥 비디오 다운로드 요청: {}, Range: {}", fileName, request.getHeader(HttpHeaders.RANGE));
 
             // 파일 존재 여부 확인
             if (!videoStorageService.videoFileExists(fileName)) {
                 log.warn("❌ 비디오 파일을 찾을 수 없음: {}", fileName);
-                return ResponseEntity.notFound().build();
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                return;
             }
 
-            // 파일 리소스 생성
             Path filePath = videoStorageService.getVideoFilePath(fileName);
-            Resource resource = new FileSystemResource(filePath);
+            Optional<String> contentHash = videoStorageService.contentHashOf(fileName);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, contentHash.isPresent()
+                    ? IMMUTABLE_CACHE_CONTROL
+                    : REVALIDATE_CACHE_CONTROL);
 
             // Content-Type 설정
             String contentType = determineContentType(fileName);
-            
-            log.info("✅ 비디오 파일 다운로드 시작: {} (타입: {})", fileName, contentType);
 
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + fileName + "\"")
-                    .body(resource);
+            // 내용 기반 파일명은 이름의 해시를 ETag로 사용 - 요청 스레드에서 파일 전체를 해시하지 않음
+            videoResponseWriter.write(request, response, filePath, contentType, fileName, contentHash.orElse(null));
+            log.info("✅ 비디오 파일 전송 완료: {} (타입: {}, 상태: {})", fileName, contentType, response.getStatus());
 
         } catch (Exception e) {
             log.error("❌ 비디오 다운로드 실패: {}, 오류: {}", fileName, e.getMessage(), e);
-            return ResponseEntity.internalServerError().build();
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+        }
+    }
+
+    /**
+     * 비디오 포스터 이미지 다운로드 (메타데이터 후처리 단계에서 생성)
+     */
+    @GetMapping("/{fileName}/poster")
+    public void downloadPoster(@PathVariable String fileName, HttpServletRequest request,
+                               HttpServletResponse response) {
+        try {
+            if (!videoStorageService.videoFileExists(fileName) || !videoStorageService.posterExists(fileName)) {
+                log.warn("❌ 포스터 이미지를 찾을 수 없음: {}", fileName);
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+
+            Path posterPath = videoStorageService.posterPathOf(fileName);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE_CACHE_CONTROL);
+            videoResponseWriter.write(request, response, posterPath, "image/jpeg",
+                    posterPath.getFileName().toString());
+
+        } catch (Exception e) {
+            log.error("❌ 포스터 다운로드 실패: {}, 오류: {}", fileName, e.getMessage(), e);
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+        }
+    }
+
+    /**
+     * GCS에 저장된 비디오 프록시 - 로컬 캐시에 게시된 내용 기반 URL(/api/v1/videos/{sha256}.mp4)로 리다이렉트
+     * ✅ 첫 요청은 GCS에서 받아 fast-start 후처리까지 마친 뒤 리다이렉트 - 첫 시청자도 탐색 가능한 파일을 받음
+     * ✅ 리다이렉트된 URL은 immutable 캐시 헤더로 제공되므로 이후 재생은 브라우저/CDN에서 처리
+     * ✅ 같은 비디오의 동시 첫 요청은 GCS 다운로드 하나로 합쳐짐
+     */
+    @GetMapping("/gcs/{id}")
+    public void downloadGcsVideo(@PathVariable String id, HttpServletRequest request,
+                                 HttpServletResponse response) {
+        try {
+            log.info("📥 GCS 비디오 프록시 요청: {}, Range: {}", id, request.getHeader(HttpHeaders.RANGE));
+
+            Optional<String> objectName = gcsVideoCacheService.objectNameOf(id);
+            if (objectName.isEmpty()) {
+                log.warn("❌ 잘못된 GCS 비디오 ID: {}", id);
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+
+            String fileName = gcsVideoCacheService.fetch(objectName.get());
+
+            // 상대 경로 Location - 프록시/공개 주소와 무관하게 요청한 호스트 기준으로 이동
+            response.setStatus(HttpServletResponse.SC_FOUND);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE_CACHE_CONTROL);
+            response.setHeader(HttpHeaders.LOCATION, VIDEO_PATH_PREFIX + fileName);
+            log.info("✅ GCS 비디오 로컬 캐시로 리다이렉트: {} → {}", objectName.get(), fileName);
+
+        } catch (NoSuchFileException e) {
+            log.warn("❌ GCS 비디오를 찾을 수 없음: {}", e.getMessage());
+            if (!response.isCommitted()) {
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            }
+        } catch (Exception e) {
+            log.error("❌ GCS 비디오 프록시 실패: {}, 오류: {}", id, e.getMessage(), e);
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setStatus(HttpServletResponse.SC_BAD_GATEWAY);
+            }
         }
     }
 
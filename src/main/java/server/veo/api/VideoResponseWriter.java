@@ -0,0 +1,336 @@
+package server.veo.api;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import server.veo.service.TransferBufferPool;
+import server.veo.util.DigestingChannel;
+
+/**
+ * 비디오 파일 응답 작성기
+ *
+ * 플레이어가 탐색(seek)하거나 다시 재생할 때 필요한 바이트만 전송하도록 HTTP 조건부/부분 요청을 처리합니다.
+ * - ETag(콘텐츠 SHA-256 기반 strong ETag) / Last-Modified 발급, If-None-Match / If-Modified-Since → 304
+ *   (내용 기반 파일명처럼 해시를 이미 알면 그대로 사용하고, 모를 때만 파일 전체를 해시)
+ * - Range → 206 Partial Content (단일 범위, multipart/byteranges 다중 범위), 만족 불가 → 416
+ * - If-Range가 현재 ETag/수정 시각과 다르면 Range를 무시하고 전체(200) 전송
+ *
+ * 본문은 사용자 공간 버퍼를 거치지 않도록 전송합니다.
+ * - 단일 구간(전체/단일 범위): Tomcat sendfile 요청 속성으로 커넥터가 커널 sendfile로 직접 전송
+ * - sendfile 미지원/작은 응답/다중 범위: FileChannel.transferTo로 전송
+ */
+@Component
+@Slf4j
+public class VideoResponseWriter {
+
+    private static final String BYTES_UNIT = "bytes";
+
+    // Tomcat sendfile 요청 속성 (org.apache.coyote.Constants)
+    static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    // 병합 후에도 범위가 이보다 많으면 Range를 무시하고 전체 전송 (작은 범위 대량 요청 방지)
+    private static final int MAX_RANGES = 16;
+
+    private final TransferBufferPool transferBufferPool;
+    private final Map<Path, CachedETag> etagCache;
+    private final boolean sendfileEnabled;
+    private final long sendfileMinBytes;
+
+    public VideoResponseWriter(
+            TransferBufferPool transferBufferPool,
+            @Value("${veo.download.etag-cache-size:1000}") int etagCacheSize,
+            @Value("${veo.download.sendfile-enabled:true}") boolean sendfileEnabled,
+            @Value("${veo.download.sendfile-min-bytes:49152}") long sendfileMinBytes
+    ) {
+        this.transferBufferPool = transferBufferPool;
+        this.sendfileEnabled = sendfileEnabled;
+        this.sendfileMinBytes = sendfileMinBytes;
+        this.etagCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, CachedETag> eldest) {
+                return size() > etagCacheSize;
+            }
+        });
+    }
+
+    /**
+     * 요청의 조건부/Range 헤더에 맞춰 파일을 응답으로 전송 - ETag는 파일 내용을 해시하여 계산
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response, Path file, String contentType,
+                      String fileName) throws IOException {
+        write(request, response, file, contentType, fileName, null);
+    }
+
+    /**
+     * 요청의 조건부/Range 헤더에 맞춰 파일을 응답으로 전송
+     *
+     * @param contentSha256 파일 내용의 SHA-256 (hex) - 알고 있으면 파일을 읽지 않고 ETag로 사용, 모르면 null
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response, Path file, String contentType,
+                      String fileName, String contentSha256) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long fileSize = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String etag = contentSha256 != null
+                ? "\"" + contentSha256 + "\""
+                : etagOf(file, fileSize, lastModified);
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, BYTES_UNIT);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + fileName + "\"");
+
+        // 1. 조건부 요청 - 클라이언트 캐시가 최신이면 본문 없이 304
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        boolean writeBody = !"HEAD".equalsIgnoreCase(request.getMethod());
+        List<ByteRange> ranges = requestedRanges(request, etag, lastModified, fileSize);
+
+        // 2. 전체 전송
+        if (ranges == null) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(contentType);
+            response.setContentLengthLong(fileSize);
+            if (writeBody) {
+                writeRegion(request, response, file, 0, fileSize);
+            }
+            return;
+        }
+
+        // 3. 만족할 수 있는 범위가 없음
+        if (ranges.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, BYTES_UNIT + " */" + fileSize);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+
+        // 4. 단일 범위
+        if (ranges.size() == 1) {
+            ByteRange range = ranges.get(0);
+            response.setContentType(contentType);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, range.contentRange(fileSize));
+            response.setContentLengthLong(range.length());
+            if (writeBody) {
+                writeRegion(request, response, file, range.start(), range.length());
+            }
+            return;
+        }
+
+        // 5. 다중 범위 - multipart/byteranges
+        String boundary = UUID.randomUUID().toString().replace("-", "");
+        List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+        long contentLength = 0;
+        for (ByteRange range : ranges) {
+            byte[] partHeader = ("\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": " + range.contentRange(fileSize) + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(partHeader);
+            contentLength += partHeader.length + range.length();
+        }
+        byte[] closingBoundary = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        contentLength += closingBoundary.length;
+
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+        if (!writeBody) {
+            return;
+        }
+
+        // sendfile은 응답당 한 구간만 지원하므로 다중 범위는 transferTo로 전송
+        OutputStream out = response.getOutputStream();
+        WritableByteChannel target = Channels.newChannel(out);
+        try (FileChannel channel = FileChannel.open(file)) {
+            for (int i = 0; i < ranges.size(); i++) {
+                out.write(partHeaders.get(i));
+                transferRange(channel, target, ranges.get(i).start(), ranges.get(i).length());
+            }
+        }
+        out.write(closingBoundary);
+    }
+
+    /**
+     * 요청 범위 해석
+     *
+     * @return null이면 Range 미적용(전체 전송), 빈 목록이면 만족 불가(416)
+     */
+    private List<ByteRange> requestedRanges(HttpServletRequest request, String etag, long lastModified,
+                                            long fileSize) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || !ifRangeMatches(request.getHeader(HttpHeaders.IF_RANGE), etag, lastModified)) {
+            return null;
+        }
+
+        List<HttpRange> httpRanges;
+        try {
+            httpRanges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            // 형식이 잘못된 Range는 무시 (RFC 9110)
+            log.debug("잘못된 Range 헤더 무시: {}", rangeHeader);
+            return null;
+        }
+
+        List<ByteRange> satisfiable = new ArrayList<>();
+        for (HttpRange httpRange : httpRanges) {
+            try {
+                long start = httpRange.getRangeStart(fileSize);
+                long end = httpRange.getRangeEnd(fileSize);
+                if (start < fileSize && start <= end) {
+                    satisfiable.add(new ByteRange(start, end));
+                }
+            } catch (IllegalArgumentException e) {
+                // 파일 크기를 벗어난 범위 - 만족 불가로 처리
+            }
+        }
+
+        List<ByteRange> merged = merge(satisfiable);
+        return merged.size() > MAX_RANGES ? null : merged;
+    }
+
+    /**
+     * If-Range 검사 - strong ETag 일치 또는 Last-Modified(초 단위) 일치 시에만 Range 적용
+     */
+    private boolean ifRangeMatches(String ifRange, String etag, long lastModified) {
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("W/")) {
+            return false;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            long ifRangeSeconds = ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond();
+            return ifRangeSeconds == lastModified / 1000;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 겹치거나 맞닿은 범위 병합 (RFC 9110 허용)
+     */
+    private List<ByteRange> merge(List<ByteRange> ranges) {
+        if (ranges.size() <= 1) {
+            return ranges;
+        }
+        List<ByteRange> sorted = new ArrayList<>(ranges);
+        sorted.sort(Comparator.comparingLong(ByteRange::start));
+
+        List<ByteRange> merged = new ArrayList<>();
+        ByteRange current = sorted.get(0);
+        for (int i = 1; i < sorted.size(); i++) {
+            ByteRange next = sorted.get(i);
+            if (next.start() <= current.end() + 1) {
+                current = new ByteRange(current.start(), Math.max(current.end(), next.end()));
+            } else {
+                merged.add(current);
+                current = next;
+            }
+        }
+        merged.add(current);
+        return merged;
+    }
+
+    /**
+     * 파일의 한 구간 전송 - 가능하면 Tomcat sendfile, 아니면 FileChannel.transferTo
+     */
+    private void writeRegion(HttpServletRequest request, HttpServletResponse response, Path file, long start,
+                             long length) throws IOException {
+        if (sendfileEnabled && length >= sendfileMinBytes
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            // 서블릿이 반환된 뒤 커넥터가 [start, end) 구간을 소켓으로 직접 전송
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, start + length);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            transferRange(channel, Channels.newChannel(response.getOutputStream()), start, length);
+        }
+    }
+
+    /**
+     * FileChannel.transferTo로 지정 구간 전송 - 대상이 소켓/파일 채널이면 커널에서 직접 복사됨
+     * ✅ 전송 중 파일이 잘리거나 삭제되어 더 읽을 수 없으면 EOFException - Content-Length를 이미 보냈으므로
+     *    짧은 본문으로 조용히 끝내지 않고 연결을 끊게 함
+     */
+    static void transferRange(FileChannel source, WritableByteChannel target, long start, long length)
+            throws IOException {
+        long position = start;
+        long end = start + length;
+        while (position < end) {
+            long transferred = source.transferTo(position, end - position, target);
+            if (transferred <= 0) {
+                throw new EOFException(String.format(
+                        "비디오 파일이 전송 중에 짧아짐 - 위치: %d, 끝: %d, 현재 크기: %d", position, end, source.size()));
+            }
+            position += transferred;
+        }
+    }
+
+    /**
+     * 콘텐츠 SHA-256 기반 strong ETag - (크기, 수정 시각)이 같으면 캐시된 값 사용
+     * ✅ 해시를 모르는 파일(내용 기반 이름이 아닌 이전 파일, 포스터)에만 사용 - 첫 요청은 파일 전체를 읽음
+     */
+    private String etagOf(Path file, long fileSize, long lastModified) throws IOException {
+        CachedETag cached = etagCache.get(file);
+        if (cached != null && cached.fileSize() == fileSize && cached.lastModified() == lastModified) {
+            return cached.etag();
+        }
+
+        DigestingChannel digest = DigestingChannel.hashOnly();
+        try (FileChannel channel = FileChannel.open(file)) {
+            transferBufferPool.transfer(channel, digest);
+        }
+        String etag = "\"" + digest.sha256Hex() + "\"";
+        etagCache.put(file, new CachedETag(fileSize, lastModified, etag));
+        return etag;
+    }
+
+    private record ByteRange(long start, long end) {
+
+        long length() {
+            return end - start + 1;
+        }
+
+        String contentRange(long fileSize) {
+            return BYTES_UNIT + " " + start + "-" + end + "/" + fileSize;
+        }
+    }
+
+    private record CachedETag(long fileSize, long lastModified, String etag) {
+    }
+}
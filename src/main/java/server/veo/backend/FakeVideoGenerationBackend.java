@@ -0,0 +1,188 @@
+package server.veo.backend;
+
+import com.google.genai.errors.ApiException;
+import com.google.genai.types.GenerateVideosConfig;
+import com.google.genai.types.GenerateVideosOperation;
+import com.google.genai.types.GenerateVideosResponse;
+import com.google.genai.types.GeneratedVideo;
+import com.google.genai.types.Image;
+import com.google.genai.types.Video;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로세스 내 가짜 비디오 생성 백엔드 (loadtest 프로파일)
+ *
+ * Vertex 할당량을 쓰지 않고 전체 HTTP 파이프라인에 부하를 줄 수 있도록 Veo의 동작을 흉내 냅니다.
+ * - 제출: 설정된 지연 분포만큼 대기 후 완료되지 않은 작업 반환 (설정된 비율로 429 실패)
+ * - 생성: 제출 시 뽑은 생성 시간이 지나면 완료되며, 출력 위치(outputGcsUri)에 가짜 비디오를 저장
+ *   가짜 비디오는 moov가 mdat 뒤에 있는 8초짜리 실제 MP4(MJPEG, 160x96)라서 fast-start 재배치, mvhd 재생 길이,
+ *   ffmpeg 포스터 추출까지 후처리 단계가 실제와 같이 동작하며, 설정한 크기보다 작으면 끝에 free 박스를 붙여 크기를 맞춤
+ * - 설정된 비율로 생성 자체가 실패(error가 채워진 완료 작업)
+ */
+@Component
+@Profile("loadtest")
+@Slf4j
+public class FakeVideoGenerationBackend implements VideoGenerationBackend {
+
+    private static final String DEFAULT_OUTPUT_PREFIX = "videos/";
+    private static final String FAKE_VIDEO_RESOURCE = "/veo/fake-video.mp4";
+    private static final int BOX_HEADER_BYTES = 8;
+
+    private final ObjectStore objectStore;
+    private final LatencyDistribution submitLatency;
+    private final LatencyDistribution pollLatency;
+    private final LatencyDistribution generationLatency;
+    private final double submitFailureRate;
+    private final double generationFailureRate;
+    private final byte[] fakeVideoContent;
+
+    private final Map<String, FakeOperation> operations = new ConcurrentHashMap<>();
+
+    public FakeVideoGenerationBackend(
+            ObjectStore objectStore,
+            @Value("${veo.fake.backend.submit-latency-median-millis:800}") long submitLatencyMedianMillis,
+            @Value("${veo.fake.backend.submit-latency-sigma:0.3}") double submitLatencySigma,
+            @Value("${veo.fake.backend.poll-latency-median-millis:150}") long pollLatencyMedianMillis,
+            @Value("${veo.fake.backend.poll-latency-sigma:0.3}") double pollLatencySigma,
+            @Value("${veo.fake.backend.generation-latency-median-millis:60000}") long generationLatencyMedianMillis,
+            @Value("${veo.fake.backend.generation-latency-sigma:0.25}") double generationLatencySigma,
+            @Value("${veo.fake.backend.submit-failure-rate:0}") double submitFailureRate,
+            @Value("${veo.fake.backend.generation-failure-rate:0}") double generationFailureRate,
+            @Value("${veo.fake.backend.video-size-bytes:1048576}") int videoSizeBytes
+    ) {
+        this.objectStore = objectStore;
+        this.submitLatency = new LatencyDistribution(submitLatencyMedianMillis, submitLatencySigma);
+        this.pollLatency = new LatencyDistribution(pollLatencyMedianMillis, pollLatencySigma);
+        this.generationLatency = new LatencyDistribution(generationLatencyMedianMillis, generationLatencySigma);
+        this.submitFailureRate = submitFailureRate;
+        this.generationFailureRate = generationFailureRate;
+        this.fakeVideoContent = loadFakeVideo(videoSizeBytes);
+        log.info("🧪 가짜 비디오 생성 백엔드 사용 - 생성 시간 중앙값: {}ms", generationLatencyMedianMillis);
+    }
+
+    @Override
+    public GenerateVideosOperation generateVideos(String model, String prompt, Image image,
+                                                  GenerateVideosConfig config) {
+        submitLatency.sleep();
+        if (LatencyDistribution.chance(submitFailureRate)) {
+            throw new ApiException(429, "RESOURCE_EXHAUSTED", "가짜 백엔드 할당량 초과 (설정된 실패율)");
+        }
+
+        String operationName = "projects/local/locations/local/publishers/google/models/" + model
+                + "/operations/" + UUID.randomUUID();
+        String outputPrefix = config.outputGcsUri().map(FakeVideoGenerationBackend::objectNameOf)
+                .orElse(DEFAULT_OUTPUT_PREFIX);
+
+        operations.put(operationName, new FakeOperation(
+                System.currentTimeMillis() + generationLatency.sampleMillis(),
+                LatencyDistribution.chance(generationFailureRate),
+                outputPrefix));
+
+        return GenerateVideosOperation.builder()
+                .name(operationName)
+                .done(false)
+                .build();
+    }
+
+    @Override
+    public GenerateVideosOperation getVideosOperation(GenerateVideosOperation operation) {
+        pollLatency.sleep();
+
+        String operationName = operation.name().orElse("");
+        FakeOperation fake = operations.get(operationName);
+        if (fake == null) {
+            throw new ApiException(404, "NOT_FOUND", "가짜 백엔드에 없는 작업: " + operationName);
+        }
+
+        if (System.currentTimeMillis() < fake.readyAt()) {
+            return GenerateVideosOperation.builder()
+                    .name(operationName)
+                    .done(false)
+                    .build();
+        }
+
+        operations.remove(operationName);
+        if (fake.fails()) {
+            return GenerateVideosOperation.builder()
+                    .name(operationName)
+                    .done(true)
+                    .error(Map.of("code", 13, "message", "가짜 백엔드 생성 실패 (설정된 실패율)"))
+                    .build();
+        }
+
+        String objectName = fake.outputPrefix() + UUID.randomUUID() + "/sample_0.mp4";
+        try {
+            objectStore.putIfAbsent(objectName, "video/mp4", new ByteArrayInputStream(fakeVideoContent));
+        } catch (IOException e) {
+            throw new ApiException(500, "INTERNAL", "가짜 비디오 저장 실패: " + e.getMessage());
+        }
+
+        return GenerateVideosOperation.builder()
+                .name(operationName)
+                .done(true)
+                .response(GenerateVideosResponse.builder()
+                        .generatedVideos(GeneratedVideo.builder()
+                                .video(Video.builder()
+                                        .uri(objectStore.uriOf(objectName))
+                                        .mimeType("video/mp4"))))
+                .build();
+    }
+
+    /**
+     * 작업 취소 - 가짜 작업은 즉시 폐기하여 취소된 작업이 비디오를 만들지 않음
+     */
+    @Override
+    public boolean cancelVideosOperation(GenerateVideosOperation operation) {
+        return operations.remove(operation.name().orElse("")) != null;
+    }
+
+    /**
+     * 가짜 비디오 리소스를 읽어 videoSizeBytes 크기로 맞춤 - 리소스보다 작게 설정되면 리소스 크기 그대로 사용
+     * ✅ 패딩은 moov 뒤의 최상위 free 박스 - 재생기와 fast-start 후처리는 내용을 무시하고 건너뜀
+     */
+    static byte[] loadFakeVideo(int videoSizeBytes) {
+        byte[] video;
+        try (InputStream resource = FakeVideoGenerationBackend.class.getResourceAsStream(FAKE_VIDEO_RESOURCE)) {
+            if (resource == null) {
+                throw new IllegalStateException("가짜 비디오 리소스가 없습니다: " + FAKE_VIDEO_RESOURCE);
+            }
+            video = resource.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("가짜 비디오 리소스 읽기 실패: " + FAKE_VIDEO_RESOURCE, e);
+        }
+
+        int paddingBytes = videoSizeBytes - video.length;
+        if (paddingBytes < BOX_HEADER_BYTES) {
+            return video;
+        }
+        return ByteBuffer.allocate(videoSizeBytes)
+                .put(video)
+                .putInt(paddingBytes)
+                .put("free".getBytes(StandardCharsets.US_ASCII))
+                .array();
+    }
+
+    /**
+     * gs://{버킷}/{경로} → {경로}
+     */
+    private static String objectNameOf(String gcsUri) {
+        String withoutScheme = gcsUri.replaceFirst("^gs://", "");
+        int slash = withoutScheme.indexOf('/');
+        return slash >= 0 ? withoutScheme.substring(slash + 1) : "";
+    }
+
+    private record FakeOperation(long readyAt, boolean fails, String outputPrefix) {
+    }
+}
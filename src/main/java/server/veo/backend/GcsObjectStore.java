@@ -0,0 +1,119 @@
+package server.veo.backend;
+
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.HttpMethod;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import server.veo.service.TransferBufferPool;
+
+/**
+ * Google Cloud Storage 기반 객체 저장소
+ * ✅ 전체를 힙에 올리지 않고 InputStream → GCS WriteChannel로 스트리밍
+ * ✅ 직접 업로드는 V4 서명 URL(POST, x-goog-resumable: start)로 발급 - 클라이언트가 GCS 재개 가능 업로드 세션을 직접 시작
+ */
+@Component
+@Profile("!loadtest")
+@RequiredArgsConstructor
+@Slf4j
+public class GcsObjectStore implements ObjectStore {
+
+    private final Storage gcsStorage;
+    private final TransferBufferPool transferBufferPool;
+
+    @Value("${google.cloud.storage.bucket}")
+    private String bucketName;
+
+    // GCS 재개 가능 업로드 청크 크기 (256KiB 배수) - WriteChannel 내부 버퍼 크기를 결정
+    @Value("${veo.upload.chunk-size-bytes:1048576}")
+    private int uploadChunkSize;
+
+    @Override
+    public String uriOf(String objectName) {
+        return String.format("gs://%s/%s", bucketName, objectName);
+    }
+
+    @Override
+    public boolean exists(String objectName) {
+        return gcsStorage.get(BlobId.of(bucketName, objectName)) != null;
+    }
+
+    @Override
+    public boolean putIfAbsent(String objectName, String contentType, InputStream content) throws IOException {
+        BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(bucketName, objectName))
+                .setContentType(contentType)
+                .build();
+
+        // 동시에 같은 객체가 업로드되는 경우를 대비해 존재하지 않을 때만 생성
+        try (WriteChannel writer = gcsStorage.writer(blobInfo, Storage.BlobWriteOption.doesNotExist())) {
+            writer.setChunkSize(uploadChunkSize);
+            long uploadedBytes = transferBufferPool.transfer(content, writer);
+            log.debug("🔗 GCS 업로드 완료 - 경로: {}, 크기: {} bytes", objectName, uploadedBytes);
+            return true;
+
+        } catch (StorageException e) {
+            if (e.getCode() == HttpStatus.PRECONDITION_FAILED.value()) {
+                // 다른 요청이 같은 객체를 먼저 업로드함
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public ReadableByteChannel openReader(String objectName) throws IOException {
+        Blob blob = gcsStorage.get(BlobId.of(bucketName, objectName));
+        if (blob == null) {
+            throw new NoSuchFileException(uriOf(objectName));
+        }
+        return blob.reader();
+    }
+
+    @Override
+    public Optional<ObjectStat> stat(String objectName) {
+        Blob blob = gcsStorage.get(BlobId.of(bucketName, objectName));
+        if (blob == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new ObjectStat(blob.getSize() != null ? blob.getSize() : 0, blob.getContentType()));
+    }
+
+    @Override
+    public SignedUploadUrl signResumableUpload(String objectName, String contentType, long maxBytes, Duration ttl) {
+        BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(bucketName, objectName))
+                .setContentType(contentType)
+                .build();
+
+        // 서명에 포함되는 헤더 - 클라이언트가 다른 값을 보내면 GCS가 403으로 거부
+        Map<String, String> headers = Map.of(
+                "x-goog-resumable", "start",
+                "Content-Type", contentType,
+                "x-goog-content-length-range", "0," + maxBytes,
+                "x-goog-if-generation-match", "0"
+        );
+        Instant expiresAt = Instant.now().plus(ttl);
+        String url = gcsStorage.signUrl(blobInfo, ttl.toMillis(), TimeUnit.MILLISECONDS,
+                        Storage.SignUrlOption.httpMethod(HttpMethod.POST),
+                        Storage.SignUrlOption.withExtHeaders(headers),
+                        Storage.SignUrlOption.withV4Signature())
+                .toString();
+        return new SignedUploadUrl(url, HttpMethod.POST.name(), headers, expiresAt);
+    }
+}
@@ -0,0 +1,46 @@
+package server.veo.backend;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 가짜 백엔드용 지연 시간 분포 - 중앙값과 sigma로 정의되는 로그정규 분포
+ *
+ * 실제 외부 API의 응답 시간처럼 대부분은 중앙값 근처이고 가끔 긴 꼬리가 생기도록 합니다.
+ * sigma가 0이면 항상 중앙값, 중앙값이 0이면 지연 없음.
+ */
+final class LatencyDistribution {
+
+    private final long medianMillis;
+    private final double sigma;
+
+    LatencyDistribution(long medianMillis, double sigma) {
+        this.medianMillis = medianMillis;
+        this.sigma = sigma;
+    }
+
+    long sampleMillis() {
+        if (medianMillis <= 0) {
+            return 0;
+        }
+        if (sigma <= 0) {
+            return medianMillis;
+        }
+        return Math.round(medianMillis * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    void sleep() {
+        long millis = sampleMillis();
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static boolean chance(double rate) {
+        return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+}
@@ -0,0 +1,197 @@
+package server.veo.backend;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import server.veo.service.TransferBufferPool;
+
+/**
+ * 로컬 파일 시스템 기반 가짜 객체 저장소 (loadtest 프로파일)
+ *
+ * {root}/{objectName} 경로에 저장하고 URI는 GCS와 같은 gs://{버킷}/{objectName} 형태로 반환하여
+ * 나머지 파이프라인이 운영과 같은 경로로 동작하도록 합니다.
+ * 쓰기 지연 시간과 실패율을 설정하여 GCS 지연/장애 상황도 재현할 수 있습니다.
+ * 직접 업로드 URL은 이 서버의 로컬 업로드 엔드포인트를 가리키며, 프로세스마다 새로 만든 키로 HMAC 서명합니다.
+ */
+@Component
+@Profile("loadtest")
+@Slf4j
+public class LocalObjectStore implements ObjectStore {
+
+    public static final String UPLOAD_PATH = "/api/v1/veo/local-object-store/uploads";
+    public static final String SESSION_PATH = "/api/v1/veo/local-object-store/sessions";
+
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+
+    private final Path root;
+    private final String bucketName;
+    private final TransferBufferPool transferBufferPool;
+    private final LatencyDistribution writeLatency;
+    private final double writeFailureRate;
+    private final String uploadBaseUrl;
+    private final SecretKeySpec signingKey;
+
+    public LocalObjectStore(
+            @Value("${veo.fake.object-store.root:build/fake-object-store}") String root,
+            @Value("${google.cloud.storage.bucket:local-bucket}") String bucketName,
+            TransferBufferPool transferBufferPool,
+            @Value("${veo.fake.object-store.write-latency-median-millis:0}") long writeLatencyMedianMillis,
+            @Value("${veo.fake.object-store.write-latency-sigma:0}") double writeLatencySigma,
+            @Value("${veo.fake.object-store.write-failure-rate:0}") double writeFailureRate,
+            @Value("${veo.fake.object-store.upload-base-url:http://localhost:${server.port:8080}}") String uploadBaseUrl
+    ) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.bucketName = bucketName;
+        this.transferBufferPool = transferBufferPool;
+        this.writeLatency = new LatencyDistribution(writeLatencyMedianMillis, writeLatencySigma);
+        this.writeFailureRate = writeFailureRate;
+        this.uploadBaseUrl = uploadBaseUrl;
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.signingKey = new SecretKeySpec(key, SIGNATURE_ALGORITHM);
+        log.info("🧪 로컬 객체 저장소 사용 - 경로: {}", this.root);
+    }
+
+    @Override
+    public String uriOf(String objectName) {
+        return String.format("gs://%s/%s", bucketName, objectName);
+    }
+
+    @Override
+    public boolean exists(String objectName) {
+        return Files.exists(resolve(objectName));
+    }
+
+    @Override
+    public boolean putIfAbsent(String objectName, String contentType, InputStream content) throws IOException {
+        writeLatency.sleep();
+        if (LatencyDistribution.chance(writeFailureRate)) {
+            throw new IOException("가짜 객체 저장소 쓰기 실패 (설정된 실패율)");
+        }
+
+        Path target = resolve(objectName);
+        if (Files.exists(target)) {
+            return false;
+        }
+
+        // 임시 파일에 끝까지 쓴 뒤 이동하여, 쓰는 중인 객체가 보이지 않도록 함
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                transferBufferPool.transfer(content, channel);
+            }
+            return publish(temp, objectName);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 끝까지 쓴 파일을 객체로 게시 (이동) - 이미 있는 객체면 false
+     */
+    public boolean publish(Path source, String objectName) throws IOException {
+        Path target = resolve(objectName);
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public ReadableByteChannel openReader(String objectName) throws IOException {
+        return FileChannel.open(resolve(objectName), StandardOpenOption.READ);
+    }
+
+    /**
+     * 객체 파일 경로 - 저장소 루트 밖으로 벗어나는 이름은 거부
+     */
+    public Path resolve(String objectName) {
+        Path path = root.resolve(objectName).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 객체 이름: " + objectName);
+        }
+        return path;
+    }
+
+    @Override
+    public Optional<ObjectStat> stat(String objectName) throws IOException {
+        Path path = resolve(objectName);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        // 로컬 파일에는 Content-Type이 저장되지 않으므로 확장자로 추정
+        return Optional.of(new ObjectStat(Files.size(path), URLConnection.guessContentTypeFromName(objectName)));
+    }
+
+    @Override
+    public SignedUploadUrl signResumableUpload(String objectName, String contentType, long maxBytes, Duration ttl) {
+        resolve(objectName);
+        Instant expiresAt = Instant.now().plus(ttl);
+        long expires = expiresAt.getEpochSecond();
+        String url = uploadBaseUrl + UPLOAD_PATH
+                + "?object=" + URLEncoder.encode(objectName, StandardCharsets.UTF_8)
+                + "&contentType=" + URLEncoder.encode(contentType, StandardCharsets.UTF_8)
+                + "&maxBytes=" + maxBytes
+                + "&expires=" + expires
+                + "&signature=" + sign(objectName, contentType, maxBytes, expires);
+        return new SignedUploadUrl(url, "POST",
+                Map.of("x-goog-resumable", "start", "Content-Type", contentType), expiresAt);
+    }
+
+    /**
+     * 업로드 URL 서명 검증 - 서명이 일치하고 만료 전이면 true
+     */
+    public boolean verifyUploadSignature(String objectName, String contentType, long maxBytes, long expires,
+                                         String signature) {
+        if (signature == null || Instant.now().getEpochSecond() > expires) {
+            return false;
+        }
+        byte[] expected = sign(objectName, contentType, maxBytes, expires).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 업로드 세션 URL
+     */
+    public String sessionUrlOf(String sessionId) {
+        return uploadBaseUrl + SESSION_PATH + "/" + sessionId;
+    }
+
+    private String sign(String objectName, String contentType, long maxBytes, long expires) {
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(signingKey);
+            String payload = objectName + "\n" + contentType + "\n" + maxBytes + "\n" + expires;
+            return HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("업로드 URL 서명 실패", e);
+        }
+    }
+}
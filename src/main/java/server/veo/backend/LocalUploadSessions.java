@@ -0,0 +1,193 @@
+package server.veo.backend;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import server.veo.service.TransferBufferPool;
+
+/**
+ * 로컬 객체 저장소의 재개 가능 업로드 세션 (loadtest 프로파일)
+ *
+ * GCS 재개 가능 업로드와 같은 흐름을 재현합니다.
+ * 서명된 URL로 세션을 시작하고, 세션에 청크를 이어 쓰다가 전체 크기에 도달하면 객체로 게시합니다.
+ * 쓰는 중인 데이터는 저장소 루트의 .upload-sessions 아래 임시 파일에 두므로 완료 전에는 객체로 보이지 않습니다.
+ */
+@Component
+@Profile("loadtest")
+@Slf4j
+public class LocalUploadSessions {
+
+    private static final String SESSION_DIR = ".upload-sessions";
+
+    private final LocalObjectStore objectStore;
+    private final TransferBufferPool transferBufferPool;
+    private final Duration sessionTtl;
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    public LocalUploadSessions(
+            LocalObjectStore objectStore,
+            TransferBufferPool transferBufferPool,
+            @Value("${veo.fake.object-store.upload-session-ttl-seconds:86400}") long sessionTtlSeconds
+    ) {
+        this.objectStore = objectStore;
+        this.transferBufferPool = transferBufferPool;
+        this.sessionTtl = Duration.ofSeconds(sessionTtlSeconds);
+    }
+
+    /**
+     * 업로드 세션 시작 - 세션 ID 반환 (서명 검증은 호출 측에서 완료된 상태)
+     */
+    public String start(String objectName, String contentType, long maxBytes) throws IOException {
+        purgeExpired();
+
+        String sessionId = UUID.randomUUID().toString();
+        Path part = objectStore.resolve(SESSION_DIR + "/" + sessionId + ".part");
+        Files.createDirectories(part.getParent());
+        Files.createFile(part);
+        sessions.put(sessionId, new Session(objectName, contentType, maxBytes, part, Instant.now().plus(sessionTtl)));
+        log.debug("🧪 로컬 업로드 세션 시작 - 세션: {}, 객체: {}", sessionId, objectName);
+        return sessionId;
+    }
+
+    /**
+     * 세션에 청크 쓰기
+     * ✅ offset이 지금까지 받은 크기와 다르면 쓰지 않고 현재 진행 상태만 반환 (클라이언트가 Range를 보고 이어서 전송)
+     * ✅ totalBytes에 도달하면 객체로 게시 - 같은 이름의 객체가 이미 있으면 FileAlreadyExistsException
+     *
+     * @param totalBytes 전체 크기 (모르면 null)
+     */
+    public Progress write(String sessionId, long offset, Long totalBytes, InputStream body) throws IOException {
+        Session session = find(sessionId);
+        synchronized (session) {
+            if (session.complete || offset != session.received) {
+                return session.progress();
+            }
+
+            try (FileChannel channel = FileChannel.open(session.part, StandardOpenOption.WRITE)) {
+                channel.position(offset);
+                session.received += transferBufferPool.transfer(body, channel);
+            }
+
+            if (session.received > session.maxBytes || (totalBytes != null && session.received > totalBytes)) {
+                abort(sessionId, session);
+                throw new IOException("업로드 크기가 허용 범위를 넘었습니다: " + session.received + " bytes");
+            }
+            if (totalBytes != null && session.received == totalBytes) {
+                complete(sessionId, session);
+            }
+            return session.progress();
+        }
+    }
+
+    /**
+     * 세션에 남은 본문 전체를 쓰고 완료 (Content-Range 없는 단일 요청 업로드)
+     */
+    public Progress writeAll(String sessionId, InputStream body) throws IOException {
+        Session session = find(sessionId);
+        synchronized (session) {
+            if (session.complete) {
+                return session.progress();
+            }
+            write(sessionId, session.received, null, body);
+            complete(sessionId, session);
+            return session.progress();
+        }
+    }
+
+    /**
+     * 세션 진행 상태 조회
+     */
+    public Progress status(String sessionId) throws IOException {
+        Session session = find(sessionId);
+        synchronized (session) {
+            return session.progress();
+        }
+    }
+
+    private void complete(String sessionId, Session session) throws IOException {
+        if (!objectStore.publish(session.part, session.objectName)) {
+            abort(sessionId, session);
+            throw new FileAlreadyExistsException(objectStore.uriOf(session.objectName));
+        }
+        session.complete = true;
+        log.info("🧪 로컬 직접 업로드 완료 - 객체: {}, 크기: {} bytes", session.objectName, session.received);
+    }
+
+    private void abort(String sessionId, Session session) throws IOException {
+        sessions.remove(sessionId);
+        Files.deleteIfExists(session.part);
+    }
+
+    private Session find(String sessionId) throws NoSuchFileException {
+        Session session = sessions.get(sessionId);
+        if (session == null || session.expiresAt.isBefore(Instant.now())) {
+            throw new NoSuchFileException("업로드 세션: " + sessionId);
+        }
+        return session;
+    }
+
+    private void purgeExpired() {
+        Instant now = Instant.now();
+        sessions.forEach((sessionId, session) -> {
+            if (session.expiresAt.isBefore(now) && sessions.remove(sessionId, session)) {
+                try {
+                    Files.deleteIfExists(session.part);
+                } catch (IOException e) {
+                    log.warn("⚠️ 만료된 업로드 세션 파일 삭제 실패: {}", session.part, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 업로드 진행 상태
+     *
+     * @param receivedBytes 지금까지 받은 바이트 수
+     * @param complete      객체 게시 완료 여부
+     * @param objectName    대상 객체 이름
+     * @param contentType   대상 Content-Type
+     */
+    public record Progress(
+            long receivedBytes,
+            boolean complete,
+            String objectName,
+            String contentType
+    ) {
+    }
+
+    private static final class Session {
+        private final String objectName;
+        private final String contentType;
+        private final long maxBytes;
+        private final Path part;
+        private final Instant expiresAt;
+        private long received;
+        private boolean complete;
+
+        private Session(String objectName, String contentType, long maxBytes, Path part, Instant expiresAt) {
+            this.objectName = objectName;
+            this.contentType = contentType;
+            this.maxBytes = maxBytes;
+            this.part = part;
+            this.expiresAt = expiresAt;
+        }
+
+        private Progress progress() {
+            return new Progress(received, complete, objectName, contentType);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package server.veo.backend;
+
+/**
+ * 객체 메타데이터 (내용은 읽지 않음)
+ *
+ * @param sizeBytes   객체 크기
+ * @param contentType 저장된 Content-Type
+ */
+public record ObjectStat(
+        long sizeBytes,
+        String contentType
+) {
+}
@@ -0,0 +1,59 @@
+package server.veo.backend;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 객체 저장소
+ *
+ * 설정된 버킷 하나를 대상으로 하며, 객체는 버킷 내 경로(objectName)로 식별합니다.
+ * 운영에서는 GCS를, 부하 테스트(loadtest 프로파일)에서는 로컬 파일 시스템 구현을 사용합니다.
+ */
+public interface ObjectStore {
+
+    /**
+     * 객체 URI (gs://{버킷}/{objectName})
+     */
+    String uriOf(String objectName);
+
+    /**
+     * URI가 이 저장소 버킷의 객체를 가리키면 objectName 반환
+     */
+    default Optional<String> objectNameOf(String uri) {
+        String prefix = uriOf("");
+        if (uri == null || !uri.startsWith(prefix) || uri.length() == prefix.length()) {
+            return Optional.empty();
+        }
+        return Optional.of(uri.substring(prefix.length()));
+    }
+
+    /**
+     * 객체 존재 여부
+     */
+    boolean exists(String objectName) throws IOException;
+
+    /**
+     * 객체가 없을 때만 스트리밍 저장 - 새로 저장했으면 true, 이미 있었으면 false
+     */
+    boolean putIfAbsent(String objectName, String contentType, InputStream content) throws IOException;
+
+    /**
+     * 객체 읽기 채널 - 객체가 없으면 NoSuchFileException
+     */
+    ReadableByteChannel openReader(String objectName) throws IOException;
+
+    /**
+     * 객체 크기와 Content-Type 조회 - 객체가 없으면 empty
+     */
+    Optional<ObjectStat> stat(String objectName) throws IOException;
+
+    /**
+     * 클라이언트가 서버를 거치지 않고 객체를 직접 올리는 서명된 재개 가능 업로드 URL 발급
+     * ✅ Content-Type과 최대 크기가 서명에 포함되며, 이미 있는 객체는 덮어쓰지 않음
+     */
+    SignedUploadUrl signResumableUpload(String objectName, String contentType, long maxBytes, Duration ttl)
+            throws IOException;
+}
@@ -0,0 +1,23 @@
+package server.veo.backend;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 서명된 직접 업로드 URL
+ *
+ * 클라이언트는 headers를 그대로 붙여 url에 method로 요청하여 재개 가능 업로드 세션을 시작하고,
+ * 응답의 Location(세션 URI)에 이미지 바이트를 PUT합니다. 서명에 포함된 헤더가 다르면 저장소가 거부합니다.
+ *
+ * @param url       업로드 시작 URL
+ * @param method    업로드 시작 HTTP 메서드
+ * @param headers   업로드 시작 요청에 반드시 포함해야 하는 헤더
+ * @param expiresAt 서명 만료 시각
+ */
+public record SignedUploadUrl(
+        String url,
+        String method,
+        Map<String, String> headers,
+        Instant expiresAt
+) {
+}
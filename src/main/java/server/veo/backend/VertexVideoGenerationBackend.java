@@ -0,0 +1,39 @@
+package server.veo.backend;
+
+import com.google.genai.Client;
+import com.google.genai.types.GenerateVideosConfig;
+import com.google.genai.types.GenerateVideosOperation;
+import com.google.genai.types.Image;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Vertex AI(Google Gen AI SDK) 기반 비디오 생성 백엔드
+ */
+@Component
+@Profile("!loadtest")
+@RequiredArgsConstructor
+public class VertexVideoGenerationBackend implements VideoGenerationBackend {
+
+    private final Client genAiClient;
+
+    @Override
+    public GenerateVideosOperation generateVideos(String model, String prompt, Image image,
+                                                  GenerateVideosConfig config) {
+        return genAiClient.models.generateVideos(model, prompt, image, config);
+    }
+
+    @Override
+    public GenerateVideosOperation getVideosOperation(GenerateVideosOperation operation) {
+        return genAiClient.operations.getVideosOperation(operation, null);
+    }
+
+    /**
+     * Gen AI SDK(1.10)에는 비디오 작업 취소 API가 없음 - 원격 작업은 끝까지 실행되며 결과만 버려짐
+     */
+    @Override
+    public boolean cancelVideosOperation(GenerateVideosOperation operation) {
+        return false;
+    }
+}
@@ -0,0 +1,31 @@
+package server.veo.backend;
+
+import com.google.genai.types.GenerateVideosConfig;
+import com.google.genai.types.GenerateVideosOperation;
+import com.google.genai.types.Image;
+
+/**
+ * 비디오 생성 백엔드
+ *
+ * Veo 작업 제출/상태 조회를 추상화하여, 운영에서는 Vertex AI를 사용하고
+ * 부하 테스트(loadtest 프로파일)에서는 Vertex 할당량을 쓰지 않는 프로세스 내 가짜 구현을 사용합니다.
+ */
+public interface VideoGenerationBackend {
+
+    /**
+     * 비디오 생성 작업 제출 - 완료되지 않은 작업(operation)을 즉시 반환
+     */
+    GenerateVideosOperation generateVideos(String model, String prompt, Image image, GenerateVideosConfig config);
+
+    /**
+     * 작업 상태 조회 - 최신 상태의 작업 반환
+     */
+    GenerateVideosOperation getVideosOperation(GenerateVideosOperation operation);
+
+    /**
+     * 작업 취소 요청 (best-effort) - 원격 취소를 지원하지 않으면 false
+     */
+    default boolean cancelVideosOperation(GenerateVideosOperation operation) {
+        return false;
+    }
+}
@@ -22,6 +22,14 @@ public record GeneratedVideo(
      * 기본 비디오 정보로 생성하는 정적 팩토리 메서드
      */
     public static GeneratedVideo create(String videoId, String downloadUrl, Integer durationSeconds) {
+        return create(videoId, downloadUrl, durationSeconds, null);
+    }
+
+    /**
+     * 파일 크기를 알고 있는 비디오 정보로 생성 (스트리밍 저장 시 계산된 크기)
+     */
+    public static GeneratedVideo create(String videoId, String downloadUrl, Integer durationSeconds,
+                                        Long fileSizeBytes) {
         return GeneratedVideo.builder()
                 .id(videoId)
                 .url(downloadUrl)
@@ -29,8 +37,24 @@ public record GeneratedVideo(
                 .createdAt(LocalDateTime.now())
                 .mimeType("video/mp4")
                 .durationSeconds(durationSeconds)
-                .fileSizeBytes(null)
+                .fileSizeBytes(fileSizeBytes)
                 .thumbnailUrl(null)
                 .build();
     }
-} 
+
+    /**
+     * 추출한 메타데이터로 URL, 크기, 재생 길이, 썸네일 갱신 - 추출하지 못한 값은 기존 값 유지
+     */
+    public GeneratedVideo withMetadata(VideoMetadata metadata) {
+        return GeneratedVideo.builder()
+                .id(id)
+                .url(metadata.url() != null ? metadata.url() : url)
+                .status(status)
+                .createdAt(createdAt)
+                .mimeType(mimeType)
+                .durationSeconds(metadata.durationSeconds() != null ? metadata.durationSeconds() : durationSeconds)
+                .fileSizeBytes(metadata.fileSizeBytes() != null ? metadata.fileSizeBytes() : fileSizeBytes)
+                .thumbnailUrl(metadata.thumbnailUrl() != null ? metadata.thumbnailUrl() : thumbnailUrl)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package server.veo.dto;
+
+import java.util.Map;
+
+/**
+ * 이미지 슬롯별 직접 업로드 정보
+ *
+ * @param slot       슬롯 순번 (0부터)
+ * @param objectName 업로드 완료 후 생성 요청에 넘길 객체 참조
+ * @param uploadUrl  재개 가능 업로드 세션을 시작하는 서명된 URL
+ * @param method     업로드 시작 HTTP 메서드
+ * @param headers    업로드 시작 요청에 그대로 붙여야 하는 헤더
+ */
+public record ImageUploadSlot(
+        int slot,
+        String objectName,
+        String uploadUrl,
+        String method,
+        Map<String, String> headers
+) {
+}
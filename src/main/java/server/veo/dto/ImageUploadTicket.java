@@ -0,0 +1,17 @@
+package server.veo.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 이미지 직접 업로드 URL 발급 응답 DTO
+ *
+ * 클라이언트는 슬롯마다 uploadUrl로 세션을 시작해 이미지를 올린 뒤,
+ * 슬롯들의 objectName을 생성 요청(POST /api/v1/veo/generate, application/json)에 넘깁니다.
+ */
+public record ImageUploadTicket(
+        String uploadId,
+        LocalDateTime expiresAt,
+        List<ImageUploadSlot> slots
+) {
+}
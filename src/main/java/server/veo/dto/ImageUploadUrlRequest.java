@@ -0,0 +1,17 @@
+package server.veo.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 이미지 직접 업로드 URL 발급 요청 DTO
+ *
+ * 이미지 슬롯마다 올릴 이미지의 Content-Type을 순서대로 담습니다. (슬롯 순서가 생성 시 이미지 순서)
+ */
+public record ImageUploadUrlRequest(
+        @NotEmpty(message = "업로드할 이미지의 Content-Type을 입력해주세요")
+        @Size(max = 10, message = "이미지는 최대 10개까지 가능합니다")
+        List<String> contentTypes
+) {
+}
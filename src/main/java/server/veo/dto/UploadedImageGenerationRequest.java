@@ -0,0 +1,17 @@
+package server.veo.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 직접 업로드한 이미지로 비디오 생성 요청 DTO
+ *
+ * ✅ 이미지 바이트 대신 업로드 URL 발급 시 받은 객체 참조(objectName)를 순서대로 전달
+ */
+public record UploadedImageGenerationRequest(
+        @NotEmpty(message = "업로드한 이미지 객체를 입력해주세요")
+        @Size(max = 10, message = "이미지는 최대 10개까지 가능합니다")
+        List<String> objectNames
+) {
+}
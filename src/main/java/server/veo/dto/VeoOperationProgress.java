@@ -0,0 +1,17 @@
+package server.veo.dto;
+
+/**
+ * 비디오 생성 작업 진행 상황 (SSE progress 이벤트)
+ *
+ * 진행률과 남은 시간은 최근 완료 시간 분포(중앙값, p95)로 추정한 값입니다.
+ * 완료 시간이 p95를 넘긴 작업은 남은 시간을 추정할 수 없으므로 null입니다.
+ */
+public record VeoOperationProgress(
+        String operationId,
+        VideoGenerationStatus status,
+        Integer queuePosition,
+        int progressPercent,
+        long elapsedSeconds,
+        Long estimatedRemainingSeconds
+) {
+}
@@ -0,0 +1,20 @@
+package server.veo.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비디오 생성 작업 상태 전이 기록
+ *
+ * 작업 레지스트리에 시간순으로 쌓이며, 어느 노드에서 어떤 상태로 바뀌었는지 추적하는 데 사용합니다.
+ */
+public record VeoOperationTransition(
+        VideoGenerationStatus status,
+        String detail,
+        String nodeId,
+        LocalDateTime at
+) {
+
+    public static VeoOperationTransition of(VideoGenerationStatus status, String detail, String nodeId) {
+        return new VeoOperationTransition(status, detail, nodeId, LocalDateTime.now());
+    }
+}
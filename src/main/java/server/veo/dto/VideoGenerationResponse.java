@@ -1,5 +1,6 @@
 package server.veo.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -16,10 +17,27 @@ public record VideoGenerationResponse(
         GeneratedVideo video,
         String errorMessage,
         LocalDateTime createdAt,
-        LocalDateTime completedAt
+        LocalDateTime completedAt,
+        Integer queuePosition
 
 ) {
 
+    /**
+     * 접수된(진행 중인) 작업 응답 생성
+     */
+    public static VideoGenerationResponse inProgress(String operationId, String prompt) {
+        return new VideoGenerationResponse(
+                operationId,
+                VideoGenerationStatus.IN_PROGRESS,
+                prompt,
+                null,
+                null,
+                LocalDateTime.now(),
+                null,
+                null
+        );
+    }
+
     /**
      * 완료된 작업 응답 생성
      */
@@ -32,7 +50,112 @@ public record VideoGenerationResponse(
                 video, // ✅ null 안전성 보장
                 null,
                 LocalDateTime.now(),
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                null
+        );
+    }
+
+    /**
+     * 접수된 작업을 대기열 대기 상태로 전환 (접수 시각 유지)
+     */
+    public VideoGenerationResponse queued(int position) {
+        return new VideoGenerationResponse(
+                operationId,
+                VideoGenerationStatus.QUEUED,
+                promt,
+                null,
+                null,
+                createdAt,
+                null,
+                position
+        );
+    }
+
+    /**
+     * 대기 중인 작업을 진행 상태로 전환 (접수 시각 유지)
+     */
+    public VideoGenerationResponse start() {
+        return new VideoGenerationResponse(
+                operationId,
+                VideoGenerationStatus.IN_PROGRESS,
+                promt,
+                null,
+                null,
+                createdAt,
+                null,
+                null
+        );
+    }
+
+    /**
+     * 대기열 순번만 최신 값으로 갱신
+     */
+    public VideoGenerationResponse withQueuePosition(int position) {
+        return new VideoGenerationResponse(
+                operationId,
+                status,
+                promt,
+                video,
+                errorMessage,
+                createdAt,
+                completedAt,
+                position
+        );
+    }
+
+    /**
+     * 진행 중인 작업을 완료 상태로 전환 (접수 시각 유지)
+     */
+    public VideoGenerationResponse complete(GeneratedVideo video) {
+        return new VideoGenerationResponse(
+                operationId,
+                VideoGenerationStatus.COMPLETED,
+                promt,
+                video,
+                null,
+                createdAt,
+                LocalDateTime.now(),
+                null
         );
     }
+
+    /**
+     * 완료된 작업의 비디오 정보만 갱신 (메타데이터 추출 결과 반영)
+     */
+    public VideoGenerationResponse withVideo(GeneratedVideo video) {
+        return new VideoGenerationResponse(
+                operationId,
+                status,
+                promt,
+                video,
+                errorMessage,
+                createdAt,
+                completedAt,
+                queuePosition
+        );
+    }
+
+    /**
+     * 진행 중인 작업을 실패 상태로 전환 (접수 시각 유지)
+     */
+    public VideoGenerationResponse fail(String errorMessage) {
+        return new VideoGenerationResponse(
+                operationId,
+                VideoGenerationStatus.FAILED,
+                promt,
+                null,
+                errorMessage,
+                createdAt,
+                LocalDateTime.now(),
+                null
+        );
+    }
+
+    /**
+     * 작업이 종료(완료 또는 실패)되었는지 여부
+     */
+    @JsonIgnore
+    public boolean isFinished() {
+        return status == VideoGenerationStatus.COMPLETED || status == VideoGenerationStatus.FAILED;
+    }
 } 
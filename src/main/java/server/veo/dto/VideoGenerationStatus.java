@@ -4,6 +4,11 @@ package server.veo.dto;
  * 비디오 생성 작업의 상태를 나타내는 열거형
  */
 public enum VideoGenerationStatus {
+    /**
+     * 동시 실행 한도로 대기열에서 기다리는 상태
+     */
+    QUEUED("대기열에서 대기 중"),
+
     /**
      * 작업이 진행 중인 상태
      */
@@ -0,0 +1,17 @@
+package server.veo.dto;
+
+/**
+ * 비디오 파일에서 추출한 메타데이터
+ *
+ * @param fileSizeBytes   파일 크기 (bytes)
+ * @param durationSeconds MP4 mvhd 기준 재생 길이 (초, 반올림 - 알 수 없으면 null)
+ * @param thumbnailUrl    포스터 프레임 이미지 URL (추출하지 못했으면 null)
+ * @param url             로컬 캐시에 게시된 내용 기반 다운로드 URL (immutable, 알 수 없으면 null)
+ */
+public record VideoMetadata(
+        Long fileSizeBytes,
+        Integer durationSeconds,
+        String thumbnailUrl,
+        String url
+) {
+}
@@ -0,0 +1,144 @@
+package server.veo.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원별 공정 분배 대기열 (Deficit Round-Robin)
+ *
+ * 회원마다 별도의 FIFO 대기열을 두고, 대기 중인 회원들을 차례로 돌며 가중치만큼 꺼냅니다.
+ * 한 회원이 한꺼번에 여러 건을 넣어도 다른 회원의 요청은 한 바퀴 안에 차례가 오므로,
+ * 단일 회원의 몰아치기가 다른 회원의 대기 시간을 늘리지 않습니다.
+ * 모든 작업의 비용은 1로 보며, 가중치 2인 회원은 한 바퀴에 2건씩 꺼내집니다.
+ * ✅ 동기화는 호출 측(VeoAdmissionController)의 모니터에 맡김
+ */
+final class FairShareQueue<T> {
+
+    // 대기 중인 작업이 있는 회원만 순회 순서대로 보관 (맨 앞이 현재 차례)
+    private final Deque<MemberQueue<T>> rotation = new ArrayDeque<>();
+    private final Map<String, MemberQueue<T>> members = new HashMap<>();
+    private int size;
+
+    /**
+     * 회원 대기열 끝에 추가 - 처음 대기하는 회원은 순회 순서의 맨 뒤에 들어감
+     */
+    void add(String memberKey, int weight, T item) {
+        MemberQueue<T> queue = members.get(memberKey);
+        if (queue == null) {
+            queue = new MemberQueue<>(memberKey);
+            members.put(memberKey, queue);
+            rotation.addLast(queue);
+        }
+        queue.weight = Math.max(1, weight);
+        queue.items.addLast(item);
+        size++;
+    }
+
+    /**
+     * 다음 차례의 작업 꺼내기 - 비어 있으면 null
+     */
+    T poll() {
+        while (!rotation.isEmpty()) {
+            MemberQueue<T> queue = rotation.peekFirst();
+            if (!queue.inTurn) {
+                queue.deficit += queue.weight;
+                queue.inTurn = true;
+            }
+            if (queue.deficit >= 1) {
+                T item = queue.items.pollFirst();
+                queue.deficit--;
+                size--;
+                if (queue.items.isEmpty()) {
+                    // 대기열이 빈 회원은 남은 몫을 이월하지 않음 (쉬다 돌아온 회원이 몰아서 가져가지 않도록)
+                    rotation.pollFirst();
+                    members.remove(queue.memberKey);
+                }
+                return item;
+            }
+            // 이번 차례 몫을 다 씀 - 순회 순서 맨 뒤로
+            queue.inTurn = false;
+            rotation.pollFirst();
+            rotation.addLast(queue);
+        }
+        return null;
+    }
+
+    /**
+     * 대기 중인 작업 제거 (취소)
+     */
+    boolean remove(String memberKey, T item) {
+        MemberQueue<T> queue = members.get(memberKey);
+        if (queue == null || !queue.items.remove(item)) {
+            return false;
+        }
+        size--;
+        if (queue.items.isEmpty()) {
+            rotation.remove(queue);
+            members.remove(memberKey);
+        }
+        return true;
+    }
+
+    /**
+     * 지금 상태에서 꺼내질 순서 - 현재 상태를 복사해 poll을 그대로 재현 (대기열 순번 계산용)
+     */
+    List<T> scheduledOrder() {
+        FairShareQueue<T> copy = new FairShareQueue<>();
+        for (MemberQueue<T> queue : rotation) {
+            MemberQueue<T> cloned = new MemberQueue<>(queue.memberKey);
+            cloned.weight = queue.weight;
+            cloned.deficit = queue.deficit;
+            cloned.inTurn = queue.inTurn;
+            cloned.items.addAll(queue.items);
+            copy.rotation.addLast(cloned);
+            copy.members.put(cloned.memberKey, cloned);
+        }
+        copy.size = size;
+
+        List<T> order = new ArrayList<>(size);
+        T next;
+        while ((next = copy.poll()) != null) {
+            order.add(next);
+        }
+        return order;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 회원이 대기열에 넣어 둔 작업 수
+     */
+    int sizeOf(String memberKey) {
+        MemberQueue<T> queue = members.get(memberKey);
+        return queue != null ? queue.items.size() : 0;
+    }
+
+    /**
+     * 대기 중인 작업이 있는 회원 수
+     */
+    int memberCount() {
+        return members.size();
+    }
+
+    private static final class MemberQueue<T> {
+        private final String memberKey;
+        private final Deque<T> items = new ArrayDeque<>();
+        private int weight = 1;
+        private int deficit;
+        private boolean inTurn;
+
+        private MemberQueue(String memberKey) {
+            this.memberKey = memberKey;
+        }
+    }
+}
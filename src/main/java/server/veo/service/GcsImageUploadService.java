@@ -1,37 +1,55 @@
 package server.veo.service;
 
-import com.google.cloud.storage.BlobId;
-import com.google.cloud.storage.BlobInfo;
-import com.google.cloud.storage.Storage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import server.veo.backend.ObjectStore;
+import server.veo.util.DigestingChannel;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
+import java.io.InputStream;
+import java.util.Arrays;
 import java.util.List;
-import java.util.UUID;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Google Cloud Storage 이미지 업로드 서비스
  * MultipartFile을 GCS에 업로드하고 GCS URI 반환
+ * ✅ 요청 내 이미지들은 imageUploadExecutor에서 병렬 업로드 (요청당 동시 업로드 수 제한)
+ * ✅ 이미지 전체를 힙에 올리지 않고 InputStream → ObjectStore(GCS WriteChannel)로 스트리밍
+ * ✅ veo-images/sha256/{해시} 형태의 콘텐츠 주소로 저장하여 재시도 시 같은 이미지를 다시 올리지 않음
+ * ✅ 업로드 전 ImagePreprocessor로 방향 보정/축소/재인코딩 - 업로드 레인에서 이미지별로 병렬 처리
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GcsImageUploadService {
 
-    private final Storage gcsStorage;
+    private static final String CONTENT_ADDRESSED_PREFIX = "veo-images/sha256/";
 
-    @Value("${google.cloud.storage.bucket}")
-    private String bucketName;
+    private final ObjectStore objectStore;
+    private final TransferBufferPool transferBufferPool;
+    private final ImageHashIndex imageHashIndex;
+    private final ImagePreprocessor imagePreprocessor;
+
+    @Qualifier("imageUploadExecutor")
+    private final Executor imageUploadExecutor;
+
+    @Value("${veo.upload.parallelism:4}")
+    private int uploadParallelism;
 
     /**
-     * 여러 이미지 파일을 GCS에 업로드하고 GCS URI 목록 반환
+     * 여러 이미지 파일을 GCS에 병렬 업로드하고 GCS URI 목록 반환
+     * ✅ 결과는 입력 인덱스 순서를 유지하며, 실패한 파일은 결과에서만 제외됨
      */
     public List<String> uploadImages(MultipartFile[] imageFiles) {
         if (imageFiles == null || imageFiles.length == 0) {
@@ -39,68 +57,121 @@ public class GcsImageUploadService {
             return List.of();
         }
 
-        List<String> gcsUris = new ArrayList<>();
-        
-        for (int i = 0; i < imageFiles.length; i++) {
-            MultipartFile imageFile = imageFiles[i];
-            
-            if (imageFile == null || imageFile.isEmpty()) {
-                log.warn("⚠️ 빈 이미지 파일 스킵 - 인덱스: {}", i);
-                continue;
-            }
-            
-            try {
-                String gcsUri = uploadSingleImage(imageFile, i);
-                gcsUris.add(gcsUri);
-                log.info("✅ 이미지 업로드 성공 - 파일명: {}, GCS URI: {}", 
-                        imageFile.getOriginalFilename(), gcsUri);
-                
-            } catch (Exception e) {
-                log.error("❌ 이미지 업로드 실패 - 파일명: {}, 오류: {}", 
-                        imageFile.getOriginalFilename(), e.getMessage(), e);
-                // 하나 실패해도 다른 이미지들은 계속 처리
-            }
+        // 인덱스별 결과 슬롯 - 완료 순서와 무관하게 입력 순서 유지
+        String[] gcsUriSlots = new String[imageFiles.length];
+        AtomicInteger nextIndex = new AtomicInteger();
+        AtomicLong bytesSaved = new AtomicLong();
+
+        // 요청당 최대 uploadParallelism개의 업로드 레인이 남은 인덱스를 가져가 처리
+        int lanes = Math.max(1, Math.min(uploadParallelism, imageFiles.length));
+        CompletableFuture<?>[] uploadLanes = new CompletableFuture<?>[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            uploadLanes[lane] = CompletableFuture.runAsync(() -> {
+                int index;
+                while ((index = nextIndex.getAndIncrement()) < imageFiles.length) {
+                    gcsUriSlots[index] = uploadAt(imageFiles[index], index, bytesSaved);
+                }
+            }, imageUploadExecutor);
         }
+        CompletableFuture.allOf(uploadLanes).join();
 
-        log.info("📷 전체 이미지 업로드 완료 - 성공: {}/{}", gcsUris.size(), imageFiles.length);
+        List<String> gcsUris = Arrays.stream(gcsUriSlots)
+                .filter(Objects::nonNull)
+                .toList();
+
+        if (imagePreprocessor.isEnabled()) {
+            imagePreprocessor.recordBytesSaved(bytesSaved.get());
+        }
+        log.info("📷 전체 이미지 업로드 완료 - 성공: {}/{}, 전처리로 줄인 업로드: {} bytes",
+                gcsUris.size(), imageFiles.length, bytesSaved.get());
         return gcsUris;
     }
 
+    /**
+     * 인덱스 위치의 이미지 업로드 - 실패 시 null 반환 (다른 이미지 업로드에 영향 없음)
+     */
+    private String uploadAt(MultipartFile imageFile, int index, AtomicLong bytesSaved) {
+        if (imageFile == null || imageFile.isEmpty()) {
+            log.warn("⚠️ 빈 이미지 파일 스킵 - 인덱스: {}", index);
+            return null;
+        }
+
+        try {
+            String gcsUri = uploadSingleImage(imageFile, index, bytesSaved);
+            log.info("✅ 이미지 업로드 성공 - 파일명: {}, GCS URI: {}",
+                    imageFile.getOriginalFilename(), gcsUri);
+            return gcsUri;
+
+        } catch (Exception e) {
+            log.error("❌ 이미지 업로드 실패 - 파일명: {}, 오류: {}",
+                    imageFile.getOriginalFilename(), e.getMessage(), e);
+            // 하나 실패해도 다른 이미지들은 계속 처리
+            return null;
+        }
+    }
+
     /**
      * 단일 이미지 파일을 GCS에 업로드
+     * ✅ 전처리 결과가 있으면 축소된 JPEG를, 없으면 원본 스트림을 그대로 ObjectStore에 전달
+     * ✅ 업로드할 콘텐츠의 SHA-256을 객체 이름으로 사용하여, 같은 이미지는 업로드 없이 기존 URI 재사용
+     * ✅ 로컬 인덱스는 원본 해시(+전처리 설정)로 조회하므로 같은 원본은 다시 디코딩하지 않음
      */
-    private String uploadSingleImage(MultipartFile imageFile, int index) throws IOException {
-        // 고유한 파일명 생성
+    private String uploadSingleImage(MultipartFile imageFile, int index, AtomicLong bytesSaved) throws IOException {
         String originalFilename = imageFile.getOriginalFilename();
-        String fileExtension = getFileExtension(originalFilename);
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String uniqueFilename = String.format("veo_image_%s_%d_%s%s", 
-                timestamp, index, UUID.randomUUID().toString().substring(0, 8), fileExtension);
 
-        // GCS 경로 설정
-        String gcsPath = "veo-images/" + uniqueFilename;
+        // 원본 해시 계산 - 요청 처리 중 로컬에 보관된 multipart 데이터를 고정 버퍼로 한 번 읽음
+        DigestingChannel hashChannel = DigestingChannel.hashOnly();
+        try (InputStream inputStream = imageFile.getInputStream()) {
+            transferBufferPool.transfer(inputStream, hashChannel);
+        }
+        String originalHash = hashChannel.sha256Hex();
+        String indexKey = imagePreprocessor.isEnabled() ? imagePreprocessor.variantOf(originalHash) : originalHash;
+
+        // 1. 로컬 인덱스 확인 (전처리, GCS 호출 없음)
+        Optional<String> indexedUri = imageHashIndex.find(indexKey);
+        if (indexedUri.isPresent()) {
+            log.info("♻️ 중복 이미지 재사용 (로컬 인덱스) - 인덱스: {}, GCS URI: {}", index, indexedUri.get());
+            return indexedUri.get();
+        }
 
-        try {
-            // BlobId 및 BlobInfo 생성
-            BlobId blobId = BlobId.of(bucketName, gcsPath);
-            BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
-                    .setContentType(imageFile.getContentType())
-                    .build();
-
-            // GCS에 업로드
-            gcsStorage.create(blobInfo, imageFile.getBytes());
-            
-            // GCS URI 반환
-            String gcsUri = String.format("gs://%s/%s", bucketName, gcsPath);
-            
-            log.debug("🔗 GCS 업로드 완료 - 원본: {}, GCS 경로: {}", originalFilename, gcsUri);
+        // 2. 전처리 - 원본을 그대로 쓰는 경우 원본 해시/확장자 사용
+        Optional<ImagePreprocessor.PreparedImage> prepared = imagePreprocessor.prepare(imageFile);
+        String contentHash = prepared
+                .map(image -> DigestingChannel.sha256Hex(image.content()))
+                .orElse(originalHash);
+        String extension = prepared
+                .map(ImagePreprocessor.PreparedImage::extension)
+                .orElseGet(() -> getFileExtension(originalFilename));
+        String contentType = prepared
+                .map(ImagePreprocessor.PreparedImage::contentType)
+                .orElseGet(imageFile::getContentType);
+
+        // 콘텐츠 주소 기반 GCS 경로 설정
+        String gcsPath = CONTENT_ADDRESSED_PREFIX + contentHash + extension;
+        String gcsUri = objectStore.uriOf(gcsPath);
+
+        // 3. 이미 업로드된 객체인지 확인
+        if (objectStore.exists(gcsPath)) {
+            imageHashIndex.put(indexKey, gcsUri);
+            log.info("♻️ 중복 이미지 재사용 (GCS) - 인덱스: {}, GCS URI: {}", index, gcsUri);
             return gcsUri;
-            
-        } catch (IOException e) {
-            log.error("❌ GCS 업로드 실패 - 파일: {}, 경로: {}, 오류: {}", 
+        }
+
+        // 4. GCS에 업로드 - 다른 요청이 같은 콘텐츠를 먼저 올렸다면 그 객체를 그대로 사용
+        try (InputStream inputStream = prepared.isPresent()
+                ? new ByteArrayInputStream(prepared.get().content())
+                : imageFile.getInputStream()) {
+            boolean created = objectStore.putIfAbsent(gcsPath, contentType, inputStream);
+            log.debug("🔗 GCS 업로드 완료 - 원본: {}, GCS 경로: {}, 신규 업로드: {}", originalFilename, gcsUri, created);
+        } catch (IOException | RuntimeException e) {
+            log.error("❌ GCS 업로드 실패 - 파일: {}, 경로: {}, 오류: {}",
                     originalFilename, gcsPath, e.getMessage());
             throw e;
         }
+
+        prepared.ifPresent(image -> bytesSaved.addAndGet(image.bytesSaved()));
+        imageHashIndex.put(indexKey, gcsUri);
+        return gcsUri;
     }
 
     /**
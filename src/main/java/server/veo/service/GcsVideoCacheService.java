@@ -0,0 +1,169 @@
+package server.veo.service;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import server.veo.backend.ObjectStore;
+
+/**
+ * GCS 비디오 read-through 로컬 캐시
+ *
+ * Veo가 GCS에 저장한 비디오를 /api/v1/videos/gcs/{id} 로 프록시합니다.
+ * 첫 요청은 GCS에서 받아 VideoStorageService에 내용 기반 파일명(게시되는 내용의 SHA-256)으로 저장하고
+ * (MP4 fast-start 후처리 포함), 프록시 요청은 그 파일의 immutable URL(/api/v1/videos/{sha256}.mp4)로 보냅니다.
+ * 원본은 moov가 파일 끝에 있을 수 있으므로 받는 중인 원본 바이트를 클라이언트로 흘려보내지 않습니다.
+ * 객체 → 파일명 대응은 메모리에만 두며, 재시작 후 처음 요청되면 다시 받아도 같은 내용의 파일을 재사용합니다.
+ * 같은 객체에 대한 동시 첫 요청은 하나의 GCS 다운로드로 합쳐지며, 나머지는 다운로드가 끝나면 로컬에서 응답합니다.
+ */
+@Service
+@Slf4j
+public class GcsVideoCacheService {
+
+    private final ObjectStore objectStore;
+    private final VideoStorageService videoStorageService;
+    private final String objectPrefix;
+    private final long fetchTimeoutSeconds;
+    private final String publicBaseUrl;
+
+    // 객체 이름 → 게시된 내용 기반 파일명
+    private final Map<String, String> cachedFileNames = new ConcurrentHashMap<>();
+    // 객체 이름 → 진행 중인 GCS 다운로드
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    public GcsVideoCacheService(
+            ObjectStore objectStore,
+            VideoStorageService videoStorageService,
+            @Value("${veo.gcs-proxy.object-prefix:videos/}") String objectPrefix,
+            @Value("${veo.gcs-proxy.fetch-timeout-seconds:120}") long fetchTimeoutSeconds,
+            @Value("${veo.public-base-url:}") String publicBaseUrl
+    ) {
+        this.objectStore = objectStore;
+        this.videoStorageService = videoStorageService;
+        this.objectPrefix = objectPrefix;
+        this.fetchTimeoutSeconds = fetchTimeoutSeconds;
+        this.publicBaseUrl = StringUtils.hasText(publicBaseUrl) ? publicBaseUrl.replaceAll("/+$", "") : null;
+    }
+
+    /**
+     * GCS 비디오 URI의 프록시 URL - 클라이언트가 접근하는 공개 주소(veo.public-base-url) 기준
+     * ✅ 공개 주소가 설정되지 않았거나 이 저장소 버킷의 비디오가 아니면 GCS 링크로 대체
+     */
+    public String proxyUrlOf(String gcsUri) {
+        return videoIdOf(gcsUri)
+                .filter(id -> publicBaseUrl != null)
+                .map(id -> publicBaseUrl + "/api/v1/videos/gcs/" + id)
+                .orElseGet(() -> gcsUri.replace("gs://", "https://storage.cloud.google.com/"));
+    }
+
+    /**
+     * GCS 비디오 URI의 프록시 ID (객체 이름의 base64url) - 이 저장소 버킷의 비디오가 아니면 empty
+     */
+    public Optional<String> videoIdOf(String gcsUri) {
+        return objectStore.objectNameOf(gcsUri)
+                .filter(this::isProxyable)
+                .map(objectName -> Base64.getUrlEncoder().withoutPadding()
+                        .encodeToString(objectName.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 프록시 ID → GCS 객체 이름 - 형식이 잘못됐거나 비디오 경로 밖의 객체면 empty
+     */
+    public Optional<String> objectNameOf(String id) {
+        try {
+            String objectName = new String(Base64.getUrlDecoder().decode(id), StandardCharsets.UTF_8);
+            return Optional.of(objectName).filter(this::isProxyable);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 로컬 캐시에 객체 확보 - 이미 있으면 다운로드 없이 파일명만 반환
+     * ✅ 반환 시점에는 fast-start 후처리까지 끝난 파일이 내용 기반 파일명으로 게시되어 있음
+     *
+     * @return 게시된 파일명 ({sha256}.mp4)
+     */
+    public String fetch(String objectName) throws IOException {
+        Optional<String> cached = cachedFileName(objectName);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        CompletableFuture<String> download = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(objectName, download);
+        if (existing != null) {
+            log.info("⏳ 진행 중인 GCS 비디오 다운로드 대기 - 객체: {}", objectName);
+            return awaitDownload(existing, objectName);
+        }
+
+        try {
+            // 다른 다운로드가 putIfAbsent 직전에 끝났을 수 있음
+            cached = cachedFileName(objectName);
+            if (cached.isPresent()) {
+                download.complete(cached.get());
+                return cached.get();
+            }
+
+            try (ReadableByteChannel source = objectStore.openReader(objectName)) {
+                log.info("📥 GCS 비디오 캐시 적재 시작 - 객체: {}", objectName);
+                String fileName = videoStorageService.saveVideo(source, "video/mp4").fileName();
+                cachedFileNames.put(objectName, fileName);
+                download.complete(fileName);
+                return fileName;
+            }
+        } catch (IOException | RuntimeException e) {
+            download.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(objectName, download);
+        }
+    }
+
+    /**
+     * 객체가 게시된 파일명 - 용량 정리로 파일이 삭제되었으면 대응도 버리고 empty
+     */
+    private Optional<String> cachedFileName(String objectName) {
+        String fileName = cachedFileNames.get(objectName);
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        if (!videoStorageService.videoFileExists(fileName)) {
+            cachedFileNames.remove(objectName, fileName);
+            return Optional.empty();
+        }
+        return Optional.of(fileName);
+    }
+
+    private String awaitDownload(CompletableFuture<String> download, String objectName) throws IOException {
+        try {
+            return download.get(fetchTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("GCS 비디오 다운로드 실패: " + objectName, cause);
+        } catch (TimeoutException e) {
+            throw new IOException("GCS 비디오 다운로드 대기 시간 초과: " + objectName, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("GCS 비디오 다운로드 대기 중단: " + objectName, e);
+        }
+    }
+
+    private boolean isProxyable(String objectName) {
+        return objectName.startsWith(objectPrefix) && !objectName.contains("..");
+    }
+}
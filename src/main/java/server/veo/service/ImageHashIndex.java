@@ -0,0 +1,37 @@
+package server.veo.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 콘텐츠 해시 → GCS URI 로컬 인덱스
+ *
+ * 이미 업로드된 이미지는 GCS 존재 확인 없이 바로 재사용하기 위해 사용합니다.
+ * 크기가 제한된 LRU 맵이므로 오래된 항목은 밀려나며, 그 경우 GCS 존재 확인으로 대체됩니다.
+ */
+@Component
+public class ImageHashIndex {
+
+    private final Map<String, String> uriByHash;
+
+    public ImageHashIndex(@Value("${veo.upload.dedup-index-size:10000}") int maxEntries) {
+        this.uriByHash = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public Optional<String> find(String contentHash) {
+        return Optional.ofNullable(uriByHash.get(contentHash));
+    }
+
+    public void put(String contentHash, String gcsUri) {
+        uriByHash.put(contentHash, gcsUri);
+    }
+}
@@ -0,0 +1,238 @@
+package server.veo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Optional;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import server.veo.util.ImageOrientation;
+
+/**
+ * Veo 제출 전 이미지 전처리 (방향 보정, 축소, JPEG 재인코딩)
+ *
+ * 휴대폰 원본 사진(8~12MB)을 그대로 올리면 GCS 업로드와 Veo 입력 처리 시간이 길어지지만,
+ * Veo에는 16:9 영상 해상도 수준의 프레임이면 충분합니다.
+ * 긴 변이 max-edge를 넘지 않도록 줄이고 EXIF 방향을 픽셀에 반영한 뒤 JPEG로 다시 인코딩합니다.
+ * ✅ 디코딩 시 서브샘플링으로 필요한 해상도 근처까지만 읽어 이미지당 힙 사용량 제한
+ * ✅ 디코딩할 수 없는 형식(WebP 등), 이미 한도 안의 똑바른 JPEG, 재인코딩 이득이 없는 경우는 원본을 그대로 사용
+ */
+@Component
+@Slf4j
+public class ImagePreprocessor {
+
+    static final String OUTPUT_CONTENT_TYPE = "image/jpeg";
+    static final String OUTPUT_EXTENSION = ".jpg";
+
+    private final boolean enabled;
+    private final int maxEdge;
+    private final float jpegQuality;
+    private final long maxSourcePixels;
+
+    private final Timer processTimer;
+    private final DistributionSummary bytesSavedPerRequest;
+    private final Counter passthroughCounter;
+
+    public ImagePreprocessor(
+            MeterRegistry meterRegistry,
+            @Value("${veo.image.preprocess.enabled:true}") boolean enabled,
+            @Value("${veo.image.preprocess.max-edge:1920}") int maxEdge,
+            @Value("${veo.image.preprocess.jpeg-quality:0.85}") float jpegQuality,
+            @Value("${veo.image.preprocess.max-source-pixels:100000000}") long maxSourcePixels
+    ) {
+        this.enabled = enabled;
+        this.maxEdge = maxEdge;
+        this.jpegQuality = jpegQuality;
+        this.maxSourcePixels = maxSourcePixels;
+        this.processTimer = Timer.builder("veo.image.preprocess")
+                .description("이미지 전처리(디코딩, 방향 보정, 축소, 재인코딩) 시간")
+                .register(meterRegistry);
+        this.bytesSavedPerRequest = DistributionSummary.builder("veo.image.preprocess.bytes.saved")
+                .description("요청당 전처리로 줄어든 업로드 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.passthroughCounter = Counter.builder("veo.image.preprocess.passthrough")
+                .description("전처리하지 않고 원본을 그대로 업로드한 이미지 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 전처리 설정을 구분하는 키 - 같은 원본이라도 설정이 바뀌면 다른 결과로 취급
+     */
+    public String variantOf(String contentHash) {
+        return contentHash + ":jpeg-" + maxEdge + "-q" + Math.round(jpegQuality * 100);
+    }
+
+    /**
+     * 이미지 전처리 - 원본을 그대로 쓰는 편이 나으면 empty
+     */
+    public Optional<PreparedImage> prepare(MultipartFile imageFile) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            Optional<PreparedImage> prepared = processTimer.recordCallable(() -> process(imageFile));
+            if (prepared.isEmpty()) {
+                passthroughCounter.increment();
+            }
+            return prepared;
+        } catch (Exception e) {
+            log.warn("⚠️ 이미지 전처리 실패 - 원본 업로드, 파일: {}, 오류: {}", imageFile.getOriginalFilename(), e.toString());
+            passthroughCounter.increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 요청 단위로 줄어든 업로드 바이트 수 기록
+     */
+    public void recordBytesSaved(long bytesSaved) {
+        bytesSavedPerRequest.record(Math.max(0, bytesSaved));
+    }
+
+    private Optional<PreparedImage> process(MultipartFile imageFile) throws IOException {
+        int orientation;
+        try (InputStream header = imageFile.getInputStream()) {
+            orientation = ImageOrientation.read(header);
+        }
+
+        BufferedImage decoded;
+        int sourceWidth;
+        int sourceHeight;
+        boolean resized;
+        boolean rotated = orientation != ImageOrientation.NORMAL;
+        try (InputStream content = imageFile.getInputStream();
+             ImageInputStream input = new MemoryCacheImageInputStream(content)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return Optional.empty();
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                sourceWidth = reader.getWidth(0);
+                sourceHeight = reader.getHeight(0);
+                if ((long) sourceWidth * sourceHeight > maxSourcePixels) {
+                    log.warn("⚠️ 원본 해상도가 너무 커서 전처리 생략 - 파일: {}, 크기: {}x{}",
+                            imageFile.getOriginalFilename(), sourceWidth, sourceHeight);
+                    return Optional.empty();
+                }
+
+                // 이미 한도 안의 똑바른 JPEG는 다시 압축하지 않음 (화질 손실만 생기고 이득이 작음)
+                resized = Math.max(sourceWidth, sourceHeight) > maxEdge;
+                if (!resized && !rotated && "jpeg".equalsIgnoreCase(reader.getFormatName())) {
+                    return Optional.empty();
+                }
+
+                // 목표 해상도 이상을 유지하는 범위에서 행/열을 건너뛰며 디코딩 (전체 해상도 버퍼를 만들지 않음)
+                int subsampling = Math.max(1, Math.max(sourceWidth, sourceHeight) / maxEdge);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                decoded = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        byte[] encoded = encodeJpeg(render(decoded, orientation));
+
+        // 축소/방향 보정 없이 형식만 바꾸는 경우(PNG 등) 재인코딩 결과가 더 크면 원본 유지
+        if (!resized && !rotated && encoded.length >= imageFile.getSize()) {
+            return Optional.empty();
+        }
+
+        log.debug("🪄 이미지 전처리 완료 - 파일: {}, {}x{} → 긴 변 {}px, {} → {} bytes",
+                imageFile.getOriginalFilename(), sourceWidth, sourceHeight,
+                Math.min(maxEdge, Math.max(sourceWidth, sourceHeight)), imageFile.getSize(), encoded.length);
+        return Optional.of(new PreparedImage(encoded, OUTPUT_CONTENT_TYPE, OUTPUT_EXTENSION, imageFile.getSize()));
+    }
+
+    /**
+     * 방향 보정과 축소를 한 번의 그리기로 적용 - 투명 영역은 흰색 배경으로 채움
+     */
+    private BufferedImage render(BufferedImage decoded, int orientation) {
+        boolean swap = ImageOrientation.swapsDimensions(orientation);
+        int orientedWidth = swap ? decoded.getHeight() : decoded.getWidth();
+        int orientedHeight = swap ? decoded.getWidth() : decoded.getHeight();
+
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(orientedWidth, orientedHeight));
+        int targetWidth = Math.max(1, (int) Math.round(orientedWidth * scale));
+        int targetHeight = Math.max(1, (int) Math.round(orientedHeight * scale));
+
+        AffineTransform transform = AffineTransform.getScaleInstance(
+                (double) targetWidth / orientedWidth, (double) targetHeight / orientedHeight);
+        transform.concatenate(ImageOrientation.transformOf(orientation, decoded.getWidth(), decoded.getHeight()));
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, targetWidth, targetHeight);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(decoded, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream(256 * 1024);
+        try (MemoryCacheImageOutputStream imageOutput = new MemoryCacheImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * 전처리된 이미지
+     *
+     * @param content       업로드할 바이트 (축소된 JPEG이므로 메모리에 보관)
+     * @param contentType   업로드 Content-Type
+     * @param extension     객체 확장자
+     * @param originalBytes 원본 크기
+     */
+    public record PreparedImage(
+            byte[] content,
+            String contentType,
+            String extension,
+            long originalBytes
+    ) {
+        public long bytesSaved() {
+            return originalBytes - content.length;
+        }
+    }
+}
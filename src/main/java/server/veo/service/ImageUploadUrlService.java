@@ -0,0 +1,149 @@
+package server.veo.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import server.common.CustomException;
+import server.common.ErrorCode;
+import server.veo.backend.ObjectStat;
+import server.veo.backend.ObjectStore;
+import server.veo.backend.SignedUploadUrl;
+import server.veo.dto.ImageUploadSlot;
+import server.veo.dto.ImageUploadTicket;
+
+/**
+ * 이미지 직접 업로드 서비스
+ *
+ * 클라이언트가 서버를 거치지 않고 객체 저장소에 이미지를 올리도록 슬롯별 서명된 재개 가능 업로드 URL을 발급하고,
+ * 생성 요청에 넘어온 객체 참조를 검증하여 GCS URI로 바꿉니다.
+ * ✅ 서버는 이미지 바이트를 읽지 않음 - 객체 존재/크기/Content-Type은 메타데이터로만 확인
+ * ✅ 객체 이름에 요청자(회원 ID)를 포함하여 다른 회원이 올린 객체는 참조할 수 없음
+ */
+@Service
+@Slf4j
+public class ImageUploadUrlService {
+
+    static final String UPLOAD_PREFIX = "veo-uploads/";
+    private static final String ANONYMOUS_OWNER = "anonymous";
+
+    // 지원되는 이미지 Content-Type → 객체 확장자
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", ".jpg",
+            "image/jpg", ".jpg",
+            "image/png", ".png",
+            "image/gif", ".gif",
+            "image/bmp", ".bmp",
+            "image/webp", ".webp"
+    );
+
+    private static final Pattern OBJECT_NAME = Pattern.compile(
+            "veo-uploads/[A-Za-z0-9]+/[0-9a-f-]{36}/\\d+\\.(jpg|png|gif|bmp|webp)");
+
+    private final ObjectStore objectStore;
+    private final Duration urlTtl;
+    private final long maxImageBytes;
+
+    public ImageUploadUrlService(
+            ObjectStore objectStore,
+            @Value("${veo.upload.signed-url-ttl-seconds:900}") long urlTtlSeconds,
+            @Value("${veo.upload.max-image-bytes:20971520}") long maxImageBytes
+    ) {
+        this.objectStore = objectStore;
+        this.urlTtl = Duration.ofSeconds(urlTtlSeconds);
+        this.maxImageBytes = maxImageBytes;
+    }
+
+    /**
+     * 이미지 슬롯별 서명된 업로드 URL 발급
+     */
+    public ImageUploadTicket issue(List<String> contentTypes, Long memberId) {
+        String uploadId = UUID.randomUUID().toString();
+        String prefix = ownerPrefixOf(memberId) + uploadId + "/";
+
+        LocalDateTime expiresAt = LocalDateTime.now().plus(urlTtl);
+        List<ImageUploadSlot> slots = new ArrayList<>(contentTypes.size());
+        for (int slot = 0; slot < contentTypes.size(); slot++) {
+            String contentType = normalize(contentTypes.get(slot));
+            String extension = EXTENSIONS.get(contentType);
+            if (extension == null) {
+                throw new CustomException(ErrorCode.VEO_INVALID_IMAGE_URL,
+                        "지원하지 않는 이미지 형식입니다: " + contentTypes.get(slot));
+            }
+
+            String objectName = prefix + slot + extension;
+            SignedUploadUrl signed;
+            try {
+                signed = objectStore.signResumableUpload(objectName, contentType, maxImageBytes, urlTtl);
+            } catch (IOException | RuntimeException e) {
+                log.error("❌ 업로드 URL 서명 실패 - 객체: {}, 오류: {}", objectName, e.getMessage(), e);
+                throw new CustomException(ErrorCode.VEO_UPLOAD_URL_SIGNING_FAILED, e);
+            }
+            slots.add(new ImageUploadSlot(slot, objectName, signed.url(), signed.method(), signed.headers()));
+        }
+
+        log.info("🔏 이미지 업로드 URL 발급 - 업로드 ID: {}, 회원 ID: {}, 슬롯: {}개", uploadId, memberId, slots.size());
+        return new ImageUploadTicket(uploadId, expiresAt, slots);
+    }
+
+    /**
+     * 업로드된 객체 참조를 검증하고 GCS URI 목록으로 변환 (입력 순서 유지)
+     * ✅ 요청자 소유가 아니거나, 업로드가 끝나지 않았거나, 크기/형식이 허용 범위를 벗어나면 400
+     */
+    public List<String> resolve(List<String> objectNames, Long memberId) {
+        String ownerPrefix = ownerPrefixOf(memberId);
+
+        List<String> gcsUris = new ArrayList<>(objectNames.size());
+        for (String objectName : objectNames) {
+            if (objectName == null || !objectName.startsWith(ownerPrefix)
+                    || !OBJECT_NAME.matcher(objectName).matches()) {
+                throw new CustomException(ErrorCode.VEO_INVALID_IMAGE_URL, "잘못된 이미지 객체 참조입니다: " + objectName);
+            }
+
+            ObjectStat stat = statOf(objectName)
+                    .orElseThrow(() -> new CustomException(ErrorCode.VEO_INVALID_IMAGE_URL,
+                            "업로드가 완료되지 않은 이미지입니다: " + objectName));
+            if (stat.sizeBytes() == 0 || stat.sizeBytes() > maxImageBytes) {
+                throw new CustomException(ErrorCode.VEO_INVALID_IMAGE_URL,
+                        "이미지 크기가 허용 범위를 벗어났습니다: " + objectName);
+            }
+            if (stat.contentType() != null && !EXTENSIONS.containsKey(normalize(stat.contentType()))) {
+                throw new CustomException(ErrorCode.VEO_INVALID_IMAGE_URL,
+                        "지원하지 않는 이미지 형식입니다: " + objectName);
+            }
+            gcsUris.add(objectStore.uriOf(objectName));
+        }
+
+        log.info("🔗 직접 업로드 이미지 확인 완료 - 회원 ID: {}, 이미지: {}개", memberId, gcsUris.size());
+        return gcsUris;
+    }
+
+    private Optional<ObjectStat> statOf(String objectName) {
+        try {
+            return objectStore.stat(objectName);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.VEO_INVALID_IMAGE_URL, "이미지 객체를 확인하지 못했습니다: " + objectName);
+        }
+    }
+
+    private String ownerPrefixOf(Long memberId) {
+        return UPLOAD_PREFIX + (memberId != null ? memberId.toString() : ANONYMOUS_OWNER) + "/";
+    }
+
+    private String normalize(String contentType) {
+        if (contentType == null) {
+            return "";
+        }
+        int parameters = contentType.indexOf(';');
+        return (parameters >= 0 ? contentType.substring(0, parameters) : contentType).trim().toLowerCase(Locale.ROOT);
+    }
+}
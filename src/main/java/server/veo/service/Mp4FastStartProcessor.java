@@ -0,0 +1,117 @@
+package server.veo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import server.veo.util.DigestingChannel;
+import server.veo.util.Mp4FastStart;
+
+/**
+ * 비디오 게시 전 MP4 fast-start 후처리
+ *
+ * moov가 mdat 뒤에 있는 MP4를 moov가 앞에 오도록 다시 써서, 플레이어가 파일 끝을 받기 전에 재생을 시작할 수 있게 합니다.
+ * 변환 전후의 재생 가능 오프셋(재생 시작 전에 받아야 하는 바이트 수)을 layout 태그별 분포로 기록합니다.
+ * 지원하지 않는 구조이거나 변환에 실패하면 원본을 그대로 게시합니다.
+ */
+@Component
+@Slf4j
+public class Mp4FastStartProcessor {
+
+    private final boolean enabled;
+    private final int maxMoovBytes;
+
+    private final DistributionSummary originalPlayableOffset;
+    private final DistributionSummary fastStartPlayableOffset;
+    private final Counter rewrittenCounter;
+    private final Counter alreadyFastStartCounter;
+    private final Counter failedCounter;
+
+    public Mp4FastStartProcessor(
+            MeterRegistry meterRegistry,
+            @Value("${veo.video.fast-start.enabled:true}") boolean enabled,
+            @Value("${veo.video.fast-start.max-moov-bytes:67108864}") int maxMoovBytes
+    ) {
+        this.enabled = enabled;
+        this.maxMoovBytes = maxMoovBytes;
+
+        this.originalPlayableOffset = playableOffsetSummary(meterRegistry, "original");
+        this.fastStartPlayableOffset = playableOffsetSummary(meterRegistry, "faststart");
+        this.rewrittenCounter = fastStartCounter(meterRegistry, "rewritten");
+        this.alreadyFastStartCounter = fastStartCounter(meterRegistry, "already");
+        this.failedCounter = fastStartCounter(meterRegistry, "failed");
+    }
+
+    /**
+     * source가 moov가 뒤에 있는 MP4면 fast-start로 다시 써서 target에 기록
+     * ✅ 기록하면서 크기와 SHA-256을 함께 계산 - 변환하지 않았으면 empty (target은 비어 있음)
+     */
+    public Optional<Rewritten> rewrite(Path source, Path target) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        try (FileChannel sourceChannel = FileChannel.open(source, StandardOpenOption.READ)) {
+            Mp4FastStart.Layout layout = Mp4FastStart.inspect(sourceChannel);
+            if (layout == null) {
+                log.debug("⏭️ MP4 구조가 아니어서 fast-start 변환 생략: {}", source);
+                return Optional.empty();
+            }
+
+            originalPlayableOffset.record(layout.playableOffset());
+            if (!layout.needsRelocation()) {
+                alreadyFastStartCounter.increment();
+                fastStartPlayableOffset.record(layout.playableOffset());
+                return Optional.empty();
+            }
+
+            try (FileChannel targetChannel = FileChannel.open(target,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                DigestingChannel digestingChannel = new DigestingChannel(targetChannel);
+                Mp4FastStart.relocateMoov(sourceChannel, layout, maxMoovBytes, digestingChannel);
+                targetChannel.force(false);
+
+                rewrittenCounter.increment();
+                fastStartPlayableOffset.record(layout.relocatedPlayableOffset());
+                log.info("⚡ MP4 fast-start 변환 완료 - 재생 가능 오프셋: {} → {} bytes (파일 크기: {} bytes)",
+                        layout.playableOffset(), layout.relocatedPlayableOffset(), layout.fileSize());
+                return Optional.of(new Rewritten(digestingChannel.size(), digestingChannel.sha256Hex()));
+            }
+        } catch (IOException e) {
+            failedCounter.increment();
+            log.warn("⚠️ MP4 fast-start 변환 실패 - 원본 유지: {}, 오류: {}", source, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static DistributionSummary playableOffsetSummary(MeterRegistry meterRegistry, String layout) {
+        return DistributionSummary.builder("veo.video.playable.offset")
+                .description("처음부터 받을 때 재생 시작 전에 받아야 하는 바이트 수")
+                .baseUnit("bytes")
+                .tag("layout", layout)
+                .register(meterRegistry);
+    }
+
+    private static Counter fastStartCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("veo.video.faststart")
+                .description("MP4 fast-start 후처리 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * fast-start로 다시 쓴 파일 정보
+     *
+     * @param sizeBytes 파일 크기 (bytes)
+     * @param sha256    파일 내용의 SHA-256 (hex)
+     */
+    public record Rewritten(long sizeBytes, String sha256) {
+    }
+}
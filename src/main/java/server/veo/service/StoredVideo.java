@@ -0,0 +1,19 @@
+package server.veo.service;
+
+/**
+ * 로컬에 저장된 비디오 파일 정보 - 저장하면서 계산한 크기와 체크섬 포함
+ *
+ * @param fileName  저장된 파일명 (다운로드 경로의 마지막 세그먼트)
+ * @param url       다운로드 URL
+ * @param mimeType  비디오 MIME 타입
+ * @param sizeBytes 파일 크기 (bytes)
+ * @param sha256    파일 내용의 SHA-256 (hex)
+ */
+public record StoredVideo(
+        String fileName,
+        String url,
+        String mimeType,
+        long sizeBytes,
+        String sha256
+) {
+}
@@ -0,0 +1,82 @@
+package server.veo.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스트리밍 전송용 고정 크기 direct ByteBuffer 풀
+ *
+ * 이미지/비디오를 힙에 통째로 올리지 않고 고정 크기 버퍼로 흘려보내기 위해 사용합니다.
+ * 풀이 비어 있으면 임시 버퍼를 할당하고, 반환 시 풀이 가득 차 있으면 버립니다.
+ */
+@Component
+public class TransferBufferPool {
+
+    private final int bufferSize;
+    private final BlockingQueue<ByteBuffer> buffers;
+
+    public TransferBufferPool(
+            @Value("${veo.transfer.buffer-size-bytes:262144}") int bufferSize,
+            @Value("${veo.transfer.pooled-buffers:32}") int pooledBuffers
+    ) {
+        this.bufferSize = bufferSize;
+        this.buffers = new ArrayBlockingQueue<>(pooledBuffers);
+    }
+
+    /**
+     * 버퍼 대여 - 사용 후 반드시 release 호출
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(bufferSize);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * 버퍼 반환
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer != null && buffer.capacity() == bufferSize) {
+            buffer.clear();
+            buffers.offer(buffer);
+        }
+    }
+
+    /**
+     * InputStream의 내용을 채널로 전송 - 전송한 바이트 수 반환
+     */
+    public long transfer(InputStream source, WritableByteChannel target) throws IOException {
+        return transfer(Channels.newChannel(source), target);
+    }
+
+    /**
+     * 채널 간 전송 - 풀에서 빌린 버퍼 하나만 사용하므로 원본 크기와 무관하게 메모리 사용량이 고정됨
+     */
+    public long transfer(ReadableByteChannel source, WritableByteChannel target) throws IOException {
+        ByteBuffer buffer = acquire();
+        try {
+            long transferred = 0;
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    transferred += target.write(buffer);
+                }
+                buffer.clear();
+            }
+            return transferred;
+        } finally {
+            release(buffer);
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package server.veo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import server.common.ErrorCode;
+import server.common.TooManyRequestsException;
+import server.member.entity.MemberRole;
+
+/**
+ * Veo 생성 작업 승인(admission) 제어
+ *
+ * 동시에 진행되는 Veo 작업 수를 제한하고, 초과분은 고정 크기 대기열에서 기다리게 합니다.
+ * 대기열은 회원별 Deficit Round-Robin(FairShareQueue)으로 꺼내므로 한 회원이 여러 건을 몰아 넣어도
+ * 다른 회원의 작업은 한 바퀴 안에 시작되며, 회원 등급(MemberRole)별 가중치만큼 한 바퀴에 더 꺼내집니다.
+ * 대기열까지 가득 차면 최근 처리량으로 추정한 Retry-After와 함께 즉시 429로 거절합니다.
+ * 슬롯은 Veo 작업이 끝날 때(완료/실패/취소) release로 반환되며, 그때 대기열의 다음 작업이 시작됩니다.
+ */
+@Component
+@Slf4j
+public class VeoAdmissionController {
+
+    private static final String MEMBER_WAIT_METRIC = "veo.admission.member.wait";
+    // 대기열 등록 시 같은 회원이 앞에 넣어 둔 작업 수 구간 (회원 ID 대신 태그로 사용하여 카디널리티를 고정)
+    private static final String[] BACKLOG_BUCKETS = {"0", "1-3", "4+"};
+    // 비로그인 요청은 하나의 회원으로 취급
+    private static final String ANONYMOUS_MEMBER = "anonymous";
+
+    private final Executor veoExecutor;
+    private final int maxConcurrent;
+    private final int maxQueueSize;
+    private final long defaultRetryAfterSeconds;
+    private final long maxRetryAfterSeconds;
+
+    private final FairShareQueue<Ticket> waiting = new FairShareQueue<>();
+    private final Map<MemberRole, Integer> weights = new EnumMap<>(MemberRole.class);
+    // 작업 ID → 아직 반환되지 않은 자리표 (취소 요청 시 조회)
+    private final Map<String, Ticket> tickets = new HashMap<>();
+    // 실행 슬롯은 얻었지만 veoExecutor가 포화되어 아직 넘기지 못한 작업 (순서 유지)
+    private final Deque<Ticket> deferred = new ArrayDeque<>();
+    private final ThroughputWindow throughput;
+    private int running;
+
+    private final Timer waitTimer;
+    // 회원 등급 → 앞선 작업 수 구간별 대기 시간
+    private final Map<MemberRole, Timer[]> memberWaitTimers = new EnumMap<>(MemberRole.class);
+    private final Counter rejectedCounter;
+
+    public VeoAdmissionController(
+            @Qualifier("veoExecutor") Executor veoExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${veo.admission.max-concurrent:4}") int maxConcurrent,
+            @Value("${veo.admission.max-queue-size:20}") int maxQueueSize,
+            @Value("${veo.admission.throughput-window-size:20}") int throughputWindowSize,
+            @Value("${veo.admission.default-retry-after-seconds:30}") long defaultRetryAfterSeconds,
+            @Value("${veo.admission.max-retry-after-seconds:600}") long maxRetryAfterSeconds,
+            @Value("${veo.admission.weight.user:1}") int userWeight,
+            @Value("${veo.admission.weight.admin:2}") int adminWeight
+    ) {
+        this.veoExecutor = veoExecutor;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueueSize = maxQueueSize;
+        this.defaultRetryAfterSeconds = defaultRetryAfterSeconds;
+        this.maxRetryAfterSeconds = maxRetryAfterSeconds;
+        this.throughput = new ThroughputWindow(throughputWindowSize);
+        this.weights.put(MemberRole.USER, userWeight);
+        this.weights.put(MemberRole.ADMIN, adminWeight);
+
+        Gauge.builder("veo.admission.queue.depth", this, VeoAdmissionController::queueDepth)
+                .description("승인 대기열에서 기다리는 Veo 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("veo.admission.queue.members", this, VeoAdmissionController::queuedMemberCount)
+                .description("승인 대기열에 작업이 있는 회원 수")
+                .register(meterRegistry);
+        Gauge.builder("veo.admission.running", this, VeoAdmissionController::runningCount)
+                .description("동시 실행 중인 Veo 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("veo.admission.throughput.per.minute", this, controller -> controller.throughputPerSecond() * 60)
+                .description("최근 Veo 작업 완료 처리량 (분당)")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("veo.admission.wait")
+                .description("Veo 작업이 실행 슬롯을 얻기까지 대기한 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        for (MemberRole role : MemberRole.values()) {
+            Timer[] timers = new Timer[BACKLOG_BUCKETS.length];
+            for (int i = 0; i < BACKLOG_BUCKETS.length; i++) {
+                timers[i] = Timer.builder(MEMBER_WAIT_METRIC)
+                        .description("회원 등급과 앞서 넣어 둔 작업 수별로 Veo 작업이 실행 슬롯을 얻기까지 대기한 시간")
+                        .tag("role", role.name())
+                        .tag("backlog", BACKLOG_BUCKETS[i])
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+            }
+            memberWaitTimers.put(role, timers);
+        }
+        this.rejectedCounter = Counter.builder("veo.admission.rejected")
+                .description("대기열이 가득 차 거절된 Veo 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 실행 슬롯 또는 대기열 자리 확보 - 둘 다 없으면 429 (Retry-After 포함)
+     * ✅ 이미지 업로드 전에 호출하여 거절될 요청이 업로드 비용을 쓰지 않도록 함
+     *
+     * @param memberId   요청 회원 (공정 분배 단위, 비로그인이면 null)
+     * @param memberRole 회원 등급 (대기열 가중치)
+     */
+    public synchronized Ticket acquire(String operationId, Long memberId, MemberRole memberRole) {
+        Ticket ticket = new Ticket(operationId, memberId, memberRole, System.nanoTime());
+
+        if (running < maxConcurrent) {
+            grant(ticket);
+            tickets.put(operationId, ticket);
+            return ticket;
+        }
+
+        if (waiting.size() < maxQueueSize) {
+            enqueue(ticket);
+            tickets.put(operationId, ticket);
+            log.info("⏳ Veo 작업 대기열 등록 - 작업 ID: {}, 회원 ID: {}, 순번: {}",
+                    operationId, memberId, queuePosition(operationId));
+            return ticket;
+        }
+
+        rejectedCounter.increment();
+        long retryAfterSeconds = retryAfterSeconds();
+        log.warn("🚫 Veo 작업 대기열 가득 참 - 작업 ID: {}, 재시도 권장: {}초", operationId, retryAfterSeconds);
+        throw new TooManyRequestsException(ErrorCode.VEO_ADMISSION_QUEUE_FULL, retryAfterSeconds);
+    }
+
+    /**
+     * 다른 노드에서 회수한 작업의 자리 확보 - 한도와 무관하게 거절하지 않음
+     * ✅ 이미 Veo에서 실행 중인 작업은 원격 자원을 쓰고 있으므로 바로 실행 슬롯을 부여
+     * ✅ 레지스트리에는 회원 등급이 없으므로 기본 가중치(USER)로 대기
+     */
+    public synchronized Ticket acquireReclaimed(String operationId, Long memberId, boolean alreadyRunning) {
+        Ticket ticket = new Ticket(operationId, memberId, MemberRole.USER, System.nanoTime());
+
+        if (alreadyRunning || running < maxConcurrent) {
+            grant(ticket);
+            ticket.started = alreadyRunning;
+        } else {
+            enqueue(ticket);
+        }
+        tickets.put(operationId, ticket);
+        return ticket;
+    }
+
+    /**
+     * 확보한 자리에 실행할 작업 연결 - 슬롯을 이미 얻었다면 즉시, 아니면 차례가 오면 veoExecutor에서 실행
+     */
+    public void dispatch(Ticket ticket, Runnable task) {
+        synchronized (this) {
+            if (ticket.released) {
+                return;
+            }
+            ticket.task = task;
+            if (!ticket.granted) {
+                return;
+            }
+            ticket.started = true;
+        }
+        execute(ticket);
+    }
+
+    /**
+     * 자리 반환 - 실행 중이었다면 대기열의 다음 작업 시작, 대기 중이었다면 대기열에서 제거 (중복 호출 안전)
+     */
+    public void release(Ticket ticket) {
+        List<Ticket> startable = new ArrayList<>();
+
+        synchronized (this) {
+            if (ticket.released) {
+                return;
+            }
+            ticket.released = true;
+            tickets.remove(ticket.operationId, ticket);
+
+            if (!ticket.granted) {
+                waiting.remove(ticket.memberKey, ticket);
+                return;
+            }
+
+            deferred.remove(ticket);
+            running--;
+            if (ticket.started && !ticket.cancelled) {
+                throughput.record(System.nanoTime());
+            }
+
+            while (running < maxConcurrent && !waiting.isEmpty()) {
+                Ticket next = waiting.poll();
+                grant(next);
+                if (next.task != null) {
+                    next.started = true;
+                    startable.add(next);
+                }
+            }
+        }
+
+        startable.forEach(this::execute);
+    }
+
+    /**
+     * veoExecutor 포화로 미뤄 둔 작업 재실행 - 다시 거절되면 다음 주기까지 그대로 대기
+     */
+    @Scheduled(fixedDelayString = "${veo.admission.dispatch-retry-millis:1000}")
+    public void retryDeferredDispatches() {
+        while (true) {
+            Ticket ticket;
+            synchronized (this) {
+                ticket = deferred.peekFirst();
+                if (ticket == null) {
+                    return;
+                }
+            }
+            if (!execute(ticket)) {
+                return;
+            }
+            synchronized (this) {
+                deferred.remove(ticket);
+            }
+        }
+    }
+
+    /**
+     * 작업 취소 - 이 노드가 가진 자리표를 반환하여 실행 슬롯(또는 대기열 자리)을 다음 작업에 넘김
+     * ✅ 취소된 작업은 처리량(Retry-After 추정)에 포함하지 않음
+     *
+     * @return 이 노드에 반환할 자리표가 있었는지 여부
+     */
+    public boolean cancel(String operationId) {
+        Ticket ticket;
+        synchronized (this) {
+            ticket = tickets.get(operationId);
+            if (ticket == null) {
+                return false;
+            }
+            ticket.cancelled = true;
+        }
+        release(ticket);
+        log.info("🛑 Veo 작업 자리 반환 (취소) - 작업 ID: {}", operationId);
+        return true;
+    }
+
+    /**
+     * 자리표가 이미 반환되었는지 여부 - 실행 직전에 취소된 작업을 건너뛰는 데 사용
+     */
+    public synchronized boolean isReleased(Ticket ticket) {
+        return ticket.released;
+    }
+
+    /**
+     * 대기열 순번 (1부터 시작, 대기 중이 아니면 0) - 공정 분배 순서로 계산한 예상 시작 순서
+     */
+    public synchronized int queuePosition(String operationId) {
+        int position = 1;
+        for (Ticket ticket : waiting.scheduledOrder()) {
+            if (ticket.operationId.equals(operationId)) {
+                return position;
+            }
+            position++;
+        }
+        return 0;
+    }
+
+    /**
+     * 재시도 권장 시간 - 최근 처리량 기준으로 실행 중인 작업 하나가 끝나 대기열 자리가 생길 때까지의 예상 시간
+     */
+    synchronized long retryAfterSeconds() {
+        double perSecond = throughput.perSecond(System.nanoTime());
+        if (perSecond <= 0) {
+            return defaultRetryAfterSeconds;
+        }
+        long estimate = (long) Math.ceil(1 / perSecond);
+        return Math.max(1, Math.min(estimate, maxRetryAfterSeconds));
+    }
+
+    private void enqueue(Ticket ticket) {
+        ticket.backlog = waiting.sizeOf(ticket.memberKey);
+        waiting.add(ticket.memberKey, weights.getOrDefault(ticket.memberRole, 1), ticket);
+    }
+
+    private void grant(Ticket ticket) {
+        ticket.granted = true;
+        running++;
+        Duration waited = Duration.ofNanos(System.nanoTime() - ticket.enqueuedAtNanos);
+        waitTimer.record(waited);
+        memberWaitTimers.get(ticket.memberRole)[backlogBucket(ticket.backlog)].record(waited);
+    }
+
+    private static int backlogBucket(int backlog) {
+        if (backlog <= 0) {
+            return 0;
+        }
+        return backlog <= 3 ? 1 : 2;
+    }
+
+    /**
+     * veoExecutor에 작업 전달 - 포화로 거절되면 미뤄 두고 retryDeferredDispatches에서 다시 시도
+     * ✅ 호출 스레드(폴러 워커 등)에서 Veo 제출을 직접 실행하면 다른 작업의 폴링이 멈추므로 대신 실행하지 않음
+     *
+     * @return executor에 전달되었는지 여부
+     */
+    private boolean execute(Ticket ticket) {
+        try {
+            veoExecutor.execute(ticket.task);
+            log.info("🚦 Veo 작업 실행 슬롯 획득 - 작업 ID: {}", ticket.operationId);
+            return true;
+        } catch (RejectedExecutionException e) {
+            // 승인 한도가 executor 용량보다 크게 설정된 경우 - 슬롯은 유지한 채 다음 주기에 다시 전달
+            synchronized (this) {
+                if (!ticket.released && !deferred.contains(ticket)) {
+                    deferred.addLast(ticket);
+                }
+            }
+            log.warn("⚠️ veoExecutor 포화 - 실행 보류, 작업 ID: {}", ticket.operationId);
+            return false;
+        }
+    }
+
+    private synchronized double queueDepth() {
+        return waiting.size();
+    }
+
+    private synchronized double queuedMemberCount() {
+        return waiting.memberCount();
+    }
+
+    private synchronized double runningCount() {
+        return running;
+    }
+
+    private synchronized double throughputPerSecond() {
+        return throughput.perSecond(System.nanoTime());
+    }
+
+    /**
+     * 승인 요청 하나에 대한 자리표 (실행 슬롯 또는 대기열 자리)
+     */
+    public static final class Ticket {
+        private final String operationId;
+        private final String memberKey;
+        private final MemberRole memberRole;
+        private final long enqueuedAtNanos;
+        // 대기열 등록 시 같은 회원이 앞에 넣어 둔 작업 수
+        private int backlog;
+        private Runnable task;
+        private boolean granted;
+        private boolean started;
+        private boolean released;
+        private boolean cancelled;
+
+        private Ticket(String operationId, Long memberId, MemberRole memberRole, long enqueuedAtNanos) {
+            this.operationId = operationId;
+            this.memberKey = memberId != null ? memberId.toString() : ANONYMOUS_MEMBER;
+            this.memberRole = memberRole != null ? memberRole : MemberRole.USER;
+            this.enqueuedAtNanos = enqueuedAtNanos;
+        }
+
+        public String getOperationId() {
+            return operationId;
+        }
+    }
+
+    /**
+     * 최근 완료 시각 링 버퍼 - 구간 내 완료 수 / 경과 시간으로 처리량 추정
+     */
+    private static final class ThroughputWindow {
+        private final long[] completedAtNanos;
+        private int next;
+        private int size;
+
+        private ThroughputWindow(int capacity) {
+            this.completedAtNanos = new long[Math.max(2, capacity)];
+        }
+
+        private void record(long nowNanos) {
+            completedAtNanos[next] = nowNanos;
+            next = (next + 1) % completedAtNanos.length;
+            size = Math.min(size + 1, completedAtNanos.length);
+        }
+
+        private double perSecond(long nowNanos) {
+            if (size < 2) {
+                return 0;
+            }
+            int oldest = (next - size + completedAtNanos.length) % completedAtNanos.length;
+            long elapsedNanos = nowNanos - completedAtNanos[oldest];
+            if (elapsedNanos <= 0) {
+                return 0;
+            }
+            // 가장 오래된 완료 이후 (size - 1)건이 완료됨 - 현재 시각까지 포함하여 처리가 멈춘 경우 자연스럽게 감소
+            return (size - 1) / (elapsedNanos / 1_000_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package server.veo.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Veo 작업 완료 시간 분포 추적 및 적응형 폴링 간격 계산
+ *
+ * (모델, 이미지 개수)별로 최근 완료 시간을 슬라이딩 윈도우로 유지하고,
+ * 예상 완료 구간 이전에는 드물게, 예상 완료 구간 안에서는 촘촘하게 폴링하도록 다음 폴링 시점을 계산합니다.
+ * 학습된 분포(분위수)와 작업별 폴링 횟수는 메트릭으로 노출됩니다.
+ */
+@Component
+@Slf4j
+public class VeoCompletionTimeTracker {
+
+    private static final double[] EXPORTED_QUANTILES = {0.05, 0.5, 0.95};
+
+    private final MeterRegistry meterRegistry;
+    private final int windowSize;
+    private final int minSamples;
+    private final long priorExpectedMillis;
+    private final long sparseIntervalMillis;
+    private final long denseIntervalMillis;
+    private final long lateIntervalMillis;
+    private final double denseStartQuantile;
+    private final double denseEndQuantile;
+
+    private final Map<VeoPollingKey, CompletionTimeWindow> windows = new ConcurrentHashMap<>();
+
+    public VeoCompletionTimeTracker(
+            MeterRegistry meterRegistry,
+            @Value("${veo.poller.adaptive.window-size:200}") int windowSize,
+            @Value("${veo.poller.adaptive.min-samples:10}") int minSamples,
+            @Value("${veo.poller.adaptive.prior-expected-seconds:90}") long priorExpectedSeconds,
+            @Value("${veo.poller.adaptive.sparse-interval-millis:20000}") long sparseIntervalMillis,
+            @Value("${veo.poller.adaptive.dense-interval-millis:2000}") long denseIntervalMillis,
+            @Value("${veo.poller.adaptive.late-interval-millis:5000}") long lateIntervalMillis,
+            @Value("${veo.poller.adaptive.dense-start-quantile:0.05}") double denseStartQuantile,
+            @Value("${veo.poller.adaptive.dense-end-quantile:0.95}") double denseEndQuantile
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.windowSize = windowSize;
+        this.minSamples = minSamples;
+        this.priorExpectedMillis = TimeUnit.SECONDS.toMillis(priorExpectedSeconds);
+        this.sparseIntervalMillis = sparseIntervalMillis;
+        this.denseIntervalMillis = denseIntervalMillis;
+        this.lateIntervalMillis = lateIntervalMillis;
+        this.denseStartQuantile = denseStartQuantile;
+        this.denseEndQuantile = denseEndQuantile;
+    }
+
+    /**
+     * 경과 시간 기준 다음 폴링까지의 대기 시간 계산
+     * - 예상 완료 구간 이전: 구간 시작까지 건너뛰되 sparse 간격을 넘지 않음
+     * - 예상 완료 구간 안: dense 간격
+     * - 예상 완료 구간 이후: late 간격
+     */
+    public long nextPollDelayMillis(VeoPollingKey key, long elapsedMillis) {
+        long denseStart;
+        long denseEnd;
+
+        CompletionTimeWindow window = windows.get(key);
+        if (window == null || window.size() < minSamples) {
+            // 학습 데이터가 부족하면 사전 기대값 주변을 dense 구간으로 사용
+            denseStart = (long) (priorExpectedMillis * 0.6);
+            denseEnd = (long) (priorExpectedMillis * 1.6);
+        } else {
+            denseStart = window.percentile(denseStartQuantile);
+            denseEnd = window.percentile(denseEndQuantile);
+        }
+
+        if (elapsedMillis < denseStart) {
+            long untilDense = denseStart - elapsedMillis;
+            return Math.max(denseIntervalMillis, Math.min(untilDense, sparseIntervalMillis));
+        }
+        if (elapsedMillis <= denseEnd) {
+            return denseIntervalMillis;
+        }
+        return lateIntervalMillis;
+    }
+
+    /**
+     * 작업 완료 시간 기록
+     */
+    public void recordCompletion(VeoPollingKey key, long durationMillis) {
+        windows.computeIfAbsent(key, this::createWindow).add(durationMillis);
+        log.debug("📈 Veo 완료 시간 기록 - 모델: {}, 이미지: {}, 소요: {}ms", key.model(), key.imageCount(), durationMillis);
+    }
+
+    /**
+     * 작업 종료 시 폴링 횟수 기록
+     */
+    public void recordPollCount(VeoPollingKey key, int pollCount) {
+        DistributionSummary.builder("veo.poller.polls.per.operation")
+                .description("Veo 작업 하나가 종료될 때까지 수행한 상태 조회 횟수")
+                .tag("model", key.model())
+                .tag("images", String.valueOf(key.imageCount()))
+                .register(meterRegistry)
+                .record(pollCount);
+    }
+
+    /**
+     * 학습된 완료 시간 분위수 (샘플이 없으면 -1)
+     */
+    public long completionPercentileMillis(VeoPollingKey key, double quantile) {
+        CompletionTimeWindow window = windows.get(key);
+        if (window == null || window.size() == 0) {
+            return -1;
+        }
+        return window.percentile(quantile);
+    }
+
+    /**
+     * 예상 완료 시간 - 샘플이 부족하면 사전 기대값 기준 (중앙값은 기대값, 그 이상은 dense 구간 끝)
+     */
+    public long expectedCompletionMillis(VeoPollingKey key, double quantile) {
+        CompletionTimeWindow window = windows.get(key);
+        if (window == null || window.size() < minSamples) {
+            return quantile <= 0.5 ? priorExpectedMillis : (long) (priorExpectedMillis * 1.6);
+        }
+        return window.percentile(quantile);
+    }
+
+    private CompletionTimeWindow createWindow(VeoPollingKey key) {
+        CompletionTimeWindow window = new CompletionTimeWindow(windowSize);
+
+        for (double quantile : EXPORTED_QUANTILES) {
+            Gauge.builder("veo.completion.time.seconds",
+                            window, w -> w.size() == 0 ? Double.NaN : w.percentile(quantile) / 1000.0)
+                    .description("학습된 Veo 작업 완료 시간 분위수")
+                    .tag("model", key.model())
+                    .tag("images", String.valueOf(key.imageCount()))
+                    .tag("quantile", String.valueOf(quantile))
+                    .register(meterRegistry);
+        }
+        Gauge.builder("veo.completion.time.samples", window, CompletionTimeWindow::size)
+                .description("완료 시간 분포 계산에 사용된 샘플 수")
+                .tag("model", key.model())
+                .tag("images", String.valueOf(key.imageCount()))
+                .register(meterRegistry);
+
+        return window;
+    }
+
+    /**
+     * 최근 N개의 완료 시간을 보관하는 링 버퍼
+     * 정렬된 스냅샷은 새 샘플이 들어올 때만 다시 계산
+     */
+    private static final class CompletionTimeWindow {
+        private final long[] samples;
+        private int count;
+        private int next;
+        private long[] sorted;
+
+        private CompletionTimeWindow(int capacity) {
+            this.samples = new long[capacity];
+        }
+
+        synchronized void add(long value) {
+            samples[next] = value;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+            sorted = null;
+        }
+
+        synchronized int size() {
+            return count;
+        }
+
+        synchronized long percentile(double quantile) {
+            if (sorted == null) {
+                sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+            }
+            int index = (int) Math.ceil(quantile * count) - 1;
+            return sorted[Math.max(0, Math.min(index, count - 1))];
+        }
+    }
+}
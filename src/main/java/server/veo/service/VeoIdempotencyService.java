@@ -0,0 +1,193 @@
+package server.veo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import server.common.CustomException;
+import server.common.ErrorCode;
+import server.common.TooManyRequestsException;
+import server.veo.dto.VideoGenerationResponse;
+import server.veo.util.DigestingChannel;
+
+/**
+ * 비디오 생성 요청 멱등성 처리 (Idempotency-Key)
+ *
+ * 모바일 클라이언트는 네트워크가 불안정하면 생성 요청을 재전송하는데, 재전송마다 유료 Veo 작업이 새로 실행되면 안 됩니다.
+ * 회원별 Idempotency-Key에 요청 지문(입력 이미지 해시)과 작업 ID를 Redis에 저장하고,
+ * 같은 키로 다시 들어온 요청은 새 작업을 만들지 않고 원래 작업의 현재 상태를 반환합니다.
+ * - 원래 작업이 진행 중이면 그 작업에 연결 (같은 작업 ID, 진행/대기 상태)
+ * - 원래 작업이 끝났으면 저장된 결과(VideoGenerationResponse)를 그대로 반환
+ * - 같은 키로 다른 내용의 요청이 오면 422
+ * ✅ 키 선점은 SET NX 한 번으로 처리하여 동시에 도착한 재전송 중 하나만 작업을 접수함
+ * ✅ 접수가 실패(대기열 초과, 잘못된 입력 등)하면 키를 지워 같은 키로 다시 시도할 수 있게 함
+ * ✅ 원래 요청이 아직 접수 중이면 기다리지 않고 Retry-After와 함께 409 - 요청 스레드를 붙잡지 않음
+ * ✅ 키 보관 기간은 작업 레지스트리 보관 기간을 따르며, 작업이 먼저 정리되었으면 키를 비우고 새 작업으로 접수
+ */
+@Component
+@Slf4j
+public class VeoIdempotencyService {
+
+    private static final String KEY_PREFIX = "veo:idempotency:";
+    private static final String ANONYMOUS_OWNER = "anonymous";
+    private static final Pattern IDEMPOTENCY_KEY = Pattern.compile("[A-Za-z0-9._:-]{8,128}");
+    // 접수가 끝난 키의 값 끝에 붙는 표시 - 작업을 찾을 수 없을 때 접수 중인지, 작업이 정리되었는지 구분
+    private static final String SUBMITTED_MARKER = "submitted";
+    private static final int MAX_CLAIM_ATTEMPTS = 3;
+
+    // 값이 그대로일 때만 삭제 - 동시에 정리된 키를 확인한 재전송이 다른 요청의 새 선점을 지우지 않도록 함
+    private static final RedisScript<Long> COMPARE_AND_DELETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final TransferBufferPool transferBufferPool;
+    private final Duration pendingTtl;
+    private final Duration retention;
+    private final long inProgressRetryAfterSeconds;
+
+    private final Counter replayCounter;
+    private final Counter mismatchCounter;
+
+    public VeoIdempotencyService(
+            @Qualifier("updateRedisTemplate") RedisTemplate<String, Object> redisTemplate,
+            TransferBufferPool transferBufferPool,
+            MeterRegistry meterRegistry,
+            @Value("${veo.idempotency.pending-ttl-seconds:300}") long pendingTtlSeconds,
+            @Value("${veo.idempotency.retention-hours:${veo.registry.finished-retention-hours:24}}") long retentionHours,
+            @Value("${veo.idempotency.in-progress-retry-after-seconds:2}") long inProgressRetryAfterSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.transferBufferPool = transferBufferPool;
+        this.pendingTtl = Duration.ofSeconds(pendingTtlSeconds);
+        this.retention = Duration.ofHours(retentionHours);
+        this.inProgressRetryAfterSeconds = inProgressRetryAfterSeconds;
+        this.replayCounter = Counter.builder("veo.idempotency.replayed")
+                .description("Idempotency-Key가 같아 새 작업 없이 기존 작업으로 응답한 요청 수")
+                .register(meterRegistry);
+        this.mismatchCounter = Counter.builder("veo.idempotency.mismatch")
+                .description("같은 Idempotency-Key로 다른 내용이 들어와 거절한 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 멱등 실행 - 키가 없으면 그대로 접수, 처음 보는 키면 선점 후 접수, 이미 쓰인 키면 기존 작업 상태 반환
+     *
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key (없으면 null)
+     * @param fingerprint    요청 지문 - 같은 키로 다른 요청이 오는 것을 구분
+     * @param operationId    새로 접수할 경우 사용할 작업 ID (선점 시 함께 저장하여 재전송이 바로 연결될 수 있게 함)
+     * @param submission     작업 ID로 실제 접수
+     * @param lookup         작업 ID로 현재 상태 조회
+     */
+    public VideoGenerationResponse execute(String idempotencyKey, Long memberId, String fingerprint, String operationId,
+                                           Function<String, VideoGenerationResponse> submission,
+                                           Function<String, Optional<VideoGenerationResponse>> lookup) {
+        if (idempotencyKey == null) {
+            return submission.apply(operationId);
+        }
+        if (!IDEMPOTENCY_KEY.matcher(idempotencyKey).matches()) {
+            throw new CustomException(ErrorCode.VEO_INVALID_IDEMPOTENCY_KEY);
+        }
+
+        String redisKey = KEY_PREFIX + (memberId != null ? memberId.toString() : ANONYMOUS_OWNER) + ":" + idempotencyKey;
+
+        for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS; attempt++) {
+            // 접수 중 노드가 죽어도 키가 영원히 잠기지 않도록 접수 완료 전까지는 짧은 TTL
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(redisKey, fingerprint + " " + operationId, pendingTtl))) {
+                return submitClaimed(redisKey, fingerprint, operationId, submission);
+            }
+
+            Object existing = redisTemplate.opsForValue().get(redisKey);
+            if (existing == null) {
+                continue; // 원래 접수가 실패하여 키가 지워짐 - 다시 선점 시도
+            }
+
+            String[] stored = existing.toString().split(" ", 3);
+            if (!stored[0].equals(fingerprint)) {
+                mismatchCounter.increment();
+                throw new CustomException(ErrorCode.VEO_IDEMPOTENCY_KEY_REUSED);
+            }
+
+            Optional<VideoGenerationResponse> original = lookup.apply(stored[1]);
+            if (original.isPresent()) {
+                replayCounter.increment();
+                log.info("🔁 멱등 요청 재전송 - 키: {}, 기존 작업 ID: {}, 상태: {}",
+                        idempotencyKey, stored[1], original.get().status());
+                return original.get();
+            }
+
+            // 원래 요청이 아직 이미지 업로드 중 - 작업이 등록된 뒤 다시 시도하도록 안내
+            if (stored.length < 3 || !SUBMITTED_MARKER.equals(stored[2])) {
+                throw new TooManyRequestsException(ErrorCode.VEO_IDEMPOTENT_REQUEST_IN_PROGRESS, inProgressRetryAfterSeconds);
+            }
+
+            // 접수된 작업이 레지스트리에서 먼저 정리됨 - 키를 비우고 새 작업으로 접수
+            log.info("🧹 정리된 작업의 Idempotency-Key 재사용 - 키: {}, 기존 작업 ID: {}", idempotencyKey, stored[1]);
+            redisTemplate.execute(COMPARE_AND_DELETE_SCRIPT, List.of(redisKey), existing);
+        }
+        throw new TooManyRequestsException(ErrorCode.VEO_IDEMPOTENT_REQUEST_IN_PROGRESS, inProgressRetryAfterSeconds);
+    }
+
+    /**
+     * multipart 요청 지문 - 이미지 파일 내용의 SHA-256 (파일 순서 포함)
+     */
+    public String fingerprintOf(MultipartFile[] imageFiles) {
+        StringBuilder canonical = new StringBuilder("multipart");
+        if (imageFiles != null) {
+            for (MultipartFile imageFile : imageFiles) {
+                canonical.append('\n').append(contentHashOf(imageFile));
+            }
+        }
+        return DigestingChannel.sha256Hex(canonical.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 직접 업로드 요청 지문 - 객체 참조 목록 (객체 이름에 업로드 ID가 포함되어 있으므로 내용을 다시 읽지 않음)
+     */
+    public String fingerprintOf(List<String> objectNames) {
+        String canonical = "uploads\n" + String.join("\n", objectNames);
+        return DigestingChannel.sha256Hex(canonical.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private VideoGenerationResponse submitClaimed(String redisKey, String fingerprint, String operationId,
+                                                  Function<String, VideoGenerationResponse> submission) {
+        VideoGenerationResponse response;
+        try {
+            response = submission.apply(operationId);
+        } catch (RuntimeException e) {
+            redisTemplate.delete(redisKey);
+            throw e;
+        }
+        // 작업이 등록된 뒤에는 작업 보관 기간만큼 키 유지 (접수 완료 표시 포함)
+        redisTemplate.opsForValue().set(redisKey, fingerprint + " " + operationId + " " + SUBMITTED_MARKER, retention);
+        return response;
+    }
+
+    private String contentHashOf(MultipartFile imageFile) {
+        DigestingChannel hashChannel = DigestingChannel.hashOnly();
+        try (InputStream inputStream = imageFile.getInputStream()) {
+            transferBufferPool.transfer(inputStream, hashChannel);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.VEO_INVALID_IMAGE_URL, "이미지 파일을 읽지 못했습니다: " + imageFile.getOriginalFilename());
+        }
+        return hashChannel.sha256Hex();
+    }
+}
@@ -0,0 +1,251 @@
+package server.veo.service;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import server.veo.dto.VeoOperationProgress;
+import server.veo.dto.VeoOperationTransition;
+import server.veo.dto.VideoGenerationResponse;
+import server.veo.dto.VideoGenerationStatus;
+
+/**
+ * 비디오 생성 작업 SSE 이벤트 전달
+ *
+ * 작업 상태는 어느 노드에서든 바뀔 수 있으므로(회수/재개), VeoOperationStore가 저장할 때 발행하는
+ * Redis 채널을 구독하여 이 노드에 연결된 구독자에게만 전달합니다.
+ * - state: 상태 전이 (접수 → 대기 → 진행 → 완료/실패), 구독 직후 현재 상태 1회
+ * - progress: 주기적인 진행률/남은 시간 추정 (연결 유지 용도 겸함)
+ * ✅ SseEmitter는 비동기 요청으로 처리되어 대기 중인 연결이 서블릿 스레드를 점유하지 않음
+ * ✅ 작업이 종료되면 마지막 state 이벤트를 보낸 뒤 연결을 닫음
+ */
+@Component
+@Slf4j
+public class VeoOperationEvents implements MessageListener {
+
+    static final String STATE_EVENT = "state";
+    static final String PROGRESS_EVENT = "progress";
+
+    // 진행률은 완료 직전까지만 올림 - 실제 완료는 state 이벤트로 알림
+    private static final int MAX_IN_PROGRESS_PERCENT = 95;
+
+    private final VeoOperationStore operationStore;
+    private final VeoCompletionTimeTracker completionTimeTracker;
+    private final VeoAdmissionController admissionController;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long emitterTimeoutMillis;
+
+    // 작업 ID → 이 노드에 연결된 구독자
+    private final Map<String, List<Subscription>> subscriptions = new ConcurrentHashMap<>();
+
+    public VeoOperationEvents(
+            VeoOperationStore operationStore,
+            VeoCompletionTimeTracker completionTimeTracker,
+            VeoAdmissionController admissionController,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${veo.events.emitter-timeout-millis:600000}") long emitterTimeoutMillis
+    ) {
+        this.operationStore = operationStore;
+        this.completionTimeTracker = completionTimeTracker;
+        this.admissionController = admissionController;
+        this.listenerContainer = listenerContainer;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+    }
+
+    @PostConstruct
+    void listen() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(VeoOperationStore.EVENTS_CHANNEL));
+    }
+
+    /**
+     * 작업 이벤트 구독 - 현재 상태를 즉시 보내고, 종료된 작업이면 바로 연결을 닫음
+     *
+     * @param snapshot 현재 상태 조회 (구독 등록 후 호출하여 그 사이의 전이를 놓치지 않음, 작업이 없으면 예외)
+     */
+    public SseEmitter subscribe(String operationId, Supplier<VideoGenerationResponse> snapshot) {
+        SseEmitter emitter = newEmitter(emitterTimeoutMillis);
+        int imageCount = operationStore.findRecord(operationId)
+                .map(record -> record.inputUris().size())
+                .orElse(0);
+        Subscription subscription = new Subscription(operationId, emitter,
+                new VeoPollingKey(VeoVideoService.VEO_MODEL, imageCount));
+
+        subscriptions.computeIfAbsent(operationId, id -> new CopyOnWriteArrayList<>()).add(subscription);
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(() -> remove(subscription));
+        emitter.onError(e -> remove(subscription));
+
+        VideoGenerationResponse current;
+        try {
+            current = snapshot.get();
+        } catch (RuntimeException e) {
+            remove(subscription); // 없는 작업 등 - 예외는 그대로 전달하여 404 등으로 응답
+            throw e;
+        }
+        subscription.startedAt = startedAtOf(current);
+        dispatch(subscription, current);
+        if (!current.isFinished()) {
+            sendProgress(subscription);
+        }
+        return emitter;
+    }
+
+    /**
+     * 작업 상태 발행 수신 - 이 노드의 구독자에게 state 이벤트 전달
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        VideoGenerationResponse response;
+        try {
+            response = operationStore.deserializeEvent(message.getBody());
+        } catch (Exception e) {
+            log.warn("⚠️ Veo 작업 상태 이벤트 역직렬화 실패 - 오류: {}", e.getMessage());
+            return;
+        }
+        if (response == null) {
+            return;
+        }
+
+        List<Subscription> subscribers = subscriptions.get(response.operationId());
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscription subscription : subscribers) {
+            if (subscription.status != VideoGenerationStatus.IN_PROGRESS
+                    && response.status() == VideoGenerationStatus.IN_PROGRESS) {
+                subscription.startedAt = LocalDateTime.now();
+            }
+            dispatch(subscription, response);
+        }
+    }
+
+    /**
+     * 진행 중인 구독자에게 진행률 추정 전송 - 끊어진 연결은 전송 실패로 정리됨
+     */
+    @Scheduled(fixedDelayString = "${veo.events.progress-interval-millis:5000}")
+    public void publishProgress() {
+        subscriptions.values().forEach(subscribers -> subscribers.forEach(this::sendProgress));
+    }
+
+    /**
+     * 이 노드에 연결된 구독자 수
+     */
+    public int subscriberCount() {
+        return subscriptions.values().stream().mapToInt(List::size).sum();
+    }
+
+    List<Subscription> subscriptionsOf(String operationId) {
+        return subscriptions.getOrDefault(operationId, List.of());
+    }
+
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * 진행률 추정
+     * ✅ 대기 중: 0%와 대기열 순번
+     * ✅ 진행 중: 경과 시간 / 완료 시간 중앙값 (최대 95%), 남은 시간은 중앙값까지 → 넘기면 p95까지 → 넘기면 추정 불가
+     */
+    VeoOperationProgress progressOf(Subscription subscription, LocalDateTime now) {
+        if (subscription.status == VideoGenerationStatus.QUEUED) {
+            int position = admissionController.queuePosition(subscription.operationId);
+            return new VeoOperationProgress(subscription.operationId, subscription.status,
+                    position > 0 ? position : null, 0, 0, null);
+        }
+
+        long elapsedMillis = Math.max(0, Duration.between(subscription.startedAt, now).toMillis());
+        long medianMillis = Math.max(1, completionTimeTracker.expectedCompletionMillis(subscription.key, 0.5));
+        long tailMillis = Math.max(medianMillis, completionTimeTracker.expectedCompletionMillis(subscription.key, 0.95));
+
+        int percent = (int) Math.min(MAX_IN_PROGRESS_PERCENT, elapsedMillis * 100 / medianMillis);
+        Long remainingSeconds = null;
+        if (elapsedMillis < medianMillis) {
+            remainingSeconds = (medianMillis - elapsedMillis + 999) / 1000;
+        } else if (elapsedMillis < tailMillis) {
+            remainingSeconds = (tailMillis - elapsedMillis + 999) / 1000;
+        }
+        return new VeoOperationProgress(subscription.operationId, subscription.status, null,
+                percent, elapsedMillis / 1000, remainingSeconds);
+    }
+
+    private void dispatch(Subscription subscription, VideoGenerationResponse response) {
+        subscription.status = response.status();
+        if (!send(subscription, STATE_EVENT, response)) {
+            return;
+        }
+        if (response.isFinished()) {
+            subscription.emitter.complete();
+            remove(subscription);
+        }
+    }
+
+    private void sendProgress(Subscription subscription) {
+        if (subscription.status == null || subscription.status == VideoGenerationStatus.COMPLETED
+                || subscription.status == VideoGenerationStatus.FAILED) {
+            return;
+        }
+        send(subscription, PROGRESS_EVENT, progressOf(subscription, LocalDateTime.now()));
+    }
+
+    private boolean send(Subscription subscription, String eventName, Object data) {
+        try {
+            subscription.emitter.send(SseEmitter.event().name(eventName).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 종료된 emitter
+            log.debug("SSE 전송 실패 - 작업 ID: {}, 오류: {}", subscription.operationId, e.getMessage());
+            remove(subscription);
+            return false;
+        }
+    }
+
+    private void remove(Subscription subscription) {
+        subscriptions.computeIfPresent(subscription.operationId, (id, subscribers) -> {
+            subscribers.remove(subscription);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /**
+     * 진행 시작 시각 - 마지막 IN_PROGRESS 전이 (재개된 작업 포함), 기록이 없으면 접수 시각
+     */
+    private LocalDateTime startedAtOf(VideoGenerationResponse response) {
+        List<VeoOperationTransition> transitions = operationStore.findTransitions(response.operationId());
+        for (int i = transitions.size() - 1; i >= 0; i--) {
+            if (transitions.get(i).status() == VideoGenerationStatus.IN_PROGRESS) {
+                return transitions.get(i).at();
+            }
+        }
+        return response.createdAt() != null ? response.createdAt() : LocalDateTime.now();
+    }
+
+    static final class Subscription {
+
+        private final String operationId;
+        private final SseEmitter emitter;
+        private final VeoPollingKey key;
+        private volatile VideoGenerationStatus status;
+        private volatile LocalDateTime startedAt = LocalDateTime.now();
+
+        Subscription(String operationId, SseEmitter emitter, VeoPollingKey key) {
+            this.operationId = operationId;
+            this.emitter = emitter;
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package server.veo.service;
+
+import com.google.genai.types.GenerateVideosOperation;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import server.common.CustomException;
+import server.common.ErrorCode;
+import server.veo.backend.VideoGenerationBackend;
+
+/**
+ * 진행 중인 Veo 작업을 한 곳에서 폴링하는 중앙 폴러
+ *
+ * 요청마다 sleep 루프를 돌리는 대신, 단일 스케줄러 스레드가 주기적으로 폴링 시점이 된 작업을 골라
+ * 고정 크기 워커 풀에서 배치 단위로 상태를 조회합니다.
+ * 진행 중인 작업 수와 관계없이 스레드 수는 (스케줄러 1 + 워커 N)으로 고정됩니다.
+ * 작업별 폴링 시점은 VeoCompletionTimeTracker가 학습한 완료 시간 분포로 결정됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VeoOperationPoller {
+
+    private static final int MAX_CONSECUTIVE_POLL_FAILURES = 5;
+
+    private final VideoGenerationBackend videoGenerationBackend;
+    private final VeoCompletionTimeTracker completionTimeTracker;
+
+    @Value("${veo.poller.tick-millis:1000}")
+    private long tickMillis;
+
+    @Value("${veo.poller.batch-size:20}")
+    private int batchSize;
+
+    @Value("${veo.poller.worker-threads:4}")
+    private int workerThreads;
+
+    @Value("${veo.poller.max-wait-seconds:300}")
+    private long maxWaitSeconds;
+
+    private final Map<String, PendingOperation> pendingOperations = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+    private ExecutorService pollWorkers;
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(namedThreadFactory("VeoPoller-scheduler-"));
+        pollWorkers = Executors.newFixedThreadPool(workerThreads, namedThreadFactory("VeoPoller-worker-"));
+        scheduler.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        log.info("⏱️ Veo 작업 폴러 시작 - tick: {}ms, 배치 크기: {}, 워커: {}",
+                tickMillis, batchSize, workerThreads);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+        pollWorkers.shutdownNow();
+    }
+
+    /**
+     * 폴링 대상 작업 등록 - 작업이 완료되면 완료된 operation으로 future가 완료됨
+     *
+     * @param submittedAtMillis Veo에 작업을 제출한 시각 - 회수/재시작으로 재개한 작업도 원래 제출 시각을 넘겨
+     *                          완료 시간 기록과 최대 대기 시간이 재개 시점부터 다시 계산되지 않도록 함
+     */
+    public CompletableFuture<GenerateVideosOperation> register(String operationId, GenerateVideosOperation operation,
+                                                               VeoPollingKey pollingKey, long submittedAtMillis) {
+        long now = System.currentTimeMillis();
+        long registeredAt = Math.min(submittedAtMillis, now);
+        PendingOperation pending = new PendingOperation(
+                operationId,
+                operation,
+                pollingKey,
+                registeredAt,
+                registeredAt + TimeUnit.SECONDS.toMillis(maxWaitSeconds)
+        );
+        // 재개한 작업이 이미 최대 대기 시간을 넘겼으면 다음 tick에 바로 만료 처리
+        pending.nextPollAt = Math.min(pending.deadline,
+                now + completionTimeTracker.nextPollDelayMillis(pollingKey, now - registeredAt));
+
+        pendingOperations.put(operationId, pending);
+        log.info("📝 Veo 작업 폴링 등록 - 작업 ID: {}, 대기 중인 작업 수: {}", operationId, pendingOperations.size());
+        return pending.future;
+    }
+
+    /**
+     * 작업 폴링 중단 - future는 취소 예외로 완료되며, 폴링 중이던 마지막 원격 작업 상태를 반환 (폴링 중이 아니면 empty)
+     */
+    public Optional<GenerateVideosOperation> cancel(String operationId) {
+        PendingOperation pending = pendingOperations.remove(operationId);
+        if (pending == null) {
+            return Optional.empty();
+        }
+        completionTimeTracker.recordPollCount(pending.pollingKey, pending.pollCount);
+        log.info("🛑 Veo 작업 폴링 중단 - 작업 ID: {}, 폴링 횟수: {}", operationId, pending.pollCount);
+        pending.future.completeExceptionally(new CustomException(ErrorCode.VEO_OPERATION_CANCELLED));
+        return Optional.of(pending.operation);
+    }
+
+    /**
+     * 현재 폴링 중인 작업 수
+     */
+    public int pendingCount() {
+        return pendingOperations.size();
+    }
+
+    /**
+     * 스케줄러 tick - 폴링 시점이 된 작업을 배치 크기만큼 골라 워커 풀에 전달
+     */
+    private void tick() {
+        try {
+            long now = System.currentTimeMillis();
+
+            List<PendingOperation> dueOperations = pendingOperations.values().stream()
+                    .filter(pending -> !pending.inFlight && pending.nextPollAt <= now)
+                    .sorted(Comparator.comparingLong(pending -> pending.nextPollAt))
+                    .limit(batchSize)
+                    .toList();
+
+            for (PendingOperation pending : dueOperations) {
+                if (now >= pending.deadline) {
+                    expire(pending);
+                    continue;
+                }
+                pending.inFlight = true;
+                pollWorkers.execute(() -> poll(pending));
+            }
+        } catch (Exception e) {
+            // 스케줄러 스레드가 죽지 않도록 모든 예외를 삼킴
+            log.error("❌ Veo 폴러 tick 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 단일 작업 상태 조회 (워커 스레드)
+     */
+    private void poll(PendingOperation pending) {
+        try {
+            pending.pollCount++;
+            GenerateVideosOperation refreshed = videoGenerationBackend.getVideosOperation(pending.operation);
+            pending.operation = refreshed;
+            pending.consecutiveFailures = 0;
+
+            if (refreshed.done().orElse(false)) {
+                if (!pendingOperations.remove(pending.operationId, pending)) {
+                    return; // 조회 중에 취소된 작업
+                }
+                long durationMillis = System.currentTimeMillis() - pending.registeredAt;
+                completionTimeTracker.recordCompletion(pending.pollingKey, durationMillis);
+                completionTimeTracker.recordPollCount(pending.pollingKey, pending.pollCount);
+                log.info("🎉 비디오 생성 작업 완료 - 작업 ID: {}, 소요: {}초, 폴링 횟수: {}",
+                        pending.operationId, TimeUnit.MILLISECONDS.toSeconds(durationMillis), pending.pollCount);
+                pending.future.complete(refreshed);
+                return;
+            }
+
+            long elapsedSeconds = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - pending.registeredAt);
+            log.info("⏳ 비디오 생성 대기 중... 작업 ID: {}, 경과: {}초, 폴링 횟수: {}",
+                    pending.operationId, elapsedSeconds, pending.pollCount);
+
+        } catch (Exception e) {
+            pending.consecutiveFailures++;
+            log.warn("⚠️ Veo 작업 상태 조회 실패 - 작업 ID: {}, 연속 실패: {}, 오류: {}",
+                    pending.operationId, pending.consecutiveFailures, e.getMessage());
+
+            if (pending.consecutiveFailures >= MAX_CONSECUTIVE_POLL_FAILURES) {
+                pendingOperations.remove(pending.operationId);
+                completionTimeTracker.recordPollCount(pending.pollingKey, pending.pollCount);
+                pending.future.completeExceptionally(
+                        new CustomException(ErrorCode.VEO_VIDEO_GENERATION_FAILED, "작업 상태 조회 실패: " + e.getMessage()));
+                return;
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        pending.nextPollAt = now + completionTimeTracker.nextPollDelayMillis(pending.pollingKey, now - pending.registeredAt);
+        pending.inFlight = false;
+    }
+
+    /**
+     * 최대 대기 시간 초과 작업 정리
+     */
+    private void expire(PendingOperation pending) {
+        pendingOperations.remove(pending.operationId);
+        completionTimeTracker.recordPollCount(pending.pollingKey, pending.pollCount);
+        log.warn("⌛ 비디오 생성 시간 초과 - 작업 ID: {}, 폴링 횟수: {}", pending.operationId, pending.pollCount);
+        pending.future.completeExceptionally(new CustomException(ErrorCode.VEO_OPERATION_TIMEOUT,
+                String.format("비디오 생성 시간 초과 (%d초)", maxWaitSeconds)));
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger(1);
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 폴링 대기 중인 작업 상태
+     * 스케줄러/워커 스레드 간 공유되므로 변경 필드는 volatile로 선언
+     */
+    private static final class PendingOperation {
+        private final String operationId;
+        private final VeoPollingKey pollingKey;
+        private final long registeredAt;
+        private final long deadline;
+        private final CompletableFuture<GenerateVideosOperation> future = new CompletableFuture<>();
+
+        private volatile GenerateVideosOperation operation;
+        private volatile long nextPollAt;
+        private volatile boolean inFlight;
+        private volatile int pollCount;
+        private volatile int consecutiveFailures;
+
+        private PendingOperation(String operationId, GenerateVideosOperation operation, VeoPollingKey pollingKey,
+                                 long registeredAt, long deadline) {
+            this.operationId = operationId;
+            this.operation = operation;
+            this.pollingKey = pollingKey;
+            this.registeredAt = registeredAt;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package server.veo.service;
+
+import java.util.List;
+import server.veo.dto.VideoGenerationResponse;
+
+/**
+ * 작업 레지스트리에 저장된 비디오 생성 작업 정보 - 재시작 후 작업을 이어가는 데 필요한 값들
+ *
+ * @param response      마지막으로 저장된 작업 상태
+ * @param operationName Veo 원격 작업 이름 (아직 Veo에 제출되지 않았으면 null)
+ * @param memberId      요청한 회원 ID (비로그인 요청이면 null)
+ * @param inputUris     입력 이미지 GCS URI 목록
+ */
+public record VeoOperationRecord(
+        VideoGenerationResponse response,
+        String operationName,
+        Long memberId,
+        List<String> inputUris
+) {
+}
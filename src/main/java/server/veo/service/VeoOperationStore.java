@@ -0,0 +1,387 @@
+package server.veo.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import server.common.CustomException;
+import server.common.ErrorCode;
+import server.veo.dto.VeoOperationTransition;
+import server.veo.dto.VideoGenerationResponse;
+import server.veo.dto.VideoGenerationStatus;
+
+/**
+ * 비디오 생성 작업 레지스트리 (Redis)
+ *
+ * 작업 ID별로 최신 VideoGenerationResponse와 함께 Veo 원격 작업 이름, 요청 회원, 입력 이미지 URI,
+ * 상태 전이 이력을 Redis에 보관하여 파드가 재시작되어도 진행 중인 작업을 잃지 않습니다.
+ *
+ * 진행 중인 작업은 담당 노드가 주기적으로 갱신하는 lease를 가지며, lease가 만료된(담당 노드가 사라진)
+ * 작업은 다른 노드가 claimOrphans로 회수하여 폴링을 이어갑니다.
+ * 종료된 작업은 보관 기간이 지나면 Redis TTL로 정리됩니다.
+ * 종료 상태(완료/실패)는 다른 상태로 덮어쓰지 않으므로, 취소(FAILED) 이후 담당 노드가 늦게 저장하는 진행/결과 상태는 버려집니다.
+ * 저장된 상태는 EVENTS_CHANNEL로도 발행되어 SSE 구독자(VeoOperationEvents)에게 전달됩니다.
+ */
+@Component
+@Slf4j
+public class VeoOperationStore {
+
+    private static final String OPERATION_KEY_PREFIX = "veo:operation:";
+    private static final String ACTIVE_OPERATIONS_KEY = "veo:operations:active";
+    // 작업 상태가 저장될 때마다 최신 응답을 발행하는 채널 - 어느 노드에 연결된 SSE 구독자든 전이를 받을 수 있음
+    public static final String EVENTS_CHANNEL = "veo:operations:events";
+    // 작업 취소 요청 채널 - 작업을 담당(폴링)하는 노드가 받아 로컬 폴링과 실행 슬롯을 정리
+    public static final String CANCEL_CHANNEL = "veo:operations:cancel";
+
+    private static final String SUBMITTED_DETAIL_PREFIX = "submitted: ";
+
+    private static final String FIELD_RESPONSE = "response";
+    private static final String FIELD_OPERATION_NAME = "operationName";
+    private static final String FIELD_MEMBER_ID = "memberId";
+    private static final String FIELD_INPUT_URIS = "inputUris";
+
+    /**
+     * 상태 저장 (compare-and-set) - 이미 종료된 작업은 덮어쓰지 않음 (완료 → 완료 갱신만 허용: 메타데이터 후처리)
+     * KEYS: 작업 키 / ARGV: 응답, 상태, COMPLETED, FAILED (모두 해시 값 직렬화 형식, 필드는 response/status)
+     * 반환: -1 거절, 0 같은 상태로 갱신, 1 상태 전이
+     */
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            local previous = redis.call('HGET', KEYS[1], 'status')
+            if previous == ARGV[4] or (previous == ARGV[3] and ARGV[2] ~= ARGV[3]) then
+              return -1
+            end
+            redis.call('HSET', KEYS[1], 'response', ARGV[1], 'status', ARGV[2])
+            if previous == ARGV[2] then
+              return 0
+            end
+            return 1
+            """, Long.class);
+    private static final RedisSerializer<Long> SAVE_RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final HashOperations<String, String, Object> hashOperations;
+    private final String nodeId;
+    private final Duration leaseTtl;
+    private final Duration finishedRetention;
+
+    // 이 노드가 lease를 보유한 진행 중 작업
+    private final Set<String> ownedOperations = ConcurrentHashMap.newKeySet();
+
+    public VeoOperationStore(
+            @Qualifier("updateRedisTemplate") RedisTemplate<String, Object> redisTemplate,
+            @Value("${veo.registry.node-id:${HOSTNAME:}}") String nodeId,
+            @Value("${veo.registry.lease-seconds:30}") long leaseSeconds,
+            @Value("${veo.registry.finished-retention-hours:24}") long finishedRetentionHours
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.hashOperations = redisTemplate.opsForHash();
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : "veo-node-" + UUID.randomUUID().toString().substring(0, 8);
+        this.leaseTtl = Duration.ofSeconds(leaseSeconds);
+        this.finishedRetention = Duration.ofHours(finishedRetentionHours);
+        log.info("🗂️ Veo 작업 레지스트리 노드 ID: {}", this.nodeId);
+    }
+
+    /**
+     * 새 작업 등록 - 요청 회원과 입력 이미지를 함께 저장하고 이 노드가 lease를 가져감
+     */
+    public void register(VideoGenerationResponse response, Long memberId, List<String> inputUris) {
+        String operationId = response.operationId();
+
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(FIELD_INPUT_URIS, new ArrayList<>(inputUris));
+        if (memberId != null) {
+            fields.put(FIELD_MEMBER_ID, String.valueOf(memberId));
+        }
+        hashOperations.putAll(operationKey(operationId), fields);
+
+        if (!response.isFinished()) {
+            redisTemplate.opsForValue().set(leaseKey(operationId), nodeId, leaseTtl);
+            ownedOperations.add(operationId);
+        }
+
+        save(response);
+    }
+
+    /**
+     * 작업 상태 저장 - 상태가 바뀐 경우에만 전이 이력 추가
+     * ✅ 이미 종료된(취소 포함) 작업은 덮어쓰지 않음 - 이 노드가 가진 lease도 정리하여 더 이상 갱신하지 않음
+     *
+     * @return 저장되었는지 여부 (종료된 작업이라 거절되면 false)
+     */
+    public boolean save(VideoGenerationResponse response) {
+        String operationId = response.operationId();
+        Long result = redisTemplate.execute(SAVE_SCRIPT, redisTemplate.getHashValueSerializer(), SAVE_RESULT_SERIALIZER,
+                List.of(operationKey(operationId)),
+                response, response.status().name(),
+                VideoGenerationStatus.COMPLETED.name(), VideoGenerationStatus.FAILED.name());
+
+        if (result != null && result < 0) {
+            log.info("🔒 종료된 Veo 작업 상태 덮어쓰기 거절 - 작업 ID: {}, 저장 시도: {}", operationId, response.status());
+            releaseLease(operationId);
+            redisTemplate.opsForSet().remove(ACTIVE_OPERATIONS_KEY, operationId);
+            return false;
+        }
+
+        if (result != null && result > 0) {
+            appendTransition(operationId, VeoOperationTransition.of(response.status(), response.errorMessage(), nodeId));
+        }
+
+        if (response.isFinished()) {
+            finish(operationId);
+        } else {
+            redisTemplate.opsForSet().add(ACTIVE_OPERATIONS_KEY, operationId);
+        }
+
+        publish(response);
+        return true;
+    }
+
+    /**
+     * 값 역직렬화 - EVENTS_CHANNEL 메시지 본문을 응답으로 변환
+     */
+    public VideoGenerationResponse deserializeEvent(byte[] body) {
+        return (VideoGenerationResponse) redisTemplate.getValueSerializer().deserialize(body);
+    }
+
+    /**
+     * 작업 취소 요청 발행 - 실패해도 취소 상태는 save가 덮어쓰지 않으므로, 담당 노드는 다음 저장 시점에 취소를 확인하고 멈춤
+     */
+    public void publishCancellation(String operationId) {
+        try {
+            redisTemplate.convertAndSend(CANCEL_CHANNEL, operationId);
+        } catch (Exception e) {
+            log.warn("⚠️ Veo 작업 취소 요청 발행 실패 - 작업 ID: {}, 오류: {}", operationId, e.getMessage());
+        }
+    }
+
+    /**
+     * CANCEL_CHANNEL 메시지 본문을 작업 ID로 변환
+     */
+    public String deserializeCancellation(byte[] body) {
+        return (String) redisTemplate.getValueSerializer().deserialize(body);
+    }
+
+    /**
+     * Veo에 제출된 원격 작업 이름 기록 - 재시작 후 이 이름으로 폴링을 이어감
+     */
+    public void markSubmitted(String operationId, String operationName) {
+        hashOperations.put(operationKey(operationId), FIELD_OPERATION_NAME, operationName);
+        appendTransition(operationId,
+                VeoOperationTransition.of(VideoGenerationStatus.IN_PROGRESS, SUBMITTED_DETAIL_PREFIX + operationName, nodeId));
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public Optional<VideoGenerationResponse> findById(String operationId) {
+        Object response = hashOperations.get(operationKey(operationId), FIELD_RESPONSE);
+        return Optional.ofNullable((VideoGenerationResponse) response);
+    }
+
+    /**
+     * 작업 상태 조회 - 없으면 VEO_OPERATION_NOT_FOUND 예외
+     */
+    public VideoGenerationResponse getById(String operationId) {
+        return findById(operationId)
+                .orElseThrow(() -> new CustomException(ErrorCode.VEO_OPERATION_NOT_FOUND));
+    }
+
+    /**
+     * 작업 상세 조회 (원격 작업 이름, 회원, 입력 이미지 포함)
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<VeoOperationRecord> findRecord(String operationId) {
+        Map<String, Object> fields = hashOperations.entries(operationKey(operationId));
+        VideoGenerationResponse response = (VideoGenerationResponse) fields.get(FIELD_RESPONSE);
+        if (response == null) {
+            return Optional.empty();
+        }
+
+        Object memberId = fields.get(FIELD_MEMBER_ID);
+        Object inputUris = fields.get(FIELD_INPUT_URIS);
+        return Optional.of(new VeoOperationRecord(
+                response,
+                (String) fields.get(FIELD_OPERATION_NAME),
+                memberId != null ? Long.valueOf((String) memberId) : null,
+                inputUris != null ? (List<String>) inputUris : List.of()));
+    }
+
+    /**
+     * 상태 전이 이력 조회 (시간순)
+     */
+    public List<VeoOperationTransition> findTransitions(String operationId) {
+        List<Object> transitions = redisTemplate.opsForList().range(transitionsKey(operationId), 0, -1);
+        if (transitions == null) {
+            return List.of();
+        }
+        return transitions.stream()
+                .map(VeoOperationTransition.class::cast)
+                .toList();
+    }
+
+    /**
+     * Veo에 제출된 시각 - 마지막 제출 기록(markSubmitted), 기록이 없으면 접수 시각
+     */
+    public LocalDateTime findSubmittedAt(String operationId) {
+        List<VeoOperationTransition> transitions = findTransitions(operationId);
+        for (int i = transitions.size() - 1; i >= 0; i--) {
+            VeoOperationTransition transition = transitions.get(i);
+            if (transition.detail() != null && transition.detail().startsWith(SUBMITTED_DETAIL_PREFIX)) {
+                return transition.at();
+            }
+        }
+        return findById(operationId)
+                .map(VideoGenerationResponse::createdAt)
+                .orElseGet(LocalDateTime::now);
+    }
+
+    /**
+     * 담당 노드가 사라진 진행 중 작업 회수 - lease를 새로 획득한 작업만 반환
+     * ✅ 같은 노드 ID로 재시작한 경우 남아 있는 자기 lease도 즉시 회수
+     */
+    public List<VeoOperationRecord> claimOrphans() {
+        Set<Object> activeOperationIds = redisTemplate.opsForSet().members(ACTIVE_OPERATIONS_KEY);
+        if (activeOperationIds == null || activeOperationIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<VeoOperationRecord> claimed = new ArrayList<>();
+        for (Object id : activeOperationIds) {
+            String operationId = (String) id;
+            if (ownedOperations.contains(operationId) || !tryAcquireLease(operationId)) {
+                continue;
+            }
+
+            Optional<VeoOperationRecord> record = findRecord(operationId);
+            if (record.isEmpty() || record.get().response().isFinished()) {
+                finish(operationId);
+                continue;
+            }
+
+            ownedOperations.add(operationId);
+            appendTransition(operationId,
+                    VeoOperationTransition.of(record.get().response().status(), "reclaimed", nodeId));
+            claimed.add(record.get());
+        }
+
+        if (!claimed.isEmpty()) {
+            log.info("♻️ 담당 노드가 사라진 Veo 작업 회수 - {}건", claimed.size());
+        }
+        return claimed;
+    }
+
+    /**
+     * 작업 담당 해제 - 다른 노드(또는 다음 회수 주기)가 이어받을 수 있도록 lease 반환
+     */
+    public void releaseLease(String operationId) {
+        ownedOperations.remove(operationId);
+        Object owner = redisTemplate.opsForValue().get(leaseKey(operationId));
+        if (nodeId.equals(owner)) {
+            redisTemplate.delete(leaseKey(operationId));
+        }
+    }
+
+    /**
+     * 이 노드가 담당하는 작업의 lease 갱신
+     */
+    @Scheduled(fixedDelayString = "${veo.registry.lease-renew-millis:10000}")
+    public void renewLeases() {
+        for (String operationId : ownedOperations) {
+            try {
+                Object owner = redisTemplate.opsForValue().get(leaseKey(operationId));
+                if (nodeId.equals(owner)) {
+                    redisTemplate.expire(leaseKey(operationId), leaseTtl);
+                } else {
+                    // 다른 노드가 회수해 간 작업 - 더 이상 이 노드가 담당하지 않음
+                    ownedOperations.remove(operationId);
+                    log.warn("⚠️ Veo 작업 lease 상실 - 작업 ID: {}, 현재 담당: {}", operationId, owner);
+                }
+            } catch (Exception e) {
+                log.warn("⚠️ Veo 작업 lease 갱신 실패 - 작업 ID: {}, 오류: {}", operationId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 종료 시 보유한 lease 반환 - 배포 중 다른 노드가 lease 만료를 기다리지 않고 바로 회수
+     */
+    @PreDestroy
+    public void releaseAllLeases() {
+        for (String operationId : Set.copyOf(ownedOperations)) {
+            try {
+                releaseLease(operationId);
+            } catch (Exception e) {
+                log.warn("⚠️ Veo 작업 lease 반환 실패 - 작업 ID: {}, 오류: {}", operationId, e.getMessage());
+            }
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private boolean tryAcquireLease(String operationId) {
+        String leaseKey = leaseKey(operationId);
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(leaseKey, nodeId, leaseTtl);
+        if (Boolean.TRUE.equals(acquired)) {
+            return true;
+        }
+        if (nodeId.equals(redisTemplate.opsForValue().get(leaseKey))) {
+            redisTemplate.expire(leaseKey, leaseTtl);
+            return true;
+        }
+        return false;
+    }
+
+    private void finish(String operationId) {
+        ownedOperations.remove(operationId);
+        redisTemplate.opsForSet().remove(ACTIVE_OPERATIONS_KEY, operationId);
+        redisTemplate.delete(leaseKey(operationId));
+        redisTemplate.expire(operationKey(operationId), finishedRetention);
+        redisTemplate.expire(transitionsKey(operationId), finishedRetention);
+    }
+
+    private void publish(VideoGenerationResponse response) {
+        try {
+            redisTemplate.convertAndSend(EVENTS_CHANNEL, response);
+        } catch (Exception e) {
+            // 발행 실패는 상태 저장에 영향 없음 - 구독자는 다음 진행 상황 이벤트에서 최신 상태를 다시 읽음
+            log.warn("⚠️ Veo 작업 상태 발행 실패 - 작업 ID: {}, 오류: {}", response.operationId(), e.getMessage());
+        }
+    }
+
+    private void appendTransition(String operationId, VeoOperationTransition transition) {
+        redisTemplate.opsForList().rightPush(transitionsKey(operationId), transition);
+    }
+
+    private static String operationKey(String operationId) {
+        return OPERATION_KEY_PREFIX + operationId;
+    }
+
+    private static String leaseKey(String operationId) {
+        return OPERATION_KEY_PREFIX + operationId + ":lease";
+    }
+
+    private static String transitionsKey(String operationId) {
+        return OPERATION_KEY_PREFIX + operationId + ":transitions";
+    }
+}
@@ -0,0 +1,10 @@
+package server.veo.service;
+
+/**
+ * 완료 시간 분포를 구분하는 키 (Veo 모델, 입력 이미지 개수)
+ */
+public record VeoPollingKey(
+        String model,
+        int imageCount
+) {
+}
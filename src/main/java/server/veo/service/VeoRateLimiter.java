@@ -0,0 +1,234 @@
+package server.veo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import server.common.ErrorCode;
+import server.common.TooManyRequestsException;
+import server.member.entity.MemberRole;
+
+/**
+ * 비디오 생성 요청 속도 제한 (Redis 토큰 버킷)
+ *
+ * 한 회원이 생성을 연달아 요청하여 Veo 할당량을 독차지하지 않도록 회원 ID와 클라이언트 IP별 토큰 버킷으로 제한합니다.
+ * 버킷 크기와 충전 속도는 MemberRole별로 설정하며, IP 버킷은 여러 계정을 돌려 쓰는 경우를 막기 위한 공통 한도입니다.
+ * ✅ 두 버킷의 충전/확인/차감을 Lua 스크립트 한 번으로 처리 - 노드가 여러 대여도 원자적으로 동작
+ * ✅ 시각은 Redis TIME을 사용하여 노드 간 시계 차이의 영향을 받지 않음
+ * ✅ Redis 장애 시에는 생성을 막지 않도록 허용 (fail-open)
+ * ✅ 차감한 토큰은 접수가 실패(대기열 초과, 업로드 실패, 잘못된 입력)하면 Reservation.refund로 돌려줌
+ * ✅ IP 버킷 키는 request.getRemoteAddr() - 클라이언트가 임의로 보내는 X-Forwarded-For를 그대로 믿지 않음
+ *    (로드밸런서 뒤에서는 server.forward-headers-strategy=native와 server.tomcat.remoteip.internal-proxies로
+ *     신뢰할 프록시를 지정하여 원격 주소가 실제 클라이언트 IP가 되도록 설정)
+ */
+@Component
+@Slf4j
+public class VeoRateLimiter {
+
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private static final String MEMBER_KEY_PREFIX = "veo:ratelimit:member:";
+    private static final String IP_KEY_PREFIX = "veo:ratelimit:ip:";
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
+
+    /**
+     * KEYS: 버킷 키 목록 / ARGV: 키별 (버킷 크기, ms당 충전 토큰 수)
+     * 반환: "허용 여부(1/0) 키별 남은 토큰 수... 재시도까지 남은 ms" (공백 구분 정수)
+     * 모든 버킷에 토큰이 1개 이상 있을 때만 모든 버킷에서 1개씩 차감
+     */
+    private static final RedisScript<String> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local tokens = {}
+            local allowed = 1
+            local retryAfter = 0
+            for i, key in ipairs(KEYS) do
+              local capacity = tonumber(ARGV[i * 2 - 1])
+              local refill = tonumber(ARGV[i * 2])
+              local state = redis.call('HMGET', key, 'tokens', 'ts')
+              local current = tonumber(state[1]) or capacity
+              local updatedAt = tonumber(state[2]) or now
+              current = math.min(capacity, current + math.max(0, now - updatedAt) * refill)
+              tokens[i] = current
+              if current < 1 then
+                allowed = 0
+                retryAfter = math.max(retryAfter, math.ceil((1 - current) / refill))
+              end
+            end
+            local result = {allowed}
+            for i, key in ipairs(KEYS) do
+              local capacity = tonumber(ARGV[i * 2 - 1])
+              local refill = tonumber(ARGV[i * 2])
+              if allowed == 1 then
+                tokens[i] = tokens[i] - 1
+              end
+              redis.call('HSET', key, 'tokens', tostring(tokens[i]), 'ts', tostring(now))
+              redis.call('PEXPIRE', key, math.ceil(capacity / refill))
+              result[#result + 1] = string.format('%d', math.floor(tokens[i]))
+            end
+            result[#result + 1] = string.format('%d', retryAfter)
+            return table.concat(result, ' ')
+            """, String.class);
+
+    /**
+     * KEYS: 버킷 키 목록 / ARGV: 키별 버킷 크기
+     * 차감했던 토큰 1개를 버킷 크기를 넘지 않게 되돌림 (만료된 버킷은 이미 가득 찬 것으로 보므로 그대로 둠)
+     */
+    private static final RedisScript<Long> REFUND_SCRIPT = new DefaultRedisScript<>("""
+            for i, key in ipairs(KEYS) do
+              local current = tonumber(redis.call('HGET', key, 'tokens'))
+              if current then
+                redis.call('HSET', key, 'tokens', tostring(math.min(tonumber(ARGV[i]), current + 1)))
+              end
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final Map<MemberRole, BucketLimit> memberLimits = new EnumMap<>(MemberRole.class);
+    private final BucketLimit ipLimit;
+
+    private final Counter limitedCounter;
+
+    public VeoRateLimiter(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${veo.rate-limit.enabled:true}") boolean enabled,
+            @Value("${veo.rate-limit.user.capacity:3}") long userCapacity,
+            @Value("${veo.rate-limit.user.refill-per-hour:10}") long userRefillPerHour,
+            @Value("${veo.rate-limit.admin.capacity:30}") long adminCapacity,
+            @Value("${veo.rate-limit.admin.refill-per-hour:300}") long adminRefillPerHour,
+            @Value("${veo.rate-limit.ip.capacity:10}") long ipCapacity,
+            @Value("${veo.rate-limit.ip.refill-per-hour:30}") long ipRefillPerHour
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        memberLimits.put(MemberRole.USER, new BucketLimit(userCapacity, userRefillPerHour));
+        memberLimits.put(MemberRole.ADMIN, new BucketLimit(adminCapacity, adminRefillPerHour));
+        this.ipLimit = new BucketLimit(ipCapacity, ipRefillPerHour);
+        this.limitedCounter = Counter.builder("veo.rate.limited")
+                .description("속도 제한으로 거절된 비디오 생성 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 생성 요청 1건만큼 토큰 차감 - 남은 한도 헤더를 응답에 쓰고, 한도를 넘었으면 429 (Retry-After 포함)
+     *
+     * @return 차감한 토큰 - 접수가 실패하면 refund로 돌려줌
+     */
+    public Reservation consume(Authentication authentication, String clientIp, HttpServletResponse response) {
+        if (!enabled || authentication == null || !(authentication.getPrincipal() instanceof Long memberId)) {
+            return Reservation.NONE;
+        }
+        BucketLimit memberLimit = memberLimits.get(roleOf(authentication));
+
+        Quota quota = tryConsume(memberId, memberLimit, clientIp);
+        response.setHeader(LIMIT_HEADER, String.valueOf(memberLimit.capacity()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(quota.remaining()));
+
+        if (!quota.allowed()) {
+            limitedCounter.increment();
+            log.warn("🚫 비디오 생성 속도 제한 - 회원 ID: {}, IP: {}, 재시도 권장: {}초",
+                    memberId, clientIp, quota.retryAfterSeconds());
+            throw new TooManyRequestsException(ErrorCode.VEO_RATE_LIMIT_EXCEEDED, quota.retryAfterSeconds());
+        }
+        return () -> refund(memberId, memberLimit, clientIp);
+    }
+
+    Quota tryConsume(Long memberId, BucketLimit memberLimit, String clientIp) {
+        String result;
+        try {
+            result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT,
+                    List.of(MEMBER_KEY_PREFIX + memberId, IP_KEY_PREFIX + clientIp),
+                    String.valueOf(memberLimit.capacity()), memberLimit.refillPerMillisArg(),
+                    String.valueOf(ipLimit.capacity()), ipLimit.refillPerMillisArg());
+        } catch (Exception e) {
+            log.warn("⚠️ 속도 제한 확인 실패 - 허용 처리, 회원 ID: {}, 오류: {}", memberId, e.getMessage());
+            return new Quota(true, memberLimit.capacity(), 0);
+        }
+
+        String[] values = result.split(" ");
+        boolean allowed = Long.parseLong(values[0]) == 1;
+        long memberRemaining = Long.parseLong(values[1]);
+        long ipRemaining = Long.parseLong(values[2]);
+        long retryAfterMillis = Long.parseLong(values[3]);
+        return new Quota(allowed, Math.max(0, Math.min(memberRemaining, ipRemaining)),
+                Math.max(1, (retryAfterMillis + 999) / 1000));
+    }
+
+    void refund(Long memberId, BucketLimit memberLimit, String clientIp) {
+        try {
+            redisTemplate.execute(REFUND_SCRIPT,
+                    List.of(MEMBER_KEY_PREFIX + memberId, IP_KEY_PREFIX + clientIp),
+                    String.valueOf(memberLimit.capacity()), String.valueOf(ipLimit.capacity()));
+        } catch (Exception e) {
+            log.warn("⚠️ 속도 제한 토큰 반환 실패 - 회원 ID: {}, 오류: {}", memberId, e.getMessage());
+        }
+    }
+
+    /**
+     * 인증 정보의 회원 등급 - 비로그인이거나 알 수 없으면 USER
+     */
+    public static MemberRole roleOf(Authentication authentication) {
+        if (authentication == null) {
+            return MemberRole.USER;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            for (MemberRole role : MemberRole.values()) {
+                if (role.name().equals(authority.getAuthority()) || role.getRole().equals(authority.getAuthority())) {
+                    return role;
+                }
+            }
+        }
+        return MemberRole.USER;
+    }
+
+    /**
+     * 차감한 요청 토큰 - 접수가 실패하면 돌려줌 (차감하지 않은 요청은 NONE)
+     */
+    @FunctionalInterface
+    public interface Reservation {
+
+        Reservation NONE = () -> {
+        };
+
+        void refund();
+    }
+
+    /**
+     * 버킷 설정 - 최대 토큰 수(연속 요청 허용량)와 시간당 충전량
+     * ✅ 충전량이 0 이하면 스크립트에서 0으로 나누어 오류가 나고 fail-open으로 모든 요청이 허용되므로 기동 시 거절
+     */
+    record BucketLimit(long capacity, long refillPerHour) {
+
+        BucketLimit {
+            if (capacity <= 0 || refillPerHour <= 0) {
+                throw new IllegalArgumentException(String.format(
+                        "veo.rate-limit 버킷 크기와 시간당 충전량은 0보다 커야 합니다 (capacity: %d, refill-per-hour: %d)",
+                        capacity, refillPerHour));
+            }
+        }
+
+        String refillPerMillisArg() {
+            return String.valueOf((double) refillPerHour / MILLIS_PER_HOUR);
+        }
+    }
+
+    /**
+     * 토큰 차감 결과 - remaining은 회원/IP 버킷 중 작은 값
+     */
+    record Quota(boolean allowed, long remaining, long retryAfterSeconds) {
+    }
+}
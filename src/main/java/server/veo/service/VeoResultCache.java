@@ -0,0 +1,93 @@
+package server.veo.service;
+
+import com.google.genai.types.GenerateVideosConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import server.veo.dto.GeneratedVideo;
+import server.veo.util.DigestingChannel;
+
+/**
+ * Veo 생성 결과 캐시
+ *
+ * (입력 이미지 콘텐츠, 향상된 프롬프트, GenerateVideosConfig, 모델)이 같으면 seed가 고정되어 있어 같은 비디오가 생성되므로
+ * 이전 결과를 그대로 반환합니다. RedisConfig의 CacheManager에 별도 TTL 영역(veoGeneratedVideo)으로 저장됩니다.
+ * 캐시 장애는 생성 자체를 막지 않도록 miss로 처리합니다.
+ */
+@Component
+@Slf4j
+public class VeoResultCache {
+
+    public static final String CACHE_NAME = "veoGeneratedVideo";
+
+    private final CacheManager cacheManager;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public VeoResultCache(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.hitCounter = Counter.builder("veo.result.cache")
+                .description("Veo 생성 결과 캐시 조회 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("veo.result.cache")
+                .description("Veo 생성 결과 캐시 조회 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 키 생성 - 입력 요소들을 정규화하여 SHA-256으로 요약
+     * 입력 이미지 URI는 콘텐츠 해시 기반 경로(veo-images/sha256/...)이므로 이미지 내용을 식별합니다.
+     */
+    public static String keyOf(String model, String enhancedPrompt, GenerateVideosConfig config, List<String> imageUris) {
+        String canonical = String.join("\n",
+                model,
+                enhancedPrompt,
+                config.toJson(),
+                String.join(",", imageUris));
+
+        return DigestingChannel.sha256Hex(canonical.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 캐시된 생성 결과 조회
+     */
+    public Optional<GeneratedVideo> find(String cacheKey) {
+        try {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            GeneratedVideo video = cache != null ? cache.get(cacheKey, GeneratedVideo.class) : null;
+
+            if (video != null) {
+                hitCounter.increment();
+                log.info("⚡ 생성 결과 캐시 적중 - 키: {}", cacheKey);
+                return Optional.of(video);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 생성 결과 캐시 조회 실패 - 키: {}, 오류: {}", cacheKey, e.getMessage());
+        }
+
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 생성 결과 저장
+     */
+    public void put(String cacheKey, GeneratedVideo video) {
+        try {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache != null) {
+                cache.put(cacheKey, video);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 생성 결과 캐시 저장 실패 - 키: {}, 오류: {}", cacheKey, e.getMessage());
+        }
+    }
+}
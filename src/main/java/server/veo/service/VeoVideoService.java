@@ -5,80 +5,478 @@ import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageException;
 import com.google.cloud.storage.StorageOptions;
-import com.google.genai.Client;
+import com.google.genai.errors.ApiException;
 import com.google.genai.types.GenerateVideosConfig;
 import com.google.genai.types.GenerateVideosOperation;
 import com.google.genai.types.Image;
 import com.google.genai.types.Video;
+import jakarta.annotation.PostConstruct;
 import java.net.URL;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import server.common.CustomException;
+import server.common.ErrorCode;
+import server.member.entity.MemberRole;
+import server.veo.backend.VideoGenerationBackend;
 import server.veo.dto.GeneratedVideo;
 import server.veo.dto.VideoGenerationRequest;
 import server.veo.dto.VideoGenerationResponse;
+import server.veo.dto.VideoGenerationStatus;
 
 /**
- * 해커톤용 간단한 동기식 Veo 비디오 생성 서비스
- * 복잡한 비동기, Redis, SSE 기능 없이 가장 단순하게 구현
+ * Veo 비디오 생성 서비스
  *
  * ✅ 클라이언트에서 직접 업로드한 이미지 파일을 GCS에 저장 후 비디오 생성
+ * ✅ 요청 시에는 작업만 접수하고 즉시 반환, 생성/대기는 veoExecutor에서 진행
+ * ✅ 동시 실행 수는 VeoAdmissionController가 제한
+ * ✅ 취소 요청은 CANCEL_CHANNEL로 전파되어 작업을 담당하는 노드가 폴링과 실행 슬롯을 정리
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class VeoVideoService {
 
-    private final Client genAiClient;
+    private final VideoGenerationBackend videoGenerationBackend;
     private final GcsImageUploadService gcsImageUploadService;
+    private final VeoOperationStore operationStore;
+    private final VeoOperationPoller operationPoller;
+    private final VeoResultCache resultCache;
+    private final VeoAdmissionController admissionController;
+    private final GcsVideoCacheService gcsVideoCacheService;
+    private final VideoMetadataService videoMetadataService;
+    private final ImageUploadUrlService imageUploadUrlService;
+    private final VeoIdempotencyService idempotencyService;
+    private final RedisMessageListenerContainer listenerContainer;
     // ✅ VideoStorageService 제거 - storageUri 사용으로 불필요
     
     @Value("${google.cloud.storage.bucket}")
     private String gcsBucketName;
     
     // ✅ 안정적인 Veo 2.0 모델 사용 (404 오류 방지)
-    private static final String VEO_MODEL = "veo-3.0-generate-preview"; // ✅ Veo 3.0
+    static final String VEO_MODEL = "veo-3.0-generate-preview"; // ✅ Veo 3.0
     // 🔄 Fallback 모델 옵션들:
     // - "veo-3.0-generate-preview" (Preview, us-central1/us-east5만 지원)
     // - "veo-3.0-generate-001" (최신 GA, 제한적 지역 지원)
 
-    private static final int MAX_WAIT_SECONDS = 300; // 5분 최대 대기
+    private static final String DEFAULT_PROMPT = "음식점 홍보 숏폼 만들어줘";
+
+    @PostConstruct
+    void listenForCancellations() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                cancelLocally(operationStore.deserializeCancellation(message.getBody()));
+            } catch (Exception e) {
+                log.warn("⚠️ Veo 작업 취소 요청 처리 실패 - 오류: {}", e.getMessage());
+            }
+        }, new ChannelTopic(VeoOperationStore.CANCEL_CHANNEL));
+    }
 
     /**
-     * 동기식 비디오 생성 - 완료될 때까지 기다렸다가 결과 반환
-     * ✅ 클라이언트 이미지 파일 → GCS 업로드 → 비디오 생성
+     * 비디오 생성 작업 접수 - 이미지 업로드 후 즉시 IN_PROGRESS(또는 QUEUED) 응답 반환
+     * ✅ MultipartFile은 요청이 끝나면 정리되므로 GCS 업로드까지는 요청 스레드에서 처리
+     * ✅ Veo 호출은 veoExecutor에서, 완료 대기는 VeoOperationPoller에서 진행
+     * ✅ 동시 실행 한도와 대기열이 모두 차 있으면 업로드 전에 429로 거절
+     * ✅ Idempotency-Key가 이미 쓰인 키면 새 작업 없이 원래 작업의 현재 상태 반환
+     *
+     * @param memberRole 회원 등급 - 대기열 공정 분배 가중치
+     * @param rateLimit  요청 한도 차감 - 새 작업을 만들 때만 호출 (멱등 재전송은 한도를 쓰지 않음), 접수가 실패하면 반환
      */
-    public VideoGenerationResponse generate(VideoGenerationRequest request) {
-        String operationId = generateOperationId();
-        String prompt = "음식점 홍보 숏폼 만들어줘";
-        log.info("🎬 비디오 생성 시작 - 작업 ID: {}, 프롬프트: {}, 이미지 개수: {}",
-                operationId, prompt,
-                request.imageFiles() != null ? request.imageFiles().length : 0);
+    public VideoGenerationResponse submit(VideoGenerationRequest request, Long memberId, MemberRole memberRole,
+                                          String idempotencyKey, Supplier<VeoRateLimiter.Reservation> rateLimit) {
+        String fingerprint = idempotencyKey != null ? idempotencyService.fingerprintOf(request.imageFiles()) : null;
+
+        return idempotencyService.execute(idempotencyKey, memberId, fingerprint, generateOperationId(),
+                operationId -> {
+                    log.info("🎬 비디오 생성 접수 - 작업 ID: {}, 회원 ID: {}, 이미지 개수: {}",
+                            operationId,
+                            memberId,
+                            request.imageFiles() != null ? request.imageFiles().length : 0);
+
+                    return admit(operationId, memberId, memberRole, rateLimit, () -> {
+                        // ✅ 1. 이미지 파일을 GCS에 업로드
+                        List<String> gcsImageUris = uploadImagesToGcs(request.imageFiles());
+                        log.info("🔄 이미지 GCS 업로드 완료 - 업로드된 개수: {}", gcsImageUris.size());
+                        return gcsImageUris;
+                    });
+                },
+                this::findOperation);
+    }
 
-        // ✅ 1. 이미지 파일을 GCS에 업로드
-        List<String> gcsImageUris = uploadImagesToGcs(request.imageFiles());
-        log.info("🔄 이미지 GCS 업로드 완료 - 업로드된 개수: {}", gcsImageUris.size());
+    /**
+     * 직접 업로드한 이미지로 비디오 생성 작업 접수
+     * ✅ 이미지는 클라이언트가 서명된 URL로 객체 저장소에 올려두었으므로 객체 참조만 검증 (이미지 바이트는 서버를 거치지 않음)
+     */
+    public VideoGenerationResponse submitUploaded(List<String> objectNames, Long memberId, MemberRole memberRole,
+                                                  String idempotencyKey, Supplier<VeoRateLimiter.Reservation> rateLimit) {
+        String fingerprint = idempotencyKey != null ? idempotencyService.fingerprintOf(objectNames) : null;
+
+        return idempotencyService.execute(idempotencyKey, memberId, fingerprint, generateOperationId(),
+                operationId -> {
+                    log.info("🎬 비디오 생성 접수 (직접 업로드) - 작업 ID: {}, 회원 ID: {}, 이미지 개수: {}",
+                            operationId, memberId, objectNames.size());
+
+                    return admit(operationId, memberId, memberRole, rateLimit,
+                            () -> imageUploadUrlService.resolve(objectNames, memberId));
+                },
+                this::findOperation);
+    }
 
-        // 2. 설정 준비 - ✅ GCS에 직접 저장하도록 storageUri 설정
-        String storageUri = String.format("gs://%s/videos/", gcsBucketName);
-        GenerateVideosConfig config = GenerateVideosConfig.builder()
-                .aspectRatio("16:9")
-                .seed(8)
-                .generateAudio(true)
-                .outputGcsUri(storageUri)  // ✅ Veo가 직접 GCS에 저장
-                .build();
+    /**
+     * 요청 한도 차감 → 실행 슬롯 확보 → 입력 준비 → 작업 등록
+     * ✅ 한도는 업로드 전에 차감하여 한도를 넘은 요청이 업로드 비용을 쓰지 않게 하고,
+     *    이후 단계(대기열 초과, 업로드 실패, 잘못된 입력)에서 실패하면 돌려줌
+     */
+    private VideoGenerationResponse admit(String operationId, Long memberId, MemberRole memberRole,
+                                          Supplier<VeoRateLimiter.Reservation> rateLimit,
+                                          Supplier<List<String>> imageUris) {
+        VeoRateLimiter.Reservation reservation = rateLimit.get();
+        try {
+            VeoAdmissionController.Ticket ticket = admissionController.acquire(operationId, memberId, memberRole);
+            boolean dispatched = false;
+            try {
+                VideoGenerationResponse response = submit(imageUris.get(), memberId, operationId, ticket);
+                dispatched = !response.isFinished();
+                return response;
+            } finally {
+                if (!dispatched) {
+                    admissionController.release(ticket);
+                }
+            }
+        } catch (RuntimeException e) {
+            reservation.refund();
+            throw e;
+        }
+    }
 
-        log.info("🗄️ Veo 비디오 저장 위치: {}", storageUri);
+    private VideoGenerationResponse submit(List<String> gcsImageUris, Long memberId, String operationId,
+                                           VeoAdmissionController.Ticket ticket) {
+
+        if (gcsImageUris.isEmpty()) {
+            throw new CustomException(ErrorCode.VEO_INVALID_IMAGE_URL, "업로드된 이미지가 없습니다.");
+        }
+
+        // 2. 설정 준비 및 결과 캐시 확인 - 같은 입력이면 Veo 호출 없이 이전 결과 반환
+        String enhancedPrompt = enhancePromptWithMultipleImages(DEFAULT_PROMPT, gcsImageUris);
+        GenerateVideosConfig config = buildVideosConfig();
+        String cacheKey = VeoResultCache.keyOf(VEO_MODEL, enhancedPrompt, config, gcsImageUris);
+
+        VideoGenerationResponse accepted = VideoGenerationResponse.inProgress(operationId, DEFAULT_PROMPT);
+
+        Optional<GeneratedVideo> cachedVideo = resultCache.find(cacheKey);
+        if (cachedVideo.isPresent()) {
+            VideoGenerationResponse completed = accepted.complete(cachedVideo.get());
+            operationStore.register(completed, memberId, gcsImageUris);
+            log.info("⚡ 캐시된 비디오 반환 - 작업 ID: {}", operationId);
+            return completed;
+        }
+
+        int queuePosition = admissionController.queuePosition(operationId);
+        VideoGenerationResponse submitted = queuePosition > 0 ? accepted.queued(queuePosition) : accepted;
+        operationStore.register(submitted, memberId, gcsImageUris);
+
+        admissionController.dispatch(ticket,
+                () -> generate(accepted, ticket, gcsImageUris, enhancedPrompt, config, cacheKey));
+
+        return submitted;
+    }
+
+    /**
+     * 작업 상태 조회 - 대기 중인 작업은 현재 대기열 순번을 함께 반환
+     * ✅ 다른 회원의 작업은 조회할 수 없음 (403)
+     */
+    public VideoGenerationResponse getOperation(String operationId, Long memberId) {
+        VeoOperationRecord record = findOwnedRecord(operationId, memberId);
+        return withCurrentQueuePosition(record.response());
+    }
+
+    private Optional<VideoGenerationResponse> findOperation(String operationId) {
+        return operationStore.findById(operationId).map(this::withCurrentQueuePosition);
+    }
+
+    private VideoGenerationResponse withCurrentQueuePosition(VideoGenerationResponse response) {
+        if (response.status() != VideoGenerationStatus.QUEUED) {
+            return response;
+        }
+
+        int queuePosition = admissionController.queuePosition(response.operationId());
+        return queuePosition > 0 ? response.withQueuePosition(queuePosition) : response;
+    }
+
+    /**
+     * 비디오 생성 작업 취소 - 취소 사유와 함께 FAILED로 저장하고, 담당 노드에 폴링 중단과 슬롯 반환을 요청
+     * ✅ 이미 종료된 작업은 현재 상태를 그대로 반환 (중복 취소 안전)
+     * ✅ 원격 작업 취소는 백엔드가 지원하는 경우에만 시도 (Vertex SDK는 미지원)
+     */
+    public VideoGenerationResponse cancel(String operationId, Long memberId) {
+        VeoOperationRecord record = findOwnedRecord(operationId, memberId);
+        if (record.response().isFinished()) {
+            return record.response();
+        }
+
+        // 먼저 종료 상태로 저장 - 회수 대상에서 빠지고, 담당 노드의 이후 저장(진행/결과)은 레지스트리가 거절함
+        VideoGenerationResponse cancelled = record.response().fail(ErrorCode.VEO_OPERATION_CANCELLED.getMessage());
+        if (!operationStore.save(cancelled)) {
+            return operationStore.getById(operationId); // 그 사이에 종료된 작업
+        }
+        log.info("🛑 비디오 생성 작업 취소 - 작업 ID: {}, 회원 ID: {}", operationId, memberId);
+
+        cancelLocally(operationId);
+        operationStore.publishCancellation(operationId);
+        return cancelled;
+    }
+
+    /**
+     * 요청 회원의 작업 조회 - 없으면 404, 다른 회원의 작업이면 403 (비로그인으로 접수된 작업은 누구나 접근)
+     */
+    private VeoOperationRecord findOwnedRecord(String operationId, Long memberId) {
+        VeoOperationRecord record = operationStore.findRecord(operationId)
+                .orElseThrow(() -> new CustomException(ErrorCode.VEO_OPERATION_NOT_FOUND));
+        if (record.memberId() != null && !record.memberId().equals(memberId)) {
+            throw new CustomException(ErrorCode.VEO_OPERATION_FORBIDDEN);
+        }
+        return record;
+    }
+
+    /**
+     * 이 노드가 담당하는 작업이면 폴링을 멈추고 실행 슬롯(또는 대기열 자리)을 반환 (중복 호출 안전)
+     */
+    private void cancelLocally(String operationId) {
+        boolean released = admissionController.cancel(operationId);
+        Optional<GenerateVideosOperation> polled = operationPoller.cancel(operationId);
+        polled.ifPresent(operation -> cancelRemotely(operationId, operation));
+        if (released || polled.isPresent()) {
+            log.info("🛑 비디오 생성 작업 로컬 정리 완료 - 작업 ID: {}", operationId);
+        }
+    }
+
+    private void cancelRemotely(String operationId, GenerateVideosOperation operation) {
+        try {
+            if (!videoGenerationBackend.cancelVideosOperation(operation)) {
+                log.info("ℹ️ 원격 Veo 작업 취소 미지원 - 작업 ID: {}, 결과는 폐기됨", operationId);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 원격 Veo 작업 취소 실패 - 작업 ID: {}, 오류: {}", operationId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 요청(취소)으로 이미 종료 상태가 저장된 작업인지 여부
+     */
+    private boolean isFinishedElsewhere(String operationId) {
+        return operationStore.findById(operationId).map(VideoGenerationResponse::isFinished).orElse(false);
+    }
+
+    /**
+     * 담당 노드가 사라진(재시작/배포) 작업 회수 - 시작 직후와 이후 주기적으로 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${veo.registry.reclaim-interval-millis:30000}",
+            fixedDelayString = "${veo.registry.reclaim-interval-millis:30000}")
+    public void resumeOrphanedOperations() {
+        List<VeoOperationRecord> orphans;
+        try {
+            orphans = operationStore.claimOrphans();
+        } catch (Exception e) {
+            log.warn("⚠️ 회수할 Veo 작업 조회 실패 - 오류: {}", e.getMessage());
+            return;
+        }
+
+        for (VeoOperationRecord orphan : orphans) {
+            String operationId = orphan.response().operationId();
+            try {
+                resume(orphan);
+            } catch (Exception e) {
+                // 다음 회수 주기에 다시 시도되도록 lease 반환
+                log.error("❌ Veo 작업 재개 실패 - 작업 ID: {}, 오류: {}", operationId, e.getMessage(), e);
+                operationStore.releaseLease(operationId);
+            }
+        }
+    }
+
+    /**
+     * 회수한 작업 재개
+     * ✅ Veo에 이미 제출된 작업은 원격 작업 이름으로 폴링만 이어감 (재생성하지 않음)
+     * ✅ 제출 전이었던 작업은 저장된 입력 이미지로 다시 대기열에 넣음
+     */
+    private void resume(VeoOperationRecord orphan) {
+        VideoGenerationResponse response = orphan.response();
+        String operationId = response.operationId();
+        List<String> gcsImageUris = orphan.inputUris();
+
+        String enhancedPrompt = enhancePromptWithMultipleImages(DEFAULT_PROMPT, gcsImageUris);
+        GenerateVideosConfig config = buildVideosConfig();
+        String cacheKey = VeoResultCache.keyOf(VEO_MODEL, enhancedPrompt, config, gcsImageUris);
+        VideoGenerationResponse accepted = response.status() == VideoGenerationStatus.QUEUED ? response.start() : response;
+
+        if (orphan.operationName() != null) {
+            log.info("♻️ Veo 작업 폴링 재개 - 작업 ID: {}, 원격 작업: {}", operationId, orphan.operationName());
+            VeoAdmissionController.Ticket ticket = admissionController.acquireReclaimed(operationId, orphan.memberId(), true);
+            GenerateVideosOperation operation = GenerateVideosOperation.builder()
+                    .name(orphan.operationName())
+                    .build();
+            // 원래 제출 시각부터 경과 시간을 계산 (완료 시간 학습과 최대 대기 시간이 재개 시점으로 초기화되지 않도록)
+            long submittedAtMillis = operationStore.findSubmittedAt(operationId)
+                    .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            awaitCompletion(accepted, ticket, operation, gcsImageUris.size(), cacheKey, submittedAtMillis);
+            return;
+        }
+
+        Optional<GeneratedVideo> cachedVideo = resultCache.find(cacheKey);
+        if (cachedVideo.isPresent()) {
+            operationStore.save(accepted.complete(cachedVideo.get()));
+            return;
+        }
+
+        log.info("♻️ 제출 전 Veo 작업 재접수 - 작업 ID: {}", operationId);
+        VeoAdmissionController.Ticket ticket = admissionController.acquireReclaimed(operationId, orphan.memberId(), false);
+        int queuePosition = admissionController.queuePosition(operationId);
+        if (!operationStore.save(queuePosition > 0 ? accepted.queued(queuePosition) : accepted)) {
+            admissionController.release(ticket); // 회수하는 사이에 취소된 작업
+            return;
+        }
+        admissionController.dispatch(ticket,
+                () -> generate(accepted, ticket, gcsImageUris, enhancedPrompt, config, cacheKey));
+    }
+
+    /**
+     * 비디오 생성 실행 - Veo에 작업을 제출하고 폴러에 완료 대기를 위임
+     * ✅ veoExecutor 스레드는 제출 직후 반환되며, 결과 처리는 폴러가 future를 완료할 때 진행
+     */
+    private void generate(VideoGenerationResponse accepted, VeoAdmissionController.Ticket ticket,
+                          List<String> gcsImageUris, String enhancedPrompt, GenerateVideosConfig config,
+                          String cacheKey) {
+        String operationId = accepted.operationId();
+        if (admissionController.isReleased(ticket)) {
+            log.info("🛑 취소된 작업 실행 생략 - 작업 ID: {}", operationId);
+            return;
+        }
+        // 저장된 상태 확인 겸 진행 상태 저장 - 다른 노드에서 취소되어 종료 상태면 거절됨 (취소 알림이 유실되어도 실행하지 않음)
+        if (!operationStore.save(accepted)) {
+            log.info("🛑 이미 종료된 작업 실행 생략 - 작업 ID: {}", operationId);
+            admissionController.release(ticket);
+            return;
+        }
 
-        // 3. 이미지 처리 및 비디오 생성
         GenerateVideosOperation operation;
+        try {
+            operation = startGeneration(operationId, enhancedPrompt, config, gcsImageUris);
+        } catch (Exception e) {
+            log.error("❌ 비디오 생성 요청 실패 - 작업 ID: {}, 오류: {}", operationId, e.getMessage(), e);
+            admissionController.release(ticket);
+            operationStore.save(accepted.fail(isQuotaExceeded(e)
+                    ? ErrorCode.VEO_API_QUOTA_EXCEEDED.getMessage()
+                    : e.getMessage()));
+            return;
+        }
+
+        // ✅ 재시작 후에도 폴링을 이어갈 수 있도록 원격 작업 이름을 레지스트리에 기록
+        operation.name().ifPresent(name -> operationStore.markSubmitted(operationId, name));
+
+        // 제출하는 동안 취소된 작업 (이 노드 또는 취소 알림을 받지 못한 다른 노드) - 폴링하지 않고 원격 작업만 취소 시도
+        if (admissionController.isReleased(ticket) || isFinishedElsewhere(operationId)) {
+            admissionController.release(ticket);
+            operationStore.releaseLease(operationId);
+            cancelRemotely(operationId, operation);
+            return;
+        }
+
+        awaitCompletion(accepted, ticket, operation, gcsImageUris.size(), cacheKey, System.currentTimeMillis());
+    }
+
+    /**
+     * 완료 대기 - 중앙 폴러에 등록하고 결과를 저장
+     */
+    private void awaitCompletion(VideoGenerationResponse accepted, VeoAdmissionController.Ticket ticket,
+                                 GenerateVideosOperation operation, int imageCount, String cacheKey,
+                                 long submittedAtMillis) {
+        String operationId = accepted.operationId();
+
+        // 4. 완료 대기 - 중앙 폴러에 등록
+        operationPoller.register(operationId, operation, new VeoPollingKey(VEO_MODEL, imageCount), submittedAtMillis)
+                .thenApply(this::processResults) // 5. 결과 처리
+                .whenComplete((video, throwable) -> {
+                    admissionController.release(ticket);
+
+                    // 취소된 작업 - 취소 상태를 결과로 덮어쓰지 않음
+                    if (isFinishedElsewhere(operationId)) {
+                        log.info("🛑 취소된 작업의 결과 폐기 - 작업 ID: {}", operationId);
+                        return;
+                    }
+
+                    if (throwable != null) {
+                        Throwable cause = throwable.getCause() != null ? throwable.getCause() : throwable;
+                        log.error("❌ 비디오 생성 실패 - 작업 ID: {}, 오류: {}", operationId, cause.getMessage(), cause);
+                        operationStore.save(accepted.fail(cause.getMessage()));
+                        return;
+                    }
+
+                    log.info("✅ 비디오 생성 완료 - 작업 ID: {}, 생성된 비디오: {}",
+                            operationId, video != null ? "성공" : "실패");
+
+                    if (video != null) {
+                        resultCache.put(cacheKey, video);
+                    }
+
+                    VideoGenerationResponse finished = video != null
+                            ? accepted.complete(video)
+                            : accepted.fail(ErrorCode.VEO_VIDEO_GENERATION_FAILED.getMessage());
+                    if (operationStore.save(finished) && video != null) {
+                        enrichMetadata(finished, cacheKey);
+                    }
+                });
+    }
+
+    /**
+     * 6. 메타데이터 후처리 - 완료 응답을 먼저 저장한 뒤 백그라운드에서 크기/재생 길이/포스터를 채워 다시 저장
+     */
+    private void enrichMetadata(VideoGenerationResponse completed, String cacheKey) {
+        videoMetadataService.enrich(completed.video())
+                .whenComplete((enriched, throwable) -> {
+                    if (throwable != null) {
+                        Throwable cause = throwable.getCause() != null ? throwable.getCause() : throwable;
+                        log.warn("⚠️ 비디오 메타데이터 추출 실패 - 작업 ID: {}, 오류: {}",
+                                completed.operationId(), cause.getMessage());
+                        return;
+                    }
+                    if (enriched.equals(completed.video())) {
+                        return;
+                    }
+                    operationStore.save(completed.withVideo(enriched));
+                    resultCache.put(cacheKey, enriched);
+                });
+    }
+
+    /**
+     * Vertex AI 할당량 초과(429) 여부
+     */
+    private boolean isQuotaExceeded(Exception e) {
+        return e instanceof ApiException apiException && apiException.code() == 429;
+    }
+
+    /**
+     * Veo 비디오 생성 작업 제출
+     */
+    private GenerateVideosOperation startGeneration(String operationId, String enhancedPrompt,
+                                                    GenerateVideosConfig config, List<String> gcsImageUris) {
+        log.info("🎬 비디오 생성 시작 - 작업 ID: {}, 프롬프트: {}, 이미지 개수: {}",
+                operationId, enhancedPrompt, gcsImageUris.size());
 
+        // 3. 이미지 처리 및 비디오 생성
         log.info("🖼️ 이미지 포함 비디오 생성 - GCS 이미지 개수: {}", gcsImageUris.size());
 
         // ✅ 첫 번째 이미지만 사용 (SDK가 contextImages를 지원하지 않음)
@@ -87,27 +485,31 @@ public class VeoVideoService {
                 .mimeType("image/jpeg")  // 기본 MIME 타입 설정
                 .build();
 
-        String enhancedPrompt = enhancePromptWithMultipleImages(prompt, gcsImageUris);
         log.info("✅ 첫 번째 이미지를 기본으로 사용, 나머지 {}개 이미지는 프롬프트에 반영됨",
                 gcsImageUris.size() - 1);
 
-        operation = genAiClient.models.generateVideos(
+        return videoGenerationBackend.generateVideos(
                 VEO_MODEL, enhancedPrompt, primaryImage, config);
+    }
 
-        // 4. 완료 대기
-        operation = waitForCompletion(operation, operationId);
-
-        // 5. 결과 처리
-        GeneratedVideo video = processResults(operation, request);
-
-        log.info("✅ 비디오 생성 완료 - 작업 ID: {}, 생성된 비디오: {}",
-                operationId, video != null ? "성공" : "실패");
+    /**
+     * 비디오 생성 설정 - ✅ GCS에 직접 저장하도록 storageUri 설정
+     */
+    private GenerateVideosConfig buildVideosConfig() {
+        String storageUri = String.format("gs://%s/videos/", gcsBucketName);
+        log.info("🗄️ Veo 비디오 저장 위치: {}", storageUri);
 
-        return VideoGenerationResponse.completed(operationId, prompt, video);
+        return GenerateVideosConfig.builder()
+                .aspectRatio("16:9")
+                .seed(8)
+                .generateAudio(true)
+                .outputGcsUri(storageUri)  // ✅ Veo가 직접 GCS에 저장
+                .build();
     }
 
     /**
      * 이미지 파일들을 GCS에 업로드
+     * ✅ 업로드 레인마다 방향 보정/축소/JPEG 재인코딩 후 업로드 (ImagePreprocessor)
      */
     private List<String> uploadImagesToGcs(MultipartFile[] imageFiles) {
         if (imageFiles == null || imageFiles.length == 0) {
@@ -158,41 +560,10 @@ public class VeoVideoService {
         return enhancedPrompt.toString();
     }
 
-    /**
-     * 작업 완료 대기
-     */
-    private GenerateVideosOperation waitForCompletion(GenerateVideosOperation operation, String operationId) {
-        int waitCount = 0;
-        int maxWaits = MAX_WAIT_SECONDS / 5; // 5초마다 체크
-
-        while (!operation.done().orElse(false) && waitCount < maxWaits) {
-            waitCount++;
-            int progressPercent = Math.min((waitCount * 100) / maxWaits, 99);
-
-            log.info("⏳ 비디오 생성 대기 중... 작업 ID: {}, 진행률: {}% ({}/{})",
-                    operationId, progressPercent, waitCount, maxWaits);
-
-            try {
-                Thread.sleep(5000); // 5초 대기
-                operation = genAiClient.operations.getVideosOperation(operation, null);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException("비디오 생성 대기 중 인터럽트 발생", e);
-            }
-        }
-
-        if (!operation.done().orElse(false)) {
-            throw new RuntimeException("비디오 생성 시간 초과 (5분)");
-        }
-
-        log.info("🎉 비디오 생성 작업 완료 - 작업 ID: {}", operationId);
-        return operation;
-    }
-
     /**
      * 생성 결과 처리 - Google 원본 응답 확인
      */
-    private GeneratedVideo processResults(GenerateVideosOperation operation, VideoGenerationRequest request) {
+    private GeneratedVideo processResults(GenerateVideosOperation operation) {
         log.info("🔍 결과 처리 시작 - operation 상태 확인");
         log.info("📊 Operation 전체 정보: {}", operation.toString());
         log.info("📊 Operation done: {}", operation.done().isPresent() ? operation.done().get() : "Empty");
@@ -243,13 +614,15 @@ public class VeoVideoService {
         }
         
         String videoUrl = uriOpt.get();
-        String replace = videoUrl.replace("gs://", "https://storage.cloud.google.com/");
+        // ✅ 공개 주소가 설정되어 있으면 GCS 직접 링크 대신 로컬 캐시 프록시 URL 사용 - 첫 조회 이후에는 로컬 디스크에서 응답
+        String proxyUrl = gcsVideoCacheService.proxyUrlOf(videoUrl);
 
-        log.info("✅ Video[{}] GCS URI: {}", 0, videoUrl);
+        log.info("✅ Video[{}] GCS URI: {}, 프록시 URL: {}", 0, videoUrl, proxyUrl);
 
+        // ✅ 프록시 ID를 비디오 ID로 사용 - 메타데이터 후처리 결과가 이 ID로 캐시됨
         GeneratedVideo generatedVideo = GeneratedVideo.create(
-                "temp",
-                replace,
+                gcsVideoCacheService.videoIdOf(videoUrl).orElse("temp"),
+                proxyUrl,
                 8
         );
 
@@ -261,6 +634,6 @@ public class VeoVideoService {
      * 유니크한 작업 ID 생성
      */
     private String generateOperationId() {
-        return "sync_veo_" + System.currentTimeMillis() + "_" + UUID.randomUUID().toString().substring(0, 8);
+        return "veo_" + System.currentTimeMillis() + "_" + UUID.randomUUID().toString().substring(0, 8);
     }
 } 
@@ -0,0 +1,232 @@
+package server.veo.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import server.veo.dto.GeneratedVideo;
+import server.veo.dto.VideoMetadata;
+import server.veo.util.Mp4MovieHeader;
+
+/**
+ * 생성된 비디오 메타데이터 추출 (후처리 단계)
+ *
+ * 생성 완료 후 요청/폴링 경로 밖(videoMetadataExecutor)에서 비디오를 로컬 캐시로 받아
+ * 파일 크기, MP4 mvhd 기준 재생 길이, 포스터 프레임을 추출하여 GeneratedVideo를 채웁니다.
+ * 비디오 URL도 로컬 캐시에 게시된 내용 기반 URL로 바꾸어 클라이언트가 immutable 캐시로 재생하게 합니다.
+ * 포스터는 ffmpeg가 있을 때만 만들며 비디오 옆에 저장됩니다.
+ * 결과는 비디오 ID별로 캐시(veoVideoMetadata)되어 같은 비디오는 다시 추출하지 않습니다.
+ */
+@Service
+@Slf4j
+public class VideoMetadataService {
+
+    public static final String CACHE_NAME = "veoVideoMetadata";
+
+    private final GcsVideoCacheService gcsVideoCacheService;
+    private final VideoStorageService videoStorageService;
+    private final CacheManager cacheManager;
+    private final Executor videoMetadataExecutor;
+    private final String ffmpegPath;
+    private final long posterTimeoutSeconds;
+    private final int posterWidth;
+
+    private final Timer extractTimer;
+
+    // ffmpeg 사용 가능 여부 (처음 필요할 때 한 번 확인)
+    private volatile Boolean ffmpegAvailable;
+
+    public VideoMetadataService(
+            GcsVideoCacheService gcsVideoCacheService,
+            VideoStorageService videoStorageService,
+            CacheManager cacheManager,
+            @Qualifier("videoMetadataExecutor") Executor videoMetadataExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${veo.video.metadata.ffmpeg-path:ffmpeg}") String ffmpegPath,
+            @Value("${veo.video.metadata.poster-timeout-seconds:20}") long posterTimeoutSeconds,
+            @Value("${veo.video.metadata.poster-width:480}") int posterWidth
+    ) {
+        this.gcsVideoCacheService = gcsVideoCacheService;
+        this.videoStorageService = videoStorageService;
+        this.cacheManager = cacheManager;
+        this.videoMetadataExecutor = videoMetadataExecutor;
+        this.ffmpegPath = ffmpegPath;
+        this.posterTimeoutSeconds = posterTimeoutSeconds;
+        this.posterWidth = posterWidth;
+        this.extractTimer = Timer.builder("veo.video.metadata.extract")
+                .description("생성된 비디오 메타데이터(크기, 재생 길이, 포스터) 추출 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비디오 메타데이터를 채운 GeneratedVideo 반환 - 캐시에 있으면 즉시, 없으면 백그라운드에서 추출
+     * ✅ 프록시 대상이 아니거나 executor가 가득 찼으면 원래 비디오 정보를 그대로 반환
+     */
+    public CompletableFuture<GeneratedVideo> enrich(GeneratedVideo video) {
+        Optional<String> objectName = gcsVideoCacheService.objectNameOf(video.id());
+        if (objectName.isEmpty()) {
+            return CompletableFuture.completedFuture(video);
+        }
+
+        Optional<VideoMetadata> cached = findCached(video.id());
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(video.withMetadata(cached.get()));
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                VideoMetadata metadata = extractTimer.record(() -> extract(objectName.get()));
+                putCached(video.id(), metadata);
+                return video.withMetadata(metadata);
+            }, videoMetadataExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ 메타데이터 추출 대기열 가득 참 - 추출 생략, 비디오 ID: {}", video.id());
+            return CompletableFuture.completedFuture(video);
+        }
+    }
+
+    /**
+     * GCS 비디오를 로컬 캐시에 확보한 뒤 크기, 재생 길이, 포스터, 내용 기반 URL 추출
+     */
+    VideoMetadata extract(String objectName) {
+        try {
+            String fileName = gcsVideoCacheService.fetch(objectName);
+            Path videoPath = videoStorageService.getVideoFilePath(fileName);
+
+            long sizeBytes;
+            Duration duration;
+            try (FileChannel channel = FileChannel.open(videoPath, StandardOpenOption.READ)) {
+                sizeBytes = channel.size();
+                duration = Mp4MovieHeader.readDuration(channel);
+            }
+
+            String thumbnailUrl = extractPoster(fileName, videoPath, duration);
+            Integer durationSeconds = duration != null ? (int) Math.round(duration.toMillis() / 1000.0) : null;
+
+            log.info("🖼️ 비디오 메타데이터 추출 완료 - 객체: {}, 크기: {} bytes, 재생 길이: {}초, 포스터: {}",
+                    objectName, sizeBytes, durationSeconds, thumbnailUrl != null ? "있음" : "없음");
+            return new VideoMetadata(sizeBytes, durationSeconds, thumbnailUrl, videoStorageService.videoUrlOf(fileName));
+        } catch (IOException e) {
+            throw new UncheckedIOException("비디오 메타데이터 추출 실패: " + objectName, e);
+        }
+    }
+
+    /**
+     * ffmpeg로 포스터 프레임(JPEG) 추출 - ffmpeg가 없거나 실패하면 null
+     */
+    private String extractPoster(String videoFileName, Path videoPath, Duration duration) {
+        if (videoStorageService.posterExists(videoFileName)) {
+            return videoStorageService.posterUrlOf(videoFileName);
+        }
+        if (!isFfmpegAvailable()) {
+            return null;
+        }
+
+        // 첫 프레임은 검은 화면인 경우가 많아 1초(짧은 영상은 중간) 지점의 프레임 사용
+        double seekSeconds = duration != null ? Math.min(1.0, duration.toMillis() / 2000.0) : 0;
+        Path temp = null;
+        try {
+            temp = videoStorageService.createTempFileNextTo(videoFileName);
+            Process process = new ProcessBuilder(List.of(
+                    ffmpegPath, "-hide_banner", "-loglevel", "error", "-y",
+                    "-ss", String.format("%.3f", seekSeconds),
+                    "-i", videoPath.toAbsolutePath().toString(),
+                    "-frames:v", "1",
+                    "-vf", "scale=" + posterWidth + ":-2",
+                    "-f", "image2", "-c:v", "mjpeg",
+                    temp.toAbsolutePath().toString()))
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+
+            if (!process.waitFor(posterTimeoutSeconds, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                log.warn("⚠️ 포스터 추출 시간 초과 - 비디오: {}", videoFileName);
+                return null;
+            }
+            if (process.exitValue() != 0 || Files.size(temp) == 0) {
+                log.warn("⚠️ 포스터 추출 실패 - 비디오: {}, 종료 코드: {}", videoFileName, process.exitValue());
+                return null;
+            }
+
+            videoStorageService.publishPoster(videoFileName, temp);
+            temp = null;
+            return videoStorageService.posterUrlOf(videoFileName);
+        } catch (IOException e) {
+            log.warn("⚠️ 포스터 추출 실패 - 비디오: {}, 오류: {}", videoFileName, e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    log.warn("⚠️ 포스터 임시 파일 삭제 실패: {}", temp, e);
+                }
+            }
+        }
+    }
+
+    private boolean isFfmpegAvailable() {
+        if (ffmpegAvailable == null) {
+            boolean available;
+            try {
+                Process process = new ProcessBuilder(ffmpegPath, "-version")
+                        .redirectErrorStream(true)
+                        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                        .start();
+                available = process.waitFor(5, TimeUnit.SECONDS) && process.exitValue() == 0;
+            } catch (IOException e) {
+                available = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            if (!available) {
+                log.warn("⚠️ ffmpeg를 찾을 수 없음 ({}) - 포스터 없이 크기와 재생 길이만 추출", ffmpegPath);
+            }
+            ffmpegAvailable = available;
+        }
+        return ffmpegAvailable;
+    }
+
+    private Optional<VideoMetadata> findCached(String videoId) {
+        try {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            return Optional.ofNullable(cache != null ? cache.get(videoId, VideoMetadata.class) : null);
+        } catch (Exception e) {
+            log.warn("⚠️ 비디오 메타데이터 캐시 조회 실패 - 비디오 ID: {}, 오류: {}", videoId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void putCached(String videoId, VideoMetadata metadata) {
+        try {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache != null) {
+                cache.put(videoId, metadata);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 비디오 메타데이터 캐시 저장 실패 - 비디오 ID: {}, 오류: {}", videoId, e.getMessage());
+        }
+    }
+}
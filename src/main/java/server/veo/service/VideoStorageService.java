@@ -1,66 +1,271 @@
 package server.veo.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import server.veo.util.DigestingChannel;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.UUID;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
  * 비디오 파일 저장 및 URL 생성 서비스
- * videoBytes를 로컬 파일로 저장하고 접근 가능한 URL 반환
+ * 비디오를 임시 파일로 스트리밍한 뒤 원자적으로 이동하여 저장하고 접근 가능한 URL 반환
+ * MP4는 게시 전에 moov를 파일 앞으로 옮겨(fast-start) 끝까지 받지 않아도 재생을 시작할 수 있게 합니다.
+ *
+ * 저장하는 비디오의 파일명은 게시되는 내용의 SHA-256이므로 URL이 가리키는 내용이 바뀌지 않습니다.
+ * 파일은 파일명 SHA-256 앞 2자리로 나눈 하위 디렉토리(최대 256개)에 저장하여 디렉토리당 파일 수를 제한합니다.
+ * 저장된 파일과 크기는 메모리 인덱스로 관리하여 존재 여부 확인에 파일시스템 조회가 필요 없으며,
+ * 전체 용량이 한도를 넘으면 백그라운드에서 가장 오래 접근하지 않은 파일부터 삭제합니다.
  */
 @Service
 @Slf4j
 public class VideoStorageService {
 
-    @Value("${server.port:8080}")
-    private String serverPort;
+    private static final String VIDEO_PATH_PREFIX = "/api/v1/videos/";
+    private static final String TEMP_FILE_PREFIX = ".writing-";
 
-    private static final String UPLOAD_DIR = "uploads/videos";
-    private static final String URL_PREFIX = "http://localhost";
+    private static final String POSTER_SUFFIX = ".poster.jpg";
+    private static final Pattern CONTENT_ADDRESSED_NAME = Pattern.compile("[0-9a-f]{64}\\.[a-z0-9]+");
+    private static final int SHARD_PREFIX_LENGTH = 2;
+    private static final int NAME_LOCK_STRIPES = 64;
+
+    private final TransferBufferPool transferBufferPool;
+    private final Mp4FastStartProcessor mp4FastStartProcessor;
+    private final Path uploadPath;
+    // 클라이언트가 접근하는 이 서버의 공개 주소 - 설정되지 않으면 경로만으로 된 URL 사용
+    private final String publicBaseUrl;
+    private final long maxBytes;
+    private final long evictionTargetBytes;
+
+    // 파일명 → 크기/마지막 접근 순번
+    private final Map<String, IndexEntry> index = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+    // 접근 순서를 나타내는 논리 시계 - 값이 작을수록 오래 전에 접근한 파일
+    private final AtomicLong accessClock = new AtomicLong();
+    // 파일명별 게시/삭제 잠금 (스트라이프) - 같은 이름의 저장과 용량 정리 삭제가 엇갈려 인덱스가 없는 파일을 가리키지 않도록 함
+    private final Object[] nameLocks = new Object[NAME_LOCK_STRIPES];
+
+    private final Counter evictedCounter;
+
+    public VideoStorageService(
+            TransferBufferPool transferBufferPool,
+            Mp4FastStartProcessor mp4FastStartProcessor,
+            MeterRegistry meterRegistry,
+            @Value("${veo.storage.video-dir:uploads/videos}") String uploadDir,
+            @Value("${veo.public-base-url:}") String publicBaseUrl,
+            @Value("${veo.storage.max-bytes:10737418240}") long maxBytes,
+            @Value("${veo.storage.eviction-target-ratio:0.9}") double evictionTargetRatio
+    ) {
+        this.transferBufferPool = transferBufferPool;
+        this.mp4FastStartProcessor = mp4FastStartProcessor;
+        this.uploadPath = Paths.get(uploadDir);
+        this.publicBaseUrl = StringUtils.hasText(publicBaseUrl) ? publicBaseUrl.replaceAll("/+$", "") : "";
+        this.maxBytes = maxBytes;
+        this.evictionTargetBytes = (long) (maxBytes * evictionTargetRatio);
+        for (int i = 0; i < nameLocks.length; i++) {
+            nameLocks[i] = new Object();
+        }
+
+        Gauge.builder("veo.storage.bytes", totalBytes, AtomicLong::get)
+                .description("로컬에 저장된 비디오 파일 총 크기 (bytes)")
+                .register(meterRegistry);
+        Gauge.builder("veo.storage.files", index, Map::size)
+                .description("로컬에 저장된 비디오 파일 수")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("veo.storage.evicted")
+                .description("용량 한도 초과로 삭제된 비디오 파일 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시작 시 저장 디렉토리를 스캔하여 인덱스 구성
+     * ✅ 샤딩 이전의 평면 구조 파일은 샤드 디렉토리로 옮기고, 비정상 종료로 남은 임시 파일은 삭제
+     */
+    @PostConstruct
+    public void loadIndex() throws IOException {
+        if (!Files.exists(uploadPath)) {
+            return;
+        }
+
+        // 스캔 도중 평면 파일을 샤드로 옮기므로 경로 목록을 먼저 확정
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(uploadPath, 2)) {
+            paths = walk.toList();
+        }
+
+        List<ScannedFile> scanned = new ArrayList<>();
+        for (Path path : paths) {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                continue;
+            }
+
+            String fileName = path.getFileName().toString();
+            if (fileName.startsWith(TEMP_FILE_PREFIX)) {
+                deleteQuietly(path);
+                continue;
+            }
+            if (fileName.endsWith(POSTER_SUFFIX)) {
+                // 비디오 옆에 저장되는 포스터 이미지 - 비디오와 함께 관리되므로 인덱스 대상 아님
+                continue;
+            }
+
+            Path shardedPath = shardedPath(fileName);
+            if (!path.equals(shardedPath)) {
+                Files.createDirectories(shardedPath.getParent());
+                moveIntoPlace(path, shardedPath);
+            }
+            scanned.add(new ScannedFile(fileName, attributes.size(), attributes.lastAccessTime().toMillis()));
+        }
+
+        // 파일시스템 접근 시각 순으로 논리 시계 초기화 (noatime 마운트면 생성 시각에 가까움)
+        scanned.sort(Comparator.comparingLong(ScannedFile::lastAccessMillis));
+        scanned.forEach(file -> index(file.fileName(), file.sizeBytes()));
+
+        log.info("🗂️ 비디오 저장소 인덱스 로드 - 파일 {}개, {} bytes (한도: {} bytes)",
+                index.size(), totalBytes.get(), maxBytes);
+    }
 
     /**
-     * videoBytes를 파일로 저장하고 다운로드 URL 반환
+     * InputStream의 비디오를 스트리밍으로 저장
      */
-    public String saveVideoAndGetUrl(byte[] videoBytes, String mimeType) {
+    public StoredVideo saveVideo(InputStream source, String mimeType) {
+        return saveVideo(Channels.newChannel(source), mimeType);
+    }
+
+    /**
+     * 채널의 비디오를 스트리밍으로 저장 - 크기와 SHA-256을 쓰면서 함께 계산
+     * ✅ 풀의 direct 버퍼 하나로 임시 파일에 기록한 뒤 원자적으로 이동하므로
+     *    비디오 전체를 힙에 올리지 않고, 다운로드 요청이 쓰는 중인 파일을 보지 않음
+     * ✅ 파일명은 게시되는 내용의 SHA-256 - 같은 URL의 내용은 바뀌지 않으므로 immutable 캐시 헤더로 제공
+     */
+    public StoredVideo saveVideo(ReadableByteChannel source, String mimeType) {
+        Path temp = null;
         try {
-            // 1. 업로드 디렉토리 생성
-            Path uploadPath = Paths.get(UPLOAD_DIR);
+            // 1. 임시 파일 위치 결정 - 파일명을 아직 모르므로 루트에 쓰고 해시 계산 후 샤드로 이동 (같은 파일시스템)
             if (!Files.exists(uploadPath)) {
                 Files.createDirectories(uploadPath);
-                log.info("📁 비디오 업로드 디렉토리 생성: {}", uploadPath.toAbsolutePath());
+                log.info("📁 비디오 저장 디렉토리 생성: {}", uploadPath.toAbsolutePath());
+            }
+
+            // 2. 임시 파일로 스트리밍 (크기/체크섬 동시 계산)
+            temp = Files.createTempFile(uploadPath, TEMP_FILE_PREFIX, ".tmp");
+            long sizeBytes;
+            String sha256;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                DigestingChannel digestingChannel = new DigestingChannel(channel);
+                transferBufferPool.transfer(source, digestingChannel);
+                channel.force(false);
+                sizeBytes = digestingChannel.size();
+                sha256 = digestingChannel.sha256Hex();
             }
 
-            // 2. 고유한 파일명 생성
-            String fileExtension = getFileExtension(mimeType);
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String fileName = String.format("veo_video_%s_%s%s", 
-                    timestamp, UUID.randomUUID().toString().substring(0, 8), fileExtension);
-
-            // 3. 파일 저장
-            Path filePath = uploadPath.resolve(fileName);
-            Files.write(filePath, videoBytes);
-            
-            log.info("💾 비디오 파일 저장 완료: {} (크기: {} bytes)", 
-                    filePath.toAbsolutePath(), videoBytes.length);
-
-            // 4. 다운로드 URL 생성
-            String downloadUrl = String.format("%s:%s/api/v1/videos/%s", 
-                    URL_PREFIX, serverPort, fileName);
-            
+            // 3. MP4면 moov를 앞으로 옮겨 점진적 재생이 바로 시작되도록 후처리
+            String fileExtension = getFileExtension(mimeType).substring(1);
+            if (fileExtension.equals("mp4")) {
+                Path fastStart = Files.createTempFile(uploadPath, TEMP_FILE_PREFIX, ".tmp");
+                Optional<Mp4FastStartProcessor.Rewritten> rewritten = mp4FastStartProcessor.rewrite(temp, fastStart);
+                if (rewritten.isPresent()) {
+                    deleteQuietly(temp);
+                    temp = fastStart;
+                    sizeBytes = rewritten.get().sizeBytes();
+                    sha256 = rewritten.get().sha256();
+                } else {
+                    deleteQuietly(fastStart);
+                }
+            }
+
+            // 4. 게시되는 내용의 SHA-256으로 파일명 결정 및 최종 위치로 원자적 이동
+            String fileName = sha256 + "." + fileExtension;
+            Path filePath = shardedPath(fileName);
+            synchronized (lockFor(fileName)) {
+                if (videoFileExists(fileName)) {
+                    // 같은 내용이 이미 게시되어 있음 - 기존 파일 재사용
+                    log.info("♻️ 같은 내용의 비디오가 이미 저장되어 있음: {}", fileName);
+                    recordAccess(fileName);
+                } else {
+                    Files.createDirectories(filePath.getParent());
+                    moveIntoPlace(temp, filePath);
+                    temp = null;
+                    index(fileName, sizeBytes);
+                    log.info("💾 비디오 파일 저장 완료: {} (크기: {} bytes, sha256: {})",
+                            filePath.toAbsolutePath(), sizeBytes, sha256);
+                }
+            }
+
+            // 5. 다운로드 URL 생성
+            String downloadUrl = videoUrlOf(fileName);
             log.info("🔗 비디오 다운로드 URL 생성: {}", downloadUrl);
-            return downloadUrl;
+            return new StoredVideo(fileName, downloadUrl, mimeType, sizeBytes, sha256);
 
         } catch (IOException e) {
             log.error("❌ 비디오 파일 저장 실패: {}", e.getMessage(), e);
             throw new RuntimeException("비디오 파일 저장 실패", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * 내용 기반 파일명(SHA-256 + 확장자) 여부 - 이 이름의 URL은 내용이 바뀌지 않음
+     */
+    public boolean isContentAddressed(String fileName) {
+        return CONTENT_ADDRESSED_NAME.matcher(fileName).matches();
+    }
+
+    /**
+     * 파일명에 담긴 내용의 SHA-256 (hex) - 내용 기반 파일명이 아니면 empty
+     */
+    public Optional<String> contentHashOf(String fileName) {
+        return isContentAddressed(fileName)
+                ? Optional.of(fileName.substring(0, fileName.indexOf('.')))
+                : Optional.empty();
+    }
+
+    private void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            // 같은 저장소 디렉토리 안의 이동이므로 일반적으로 발생하지 않음 - 지원하지 않는 파일시스템 대비
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("⚠️ 비디오 파일 삭제 실패: {}", path, e);
         }
     }
 
@@ -88,16 +293,136 @@ public class VideoStorageService {
     }
 
     /**
-     * 파일명으로 저장된 비디오 파일의 절대 경로 반환
+     * 파일명으로 저장된 비디오 파일의 경로 반환 - 읽기 경로이므로 LRU 접근 순서를 갱신
      */
     public Path getVideoFilePath(String fileName) {
-        return Paths.get(UPLOAD_DIR).resolve(fileName);
+        recordAccess(fileName);
+        return shardedPath(fileName);
     }
 
     /**
-     * 저장된 비디오 파일 존재 여부 확인
+     * 저장된 비디오 파일 존재 여부 확인 - 메모리 인덱스 조회 (파일시스템 stat 없음)
      */
     public boolean videoFileExists(String fileName) {
-        return Files.exists(getVideoFilePath(fileName));
+        return index.containsKey(fileName);
+    }
+
+    /**
+     * 비디오의 포스터 이미지 경로 - 비디오와 같은 샤드 디렉토리
+     */
+    public Path posterPathOf(String videoFileName) {
+        String baseName = videoFileName.contains(".")
+                ? videoFileName.substring(0, videoFileName.lastIndexOf('.'))
+                : videoFileName;
+        return shardedPath(videoFileName).resolveSibling(baseName + POSTER_SUFFIX);
+    }
+
+    /**
+     * 비디오 포스터 이미지 존재 여부
+     */
+    public boolean posterExists(String videoFileName) {
+        return Files.exists(posterPathOf(videoFileName));
+    }
+
+    /**
+     * 비디오와 같은 디렉토리에 임시 파일 생성 - 부속 파일(포스터 등)을 만든 뒤 publishPoster로 게시
+     */
+    public Path createTempFileNextTo(String videoFileName) throws IOException {
+        Path shardPath = shardedPath(videoFileName).getParent();
+        Files.createDirectories(shardPath);
+        return Files.createTempFile(shardPath, TEMP_FILE_PREFIX, ".tmp");
+    }
+
+    /**
+     * 임시 파일을 비디오의 포스터 이미지로 원자적으로 게시
+     */
+    public void publishPoster(String videoFileName, Path temp) throws IOException {
+        moveIntoPlace(temp, posterPathOf(videoFileName));
+    }
+
+    /**
+     * 저장된 비디오 다운로드 URL - 공개 주소(veo.public-base-url) 기준
+     */
+    public String videoUrlOf(String fileName) {
+        return publicBaseUrl + VIDEO_PATH_PREFIX + fileName;
+    }
+
+    /**
+     * 비디오 포스터 이미지 다운로드 URL - 공개 주소(veo.public-base-url) 기준
+     */
+    public String posterUrlOf(String videoFileName) {
+        return publicBaseUrl + VIDEO_PATH_PREFIX + videoFileName + "/poster";
+    }
+
+    /**
+     * 용량 한도 초과 시 가장 오래 접근하지 않은 파일부터 목표 용량 이하가 될 때까지 삭제
+     * ✅ 인덱스에서 먼저 제거하여 새 요청은 404가 되고, 이미 전송 중인 다운로드는 열린 파일로 끝까지 진행
+     * ✅ 인덱스 제거와 파일 삭제는 store와 같은 파일명 잠금 안에서 처리 - 그 사이에 같은 이름이 다시 게시되어도 지우지 않음
+     */
+    @Scheduled(fixedDelayString = "${veo.storage.eviction-interval-millis:60000}")
+    public synchronized void evictIfOverQuota() {
+        if (totalBytes.get() <= maxBytes) {
+            return;
+        }
+
+        List<Map.Entry<String, IndexEntry>> candidates = new ArrayList<>(index.entrySet());
+        candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess));
+
+        int evicted = 0;
+        long freedBytes = 0;
+        for (Map.Entry<String, IndexEntry> candidate : candidates) {
+            if (totalBytes.get() <= evictionTargetBytes) {
+                break;
+            }
+            String fileName = candidate.getKey();
+            synchronized (lockFor(fileName)) {
+                if (!index.remove(fileName, candidate.getValue())) {
+                    continue;
+                }
+                totalBytes.addAndGet(-candidate.getValue().sizeBytes);
+                deleteQuietly(shardedPath(fileName));
+                deleteQuietly(posterPathOf(fileName));
+            }
+            evicted++;
+            freedBytes += candidate.getValue().sizeBytes;
+        }
+
+        evictedCounter.increment(evicted);
+        log.info("🧹 비디오 저장소 용량 정리 - 삭제 {}개, 확보 {} bytes, 현재 {} bytes (한도: {} bytes)",
+                evicted, freedBytes, totalBytes.get(), maxBytes);
+    }
+
+    private void recordAccess(String fileName) {
+        IndexEntry entry = index.get(fileName);
+        if (entry != null) {
+            entry.lastAccess = accessClock.incrementAndGet();
+        }
+    }
+
+    private void index(String fileName, long sizeBytes) {
+        IndexEntry previous = index.put(fileName, new IndexEntry(sizeBytes, accessClock.incrementAndGet()));
+        totalBytes.addAndGet(sizeBytes - (previous != null ? previous.sizeBytes : 0));
+    }
+
+    private Object lockFor(String fileName) {
+        return nameLocks[Math.floorMod(fileName.hashCode(), nameLocks.length)];
+    }
+
+    private Path shardedPath(String fileName) {
+        String shard = DigestingChannel.sha256Hex(fileName.getBytes(StandardCharsets.UTF_8)).substring(0, SHARD_PREFIX_LENGTH);
+        return uploadPath.resolve(shard).resolve(fileName);
+    }
+
+    private static final class IndexEntry {
+        private final long sizeBytes;
+        private volatile long lastAccess;
+
+        private IndexEntry(long sizeBytes, long lastAccess) {
+            this.sizeBytes = sizeBytes;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private record ScannedFile(String fileName, long sizeBytes, long lastAccessMillis) {
     }
 } 
\ No newline at end of file
@@ -0,0 +1,88 @@
+package server.veo.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 쓰기와 동시에 SHA-256 해시와 크기를 계산하는 채널
+ * 대상 채널이 없으면 해시 계산만 수행합니다.
+ */
+public class DigestingChannel implements WritableByteChannel {
+
+    private final WritableByteChannel target;
+    private final MessageDigest digest;
+    private long size;
+    private boolean open = true;
+
+    public DigestingChannel(WritableByteChannel target) {
+        this.target = target;
+        this.digest = newSha256();
+    }
+
+    public static DigestingChannel hashOnly() {
+        return new DigestingChannel(null);
+    }
+
+    /**
+     * 바이트 배열의 SHA-256 (hex)
+     */
+    public static String sha256Hex(byte[] content) {
+        return HexFormat.of().formatHex(newSha256().digest(content));
+    }
+
+    @Override
+    public int write(ByteBuffer source) throws IOException {
+        ByteBuffer hashView = source.duplicate();
+        int written;
+        if (target == null) {
+            written = source.remaining();
+            source.position(source.limit());
+        } else {
+            written = target.write(source);
+        }
+
+        hashView.limit(hashView.position() + written);
+        digest.update(hashView);
+        size += written;
+        return written;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() throws IOException {
+        open = false;
+        if (target != null) {
+            target.close();
+        }
+    }
+
+    /**
+     * 지금까지 기록된 바이트 수
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * 지금까지 기록된 내용의 SHA-256 (hex) - 호출 후 해시 상태는 초기화됨
+     */
+    public String sha256Hex() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package server.veo.util;
+
+import java.awt.geom.AffineTransform;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JPEG EXIF 방향(Orientation, 0x0112) 읽기와 보정 변환
+ *
+ * 휴대폰 사진은 센서 방향 그대로 저장하고 EXIF 방향 값으로 회전을 표시하지만,
+ * ImageIO는 이 값을 적용하지 않으므로 디코딩한 이미지에 직접 회전/반전을 적용해야 합니다.
+ * 방향 값은 SOS(이미지 데이터) 이전의 APP1 세그먼트에 있으므로 파일 앞부분만 읽습니다.
+ */
+public final class ImageOrientation {
+
+    public static final int NORMAL = 1;
+
+    private static final int SOI = 0xFFD8;
+    private static final int APP1 = 0xFFE1;
+    private static final int SOS = 0xFFDA;
+    private static final int EOI = 0xFFD9;
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.ISO_8859_1);
+
+    private ImageOrientation() {
+    }
+
+    /**
+     * EXIF 방향 값(1~8) - JPEG가 아니거나 값이 없으면 NORMAL
+     */
+    public static int read(InputStream source) throws IOException {
+        DataInputStream in = new DataInputStream(source);
+        try {
+            if (in.readUnsignedShort() != SOI) {
+                return NORMAL;
+            }
+            while (true) {
+                int marker = in.readUnsignedShort();
+                if ((marker & 0xFF00) != 0xFF00 || marker == SOS || marker == EOI) {
+                    return NORMAL;
+                }
+                int length = in.readUnsignedShort() - 2;
+                if (length < 0) {
+                    return NORMAL;
+                }
+                if (marker != APP1) {
+                    in.skipNBytes(length);
+                    continue;
+                }
+
+                byte[] segment = in.readNBytes(length);
+                if (segment.length == length && startsWith(segment, EXIF_HEADER)) {
+                    return orientationOf(segment, EXIF_HEADER.length);
+                }
+            }
+        } catch (EOFException e) {
+            return NORMAL;
+        }
+    }
+
+    /**
+     * 방향 보정 후 가로/세로가 바뀌는지 여부 (90도 회전 계열)
+     */
+    public static boolean swapsDimensions(int orientation) {
+        return orientation >= 5 && orientation <= 8;
+    }
+
+    /**
+     * width x height 이미지를 똑바로 세우는 변환 (결과 크기는 swapsDimensions면 height x width)
+     */
+    public static AffineTransform transformOf(int orientation, int width, int height) {
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { // 좌우 반전
+                transform.translate(width, 0);
+                transform.scale(-1, 1);
+            }
+            case 3 -> { // 180도 회전
+                transform.translate(width, height);
+                transform.rotate(Math.PI);
+            }
+            case 4 -> { // 상하 반전
+                transform.translate(0, height);
+                transform.scale(1, -1);
+            }
+            case 5 -> { // 좌상-우하 대각선 기준 반전
+                transform.rotate(-Math.PI / 2);
+                transform.scale(-1, 1);
+            }
+            case 6 -> { // 시계 방향 90도 회전
+                transform.translate(height, 0);
+                transform.rotate(Math.PI / 2);
+            }
+            case 7 -> { // 우상-좌하 대각선 기준 반전
+                transform.scale(-1, 1);
+                transform.translate(-height, width);
+                transform.rotate(3 * Math.PI / 2);
+            }
+            case 8 -> { // 반시계 방향 90도 회전
+                transform.translate(0, width);
+                transform.rotate(3 * Math.PI / 2);
+            }
+            default -> {
+            }
+        }
+        return transform;
+    }
+
+    private static int orientationOf(byte[] segment, int tiffStart) {
+        if (segment.length < tiffStart + 8) {
+            return NORMAL;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(segment, tiffStart, segment.length - tiffStart).slice();
+        if (tiff.get(0) == 'I' && tiff.get(1) == 'I') {
+            tiff.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (tiff.get(0) != 'M' || tiff.get(1) != 'M') {
+            return NORMAL;
+        }
+
+        long ifdOffset = Integer.toUnsignedLong(tiff.getInt(4));
+        if (ifdOffset + 2 > tiff.limit()) {
+            return NORMAL;
+        }
+        int entryCount = Short.toUnsignedInt(tiff.getShort((int) ifdOffset));
+        for (int i = 0; i < entryCount; i++) {
+            int entry = (int) ifdOffset + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                return NORMAL;
+            }
+            if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+                int value = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                return value >= 1 && value <= 8 ? value : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+
+    private static boolean startsWith(byte[] bytes, byte[] prefix) {
+        if (bytes.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
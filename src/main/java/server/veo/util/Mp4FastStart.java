@@ -0,0 +1,226 @@
+package server.veo.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * MP4 fast-start 변환 (moov 박스를 첫 mdat 앞으로 이동)
+ *
+ * moov가 파일 끝에 있으면 플레이어는 재생 전에 파일 끝까지 받아야 합니다.
+ * moov를 앞으로 옮기고 그만큼 밀려난 샘플 위치(stco/co64)를 보정하여 처음부터 받은 바이트만으로 재생을 시작할 수 있게 합니다.
+ * moov만 메모리에 올리고 나머지(mdat 등)는 채널 간 전송으로 복사하므로 메모리 사용량은 파일 크기와 무관합니다.
+ */
+public final class Mp4FastStart {
+
+    private static final Set<String> CONTAINER_BOXES = Set.of("moov", "trak", "mdia", "minf", "stbl");
+    private static final long MAX_UINT32 = 0xFFFFFFFFL;
+
+    private Mp4FastStart() {
+    }
+
+    /**
+     * 최상위 박스 배치 분석 - moov 또는 mdat이 없거나 박스 구조가 올바르지 않으면 null (MP4가 아님)
+     */
+    public static Layout inspect(FileChannel source) throws IOException {
+        long fileSize = source.size();
+        long position = 0;
+        long moovOffset = -1;
+        long moovSize = 0;
+        long firstMdatOffset = -1;
+        boolean compressedMoov = false;
+
+        ByteBuffer header = ByteBuffer.allocate(16);
+        while (position < fileSize) {
+            header.clear().limit(8);
+            if (readFully(source, header, position) < 8) {
+                return null;
+            }
+            long size = Integer.toUnsignedLong(header.getInt(0));
+            String type = fourCc(header, 4);
+            if (size == 1) {
+                header.limit(16);
+                if (readFully(source, header, position + 8) < 8) {
+                    return null;
+                }
+                size = header.getLong(8);
+            } else if (size == 0) {
+                size = fileSize - position;
+            }
+            if (size < 8 || position + size > fileSize) {
+                return null;
+            }
+
+            if (type.equals("moov") && moovOffset < 0) {
+                moovOffset = position;
+                moovSize = size;
+            } else if (type.equals("mdat") && firstMdatOffset < 0) {
+                firstMdatOffset = position;
+            } else if (type.equals("cmov")) {
+                compressedMoov = true;
+            }
+            position += size;
+        }
+
+        if (moovOffset < 0 || firstMdatOffset < 0) {
+            return null;
+        }
+        return new Layout(fileSize, moovOffset, moovSize, firstMdatOffset, compressedMoov);
+    }
+
+    /**
+     * moov를 첫 mdat 앞으로 옮겨 target에 기록 - 기록한 바이트 수 반환
+     * stco 오프셋이 32비트를 넘게 되거나 압축된 moov처럼 지원하지 않는 구조면 IOException
+     */
+    public static long relocateMoov(FileChannel source, Layout layout, int maxMoovBytes,
+                                    WritableByteChannel target) throws IOException {
+        if (!layout.needsRelocation()) {
+            throw new IOException("moov가 이미 mdat 앞에 있습니다");
+        }
+        if (layout.compressedMoov()) {
+            throw new IOException("압축된 moov(cmov)는 지원하지 않습니다");
+        }
+        if (layout.moovSize() > maxMoovBytes) {
+            throw new IOException("moov 크기가 한도를 초과합니다: " + layout.moovSize() + " bytes");
+        }
+
+        ByteBuffer moov = ByteBuffer.allocate((int) layout.moovSize());
+        if (readFully(source, moov, layout.moovOffset()) < layout.moovSize()) {
+            throw new IOException("moov를 끝까지 읽지 못했습니다");
+        }
+
+        // 첫 mdat부터 기존 moov 위치 사이의 데이터는 moov 크기만큼 뒤로 밀림
+        shiftChunkOffsets(moov, 0, moov.capacity(), true,
+                layout.firstMdatOffset(), layout.moovOffset(), layout.moovSize());
+
+        long written = 0;
+        written += transfer(source, 0, layout.firstMdatOffset(), target);
+        moov.clear();
+        while (moov.hasRemaining()) {
+            written += target.write(moov);
+        }
+        written += transfer(source, layout.firstMdatOffset(), layout.moovOffset() - layout.firstMdatOffset(), target);
+        long afterMoov = layout.moovOffset() + layout.moovSize();
+        written += transfer(source, afterMoov, layout.fileSize() - afterMoov, target);
+        return written;
+    }
+
+    private static void shiftChunkOffsets(ByteBuffer moov, int start, int end, boolean topLevel,
+                                          long shiftFrom, long shiftUntil, long delta) throws IOException {
+        int position = start;
+        while (position + 8 <= end) {
+            long size = Integer.toUnsignedLong(moov.getInt(position));
+            String type = fourCc(moov, position + 4);
+            int headerSize = 8;
+            if (size == 1) {
+                size = moov.getLong(position + 8);
+                headerSize = 16;
+            } else if (size == 0) {
+                size = end - position;
+            }
+            if (size < headerSize || position + size > end) {
+                throw new IOException("moov 내부 박스 구조가 올바르지 않습니다: " + type);
+            }
+
+            int boxEnd = (int) (position + size);
+            if (topLevel || CONTAINER_BOXES.contains(type)) {
+                // 최상위 호출은 moov 박스 자신 - 헤더를 건너뛰고 자식 박스를 탐색
+                shiftChunkOffsets(moov, position + headerSize, boxEnd, false, shiftFrom, shiftUntil, delta);
+            } else if (type.equals("stco") || type.equals("co64")) {
+                boolean wide = type.equals("co64");
+                int entryCount = moov.getInt(position + headerSize + 4);
+                int entry = position + headerSize + 8;
+                if (entryCount < 0 || entry + (long) entryCount * (wide ? 8 : 4) > boxEnd) {
+                    throw new IOException(type + " 항목 수가 박스 크기를 벗어납니다");
+                }
+                for (int i = 0; i < entryCount; i++, entry += wide ? 8 : 4) {
+                    long offset = wide ? moov.getLong(entry) : Integer.toUnsignedLong(moov.getInt(entry));
+                    if (offset < shiftFrom || offset >= shiftUntil) {
+                        continue;
+                    }
+                    long shifted = offset + delta;
+                    if (wide) {
+                        moov.putLong(entry, shifted);
+                    } else if (shifted > MAX_UINT32) {
+                        throw new IOException("stco 오프셋이 32비트 범위를 넘습니다 (co64 변환 필요)");
+                    } else {
+                        moov.putInt(entry, (int) shifted);
+                    }
+                }
+            }
+            position = boxEnd;
+        }
+    }
+
+    private static long transfer(FileChannel source, long position, long count, WritableByteChannel target)
+            throws IOException {
+        long transferred = 0;
+        while (transferred < count) {
+            long sent = source.transferTo(position + transferred, count - transferred, target);
+            if (sent <= 0) {
+                throw new IOException("파일 복사 중 예상보다 일찍 끝났습니다");
+            }
+            transferred += sent;
+        }
+        return transferred;
+    }
+
+    private static int readFully(FileChannel source, ByteBuffer target, long position) throws IOException {
+        int total = 0;
+        while (target.hasRemaining()) {
+            int read = source.read(target, position + total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    private static String fourCc(ByteBuffer buffer, int index) {
+        byte[] type = new byte[4];
+        buffer.get(index, type);
+        return new String(type, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 최상위 박스 배치
+     *
+     * @param fileSize        파일 크기
+     * @param moovOffset      moov 박스 시작 위치
+     * @param moovSize        moov 박스 크기
+     * @param firstMdatOffset 첫 mdat 박스 시작 위치
+     * @param compressedMoov  압축된 moov(cmov) 포함 여부
+     */
+    public record Layout(
+            long fileSize,
+            long moovOffset,
+            long moovSize,
+            long firstMdatOffset,
+            boolean compressedMoov
+    ) {
+        /**
+         * moov가 첫 mdat 뒤에 있어 fast-start 변환이 필요한지 여부
+         */
+        public boolean needsRelocation() {
+            return moovOffset > firstMdatOffset;
+        }
+
+        /**
+         * 처음부터 순서대로 받을 때 재생을 시작하려면 받아야 하는 바이트 수 (moov 끝까지)
+         */
+        public long playableOffset() {
+            return moovOffset + moovSize;
+        }
+
+        /**
+         * fast-start 변환 후의 재생 가능 오프셋
+         */
+        public long relocatedPlayableOffset() {
+            return needsRelocation() ? firstMdatOffset + moovSize : playableOffset();
+        }
+    }
+}
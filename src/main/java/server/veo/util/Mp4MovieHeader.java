@@ -0,0 +1,70 @@
+package server.veo.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * MP4 moov/mvhd 박스에서 재생 길이 읽기
+ * moov 전체를 읽지 않고 자식 박스 헤더만 따라가 mvhd의 timescale과 duration을 읽습니다.
+ */
+public final class Mp4MovieHeader {
+
+    private Mp4MovieHeader() {
+    }
+
+    /**
+     * 재생 길이 - MP4가 아니거나 mvhd가 없으면 null
+     */
+    public static Duration readDuration(FileChannel source) throws IOException {
+        Mp4FastStart.Layout layout = Mp4FastStart.inspect(source);
+        if (layout == null) {
+            return null;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(16);
+        long moovEnd = layout.moovOffset() + layout.moovSize();
+        long position = layout.moovOffset() + readBoxHeader(source, layout.moovOffset(), header);
+        while (position + 8 <= moovEnd) {
+            int headerSize = readBoxHeader(source, position, header);
+            long size = headerSize == 16 ? header.getLong(8) : Integer.toUnsignedLong(header.getInt(0));
+            if (size == 0) {
+                size = moovEnd - position;
+            }
+            if (size < headerSize || position + size > moovEnd) {
+                return null;
+            }
+
+            if (new String(header.array(), 4, 4, StandardCharsets.ISO_8859_1).equals("mvhd")) {
+                return parseMovieHeader(source, position + headerSize);
+            }
+            position += size;
+        }
+        return null;
+    }
+
+    private static Duration parseMovieHeader(FileChannel source, long position) throws IOException {
+        // version(1) flags(3) | v0: creation(4) modification(4) timescale(4) duration(4)
+        //                     | v1: creation(8) modification(8) timescale(4) duration(8)
+        ByteBuffer fields = ByteBuffer.allocate(32);
+        source.read(fields, position);
+        int version = fields.get(0);
+        long timescale = Integer.toUnsignedLong(fields.getInt(version == 1 ? 20 : 12));
+        long duration = version == 1 ? fields.getLong(24) : Integer.toUnsignedLong(fields.getInt(16));
+        if (timescale == 0) {
+            return null;
+        }
+        return Duration.ofMillis(duration * 1000 / timescale);
+    }
+
+    /**
+     * position의 박스 헤더를 header에 읽고 헤더 크기 반환 (64비트 크기 박스면 16)
+     */
+    private static int readBoxHeader(FileChannel source, long position, ByteBuffer header) throws IOException {
+        header.clear();
+        source.read(header, position);
+        return header.getInt(0) == 1 ? 16 : 8;
+    }
+}
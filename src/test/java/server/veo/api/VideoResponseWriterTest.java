@@ -0,0 +1,171 @@
+package server.veo.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import server.veo.service.TransferBufferPool;
+
+class VideoResponseWriterTest {
+
+    private static final String CONTENT = "0123456789abcdefghij"; // 20 bytes
+
+    @TempDir
+    Path directory;
+
+    private Path video;
+    private VideoResponseWriter writer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        video = Files.writeString(directory.resolve("video.mp4"), CONTENT);
+        writer = new VideoResponseWriter(new TransferBufferPool(4, 2), 10, true, 0);
+    }
+
+    @Test
+    @DisplayName("Range가 없으면 전체를 ETag, Last-Modified, Accept-Ranges와 함께 전송한다")
+    void servesFullContentWithValidators() throws Exception {
+        MockHttpServletResponse response = write(get());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).matches("\"[0-9a-f]{64}\"");
+        assertThat(response.getHeader(HttpHeaders.LAST_MODIFIED)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("단일 범위 요청은 206과 해당 바이트만 전송한다")
+    void servesSingleRange() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 5-9/20");
+        assertThat(response.getContentAsString()).isEqualTo("56789");
+        assertThat(response.getContentLengthLong()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("다중 범위 요청은 multipart/byteranges로 각 범위를 전송한다")
+    void servesMultipleRanges() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-1, -3");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentType()).startsWith("multipart/byteranges; boundary=");
+        String body = response.getContentAsString();
+        assertThat(body).contains("Content-Range: bytes 0-1/20\r\n\r\n01\r\n");
+        assertThat(body).contains("Content-Range: bytes 17-19/20\r\n\r\nhij\r\n");
+        assertThat(response.getContentLengthLong()).isEqualTo(body.getBytes(StandardCharsets.US_ASCII).length);
+    }
+
+    @Test
+    @DisplayName("파일 크기를 벗어난 범위만 요청하면 416을 반환한다")
+    void rejectsUnsatisfiableRange() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-200");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */20");
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 본문 없이 304를 반환한다")
+    void returnsNotModifiedForMatchingETag() throws Exception {
+        String etag = write(get()).getHeader(HttpHeaders.ETAG);
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("If-Range가 현재 ETag와 다르면 Range를 무시하고 전체를 전송한다")
+    void ignoresRangeWhenIfRangeDoesNotMatch() throws Exception {
+        String etag = write(get()).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest stale = get();
+        stale.addHeader(HttpHeaders.RANGE, "bytes=0-1");
+        stale.addHeader(HttpHeaders.IF_RANGE, "\"outdated\"");
+        assertThat(write(stale).getStatus()).isEqualTo(200);
+
+        MockHttpServletRequest fresh = get();
+        fresh.addHeader(HttpHeaders.RANGE, "bytes=0-1");
+        fresh.addHeader(HttpHeaders.IF_RANGE, etag);
+        assertThat(write(fresh).getStatus()).isEqualTo(206);
+    }
+
+    @Test
+    @DisplayName("커넥터가 sendfile을 지원하면 본문 대신 sendfile 요청 속성으로 범위를 넘긴다")
+    void delegatesToSendfileWhenSupported() throws Exception {
+        MockHttpServletRequest request = get();
+        request.setAttribute(VideoResponseWriter.SENDFILE_SUPPORTED_ATTR, Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute(VideoResponseWriter.SENDFILE_FILENAME_ATTR))
+                .isEqualTo(video.toAbsolutePath().toString());
+        assertThat(request.getAttribute(VideoResponseWriter.SENDFILE_START_ATTR)).isEqualTo(5L);
+        assertThat(request.getAttribute(VideoResponseWriter.SENDFILE_END_ATTR)).isEqualTo(10L);
+    }
+
+    private MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/api/v1/videos/video.mp4");
+    }
+
+    @Test
+    @DisplayName("내용 해시를 알면 파일을 해시하지 않고 그 값을 ETag로 사용한다")
+    void usesKnownContentHashAsETag() throws Exception {
+        String contentHash = "a".repeat(64);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.write(get(), response, video, "video/mp4", "video.mp4", contentHash);
+
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + contentHash + "\"");
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("전송 중 파일이 짧아져 선언한 길이만큼 보낼 수 없으면 EOFException으로 실패한다")
+    void failsWhenFileIsTruncatedDuringTransfer() throws Exception {
+        try (FileChannel channel = FileChannel.open(video)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            assertThatThrownBy(() -> VideoResponseWriter.transferRange(channel, Channels.newChannel(out), 10, 20))
+                    .isInstanceOf(EOFException.class);
+            assertThat(out.toString(StandardCharsets.US_ASCII)).isEqualTo(CONTENT.substring(10));
+        }
+    }
+
+    private MockHttpServletResponse write(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        writer.write(request, response, video, "video/mp4", "video.mp4");
+        return response;
+    }
+}
@@ -0,0 +1,113 @@
+package server.veo.backend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.genai.errors.ApiException;
+import com.google.genai.types.GenerateVideosConfig;
+import com.google.genai.types.GenerateVideosOperation;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import server.veo.fixture.Mp4Fixture;
+import server.veo.service.TransferBufferPool;
+import server.veo.util.Mp4FastStart;
+import server.veo.util.Mp4MovieHeader;
+
+class FakeVideoGenerationBackendTest {
+
+    private static final GenerateVideosConfig CONFIG = GenerateVideosConfig.builder()
+            .outputGcsUri("gs://local-bucket/videos/")
+            .build();
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStore objectStore;
+
+    @BeforeEach
+    void setUp() {
+        objectStore = new LocalObjectStore(root.toString(), "local-bucket", new TransferBufferPool(1024, 2),
+                0, 0, 0, "http://localhost:8080");
+    }
+
+    @Test
+    @DisplayName("생성 시간이 지나면 완료되고 출력 위치에 가짜 비디오가 저장된다")
+    void completesAfterGenerationLatency() {
+        FakeVideoGenerationBackend backend = backend(50, 0, 0);
+
+        GenerateVideosOperation submitted = backend.generateVideos("veo-test", "prompt", null, CONFIG);
+        assertThat(submitted.done()).contains(false);
+        assertThat(backend.getVideosOperation(submitted).done()).contains(false);
+
+        GenerateVideosOperation completed = awaitDone(backend, submitted);
+
+        String videoUri = completed.response().orElseThrow()
+                .generatedVideos().orElseThrow().get(0)
+                .video().orElseThrow()
+                .uri().orElseThrow();
+        assertThat(videoUri).startsWith("gs://local-bucket/videos/");
+        assertThat(Files.exists(objectStore.resolve(videoUri.substring("gs://local-bucket/".length())))).isTrue();
+    }
+
+    @Test
+    @DisplayName("설정된 실패율에 따라 제출 또는 생성이 실패한다")
+    void failsAtConfiguredRates() {
+        assertThatThrownBy(() -> backend(0, 1.0, 0).generateVideos("veo-test", "prompt", null, CONFIG))
+                .isInstanceOfSatisfying(ApiException.class, e -> assertThat(e.code()).isEqualTo(429));
+
+        FakeVideoGenerationBackend failingGeneration = backend(0, 0, 1.0);
+        GenerateVideosOperation completed = awaitDone(failingGeneration,
+                failingGeneration.generateVideos("veo-test", "prompt", null, CONFIG));
+
+        assertThat(completed.error()).isPresent();
+        assertThat(completed.response()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가짜 비디오는 moov가 끝에 있는 실제 MP4이고, 설정한 크기까지 free 박스로 채워도 후처리할 수 있다")
+    void producesPaddedMp4WithMoovAtEnd() throws Exception {
+        byte[] video = FakeVideoGenerationBackend.loadFakeVideo(64 * 1024);
+        Path file = Files.write(root.resolve("fake.mp4"), video);
+
+        assertThat(video).hasSize(64 * 1024);
+        assertThat(Mp4Fixture.boxOffset(video, "moov")).isGreaterThan(Mp4Fixture.boxOffset(video, "mdat"));
+        assertThat(Mp4Fixture.boxOffset(video, "free")).isGreaterThan(Mp4Fixture.boxOffset(video, "moov"));
+        ByteArrayOutputStream fastStart = new ByteArrayOutputStream();
+        try (FileChannel channel = FileChannel.open(file)) {
+            assertThat(Mp4MovieHeader.readDuration(channel)).isEqualTo(Duration.ofSeconds(8));
+            Mp4FastStart.relocateMoov(channel, Mp4FastStart.inspect(channel), 1 << 20, Channels.newChannel(fastStart));
+        }
+        // 재배치 후에도 모든 청크 오프셋이 JPEG 프레임 시작(SOI)을 가리킴
+        byte[] relocated = fastStart.toByteArray();
+        long[] chunkOffsets = Mp4Fixture.chunkOffsets(relocated);
+        assertThat(chunkOffsets).hasSize(8);
+        for (long offset : chunkOffsets) {
+            assertThat(relocated[(int) offset]).isEqualTo((byte) 0xFF);
+            assertThat(relocated[(int) offset + 1]).isEqualTo((byte) 0xD8);
+        }
+        assertThat(FakeVideoGenerationBackend.loadFakeVideo(16)).hasSizeLessThan(64 * 1024);
+    }
+
+    private FakeVideoGenerationBackend backend(long generationLatencyMillis, double submitFailureRate,
+                                               double generationFailureRate) {
+        return new FakeVideoGenerationBackend(objectStore, 0, 0, 0, 0, generationLatencyMillis, 0,
+                submitFailureRate, generationFailureRate, 16);
+    }
+
+    private GenerateVideosOperation awaitDone(FakeVideoGenerationBackend backend, GenerateVideosOperation operation) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        GenerateVideosOperation refreshed = operation;
+        while (!refreshed.done().orElse(false) && System.currentTimeMillis() < deadline) {
+            refreshed = backend.getVideosOperation(refreshed);
+        }
+        return refreshed;
+    }
+}
@@ -0,0 +1,61 @@
+package server.veo.backend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import server.veo.service.TransferBufferPool;
+
+class LocalObjectStoreTest {
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStore objectStore;
+
+    @BeforeEach
+    void setUp() {
+        objectStore = new LocalObjectStore(root.toString(), "local-bucket", new TransferBufferPool(8, 2),
+                0, 0, 0, "http://localhost:8080");
+    }
+
+    @Test
+    @DisplayName("객체를 파일로 저장하고 GCS와 같은 형태의 URI를 반환한다")
+    void storesObjectsOnFileSystem() throws Exception {
+        boolean created = objectStore.putIfAbsent("veo-images/a.jpg", "image/jpeg", stream("image-content"));
+
+        assertThat(created).isTrue();
+        assertThat(objectStore.exists("veo-images/a.jpg")).isTrue();
+        assertThat(Files.readString(root.resolve("veo-images/a.jpg"))).isEqualTo("image-content");
+        assertThat(objectStore.uriOf("veo-images/a.jpg")).isEqualTo("gs://local-bucket/veo-images/a.jpg");
+    }
+
+    @Test
+    @DisplayName("이미 있는 객체는 덮어쓰지 않는다")
+    void doesNotOverwriteExistingObjects() throws Exception {
+        objectStore.putIfAbsent("a.jpg", "image/jpeg", stream("first"));
+
+        boolean created = objectStore.putIfAbsent("a.jpg", "image/jpeg", stream("second"));
+
+        assertThat(created).isFalse();
+        assertThat(Files.readString(root.resolve("a.jpg"))).isEqualTo("first");
+    }
+
+    @Test
+    @DisplayName("저장소 루트 밖을 가리키는 객체 이름은 거부한다")
+    void rejectsPathTraversal() {
+        assertThatThrownBy(() -> objectStore.exists("../outside.jpg"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,144 @@
+package server.veo.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.catalina.Context;
+import org.apache.catalina.startup.Tomcat;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import server.veo.api.VideoResponseWriter;
+import server.veo.fixture.Mp4Fixture;
+import server.veo.service.Mp4FastStartProcessor;
+import server.veo.service.TransferBufferPool;
+
+/**
+ * MP4 fast-start 전후의 재생 가능 데이터 도착 시간 비교 벤치마크 (임베디드 Tomcat)
+ * - original: moov가 파일 끝에 있는 Veo 출력 형태
+ * - faststart: Mp4FastStartProcessor로 moov를 앞으로 옮긴 파일
+ *
+ * 클라이언트는 모바일 회선을 가정해 대역폭을 제한하며 처음부터 순서대로 받고,
+ * moov 박스 끝까지 도착한 시각(재생을 시작할 수 있는 시각)을 측정합니다.
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class FastStartPlaybackBenchmark {
+
+    private static final int PAYLOAD_SIZE = 16 * 1024 * 1024;
+    private static final long BYTES_PER_SECOND = 20L * 1024 * 1024;
+    private static final int READ_SIZE = 64 * 1024;
+
+    private static Path baseDir;
+    private static Tomcat tomcat;
+    private static int port;
+
+    @BeforeAll
+    static void startServer() throws Exception {
+        baseDir = Files.createTempDirectory("veo-faststart-benchmark");
+        Path original = Files.write(baseDir.resolve("original.mp4"), Mp4Fixture.moovAtEnd(PAYLOAD_SIZE, 2000, 8000));
+        Path fastStart = baseDir.resolve("faststart.mp4");
+        Files.createFile(fastStart);
+        assertThat(new Mp4FastStartProcessor(new SimpleMeterRegistry(), true, 1 << 20).rewrite(original, fastStart))
+                .isPresent();
+
+        VideoResponseWriter writer = new VideoResponseWriter(new TransferBufferPool(64, 4), 10, true, 48 * 1024);
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(baseDir.toString());
+        tomcat.setPort(0);
+        Context context = tomcat.addContext("", baseDir.toString());
+        Tomcat.addServlet(context, "videos", new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                String fileName = request.getPathInfo().substring(1);
+                writer.write(request, response, baseDir.resolve(fileName), "video/mp4", fileName);
+            }
+        });
+        context.addServletMappingDecoded("/videos/*", "videos");
+        tomcat.start();
+        port = tomcat.getConnector().getLocalPort();
+    }
+
+    @AfterAll
+    static void stopServer() throws Exception {
+        tomcat.stop();
+        tomcat.destroy();
+        try (var paths = Files.walk(baseDir)) {
+            paths.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    @DisplayName("fast-start 변환 후에는 moov가 먼저 도착하여 재생 가능 시점이 크게 앞당겨진다")
+    void compareTimeToPlayableData() throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        // 연결/JIT 예열
+        timeToPlayableMillis(client, "faststart.mp4");
+
+        double originalMillis = timeToPlayableMillis(client, "original.mp4");
+        double fastStartMillis = timeToPlayableMillis(client, "faststart.mp4");
+
+        System.out.printf("[FastStartPlaybackBenchmark] 파일 %d bytes, 대역폭 %d MB/s - 재생 가능 데이터 도착: original %.1f ms, faststart %.1f ms%n",
+                Files.size(baseDir.resolve("original.mp4")), BYTES_PER_SECOND / (1024 * 1024),
+                originalMillis, fastStartMillis);
+
+        assertThat(fastStartMillis).isLessThan(originalMillis / 10);
+    }
+
+    /**
+     * 대역폭을 제한하며 처음부터 받고, moov 끝 바이트가 도착한 시각을 반환
+     */
+    private double timeToPlayableMillis(HttpClient client, String fileName) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/videos/" + fileName)).build();
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        List<long[]> arrivals = new ArrayList<>(); // {누적 바이트 수, 경과 나노초}
+
+        long startNanos = System.nanoTime();
+        HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            byte[] chunk = new byte[READ_SIZE];
+            int read;
+            while ((read = body.read(chunk)) != -1) {
+                received.write(chunk, 0, read);
+                throttle(startNanos, received.size());
+                arrivals.add(new long[]{received.size(), System.nanoTime() - startNanos});
+            }
+        }
+
+        byte[] file = received.toByteArray();
+        int moovOffset = Mp4Fixture.boxOffset(file, "moov");
+        long playableOffset = moovOffset + (long) ByteBuffer.wrap(file).getInt(moovOffset);
+        for (long[] arrival : arrivals) {
+            if (arrival[0] >= playableOffset) {
+                return arrival[1] / 1_000_000.0;
+            }
+        }
+        throw new IllegalStateException("moov를 끝까지 받지 못했습니다");
+    }
+
+    private void throttle(long startNanos, long receivedBytes) throws InterruptedException {
+        long dueNanos = startNanos + receivedBytes * 1_000_000_000L / BYTES_PER_SECOND;
+        long waitNanos = dueNanos - System.nanoTime();
+        if (waitNanos > 0) {
+            Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package server.veo.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import server.veo.backend.GcsObjectStore;
+import server.veo.fixture.CountingWriteChannel;
+import server.veo.service.GcsImageUploadService;
+import server.veo.service.ImageHashIndex;
+import server.veo.service.ImagePreprocessor;
+import server.veo.service.TransferBufferPool;
+
+/**
+ * 이미지 업로드 경로별 힙 할당량 비교 벤치마크
+ * - legacy: getBytes()로 전체 복사 후 업로드
+ * - streaming: InputStream → WriteChannel 고정 버퍼 스트리밍
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class ImageUploadHeapBenchmark {
+
+    private static final int IMAGE_SIZE = 8 * 1024 * 1024;
+    private static final int ITERATIONS = 20;
+
+    private static Path imagePath;
+
+    @BeforeAll
+    static void createImage() throws IOException {
+        byte[] content = new byte[IMAGE_SIZE];
+        new Random(42).nextBytes(content);
+        imagePath = Files.createTempFile("veo-benchmark", ".jpg");
+        Files.write(imagePath, content);
+    }
+
+    @AfterAll
+    static void deleteImage() throws IOException {
+        Files.deleteIfExists(imagePath);
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드는 이미지 크기와 무관하게 업로드당 힙 할당량이 고정된다")
+    void compareHeapAllocationPerUpload() throws Exception {
+        MultipartFile imageFile = new DiskMultipartFile(imagePath);
+
+        long legacyBytes = measureAllocatedBytes(() -> {
+            byte[] bytes = imageFile.getBytes();
+            new CountingWriteChannel().write(ByteBuffer.wrap(bytes));
+        });
+
+        GcsImageUploadService uploadService = streamingUploadService();
+        MultipartFile[] imageFiles = {imageFile};
+        long streamingBytes = measureAllocatedBytes(() -> uploadService.uploadImages(imageFiles));
+
+        System.out.printf("[ImageUploadHeapBenchmark] 이미지 %d bytes, 업로드당 평균 힙 할당 - legacy: %d bytes, streaming: %d bytes%n",
+                IMAGE_SIZE, legacyBytes, streamingBytes);
+
+        assertThat(streamingBytes).isLessThan(legacyBytes / 10);
+    }
+
+    private GcsImageUploadService streamingUploadService() {
+        Storage storage = mock(Storage.class, withSettings().stubOnly());
+        when(storage.writer(any(BlobInfo.class), any(Storage.BlobWriteOption.class)))
+                .thenAnswer(invocation -> new CountingWriteChannel());
+
+        Executor callerThread = Runnable::run;
+        // 해시 인덱스 크기를 0으로 두어 매 반복마다 실제 업로드 경로를 측정 (전처리는 끄고 스트리밍 경로만 측정)
+        TransferBufferPool transferBufferPool = new TransferBufferPool(256 * 1024, 4);
+        GcsObjectStore objectStore = new GcsObjectStore(storage, transferBufferPool);
+        ReflectionTestUtils.setField(objectStore, "bucketName", "benchmark-bucket");
+        ReflectionTestUtils.setField(objectStore, "uploadChunkSize", 256 * 1024);
+        GcsImageUploadService uploadService = new GcsImageUploadService(
+                objectStore, transferBufferPool, new ImageHashIndex(0),
+                new ImagePreprocessor(new SimpleMeterRegistry(), false, 1920, 0.85f, 100_000_000), callerThread);
+        ReflectionTestUtils.setField(uploadService, "uploadParallelism", 1);
+        return uploadService;
+    }
+
+    private long measureAllocatedBytes(ThrowingRunnable upload) throws Exception {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        // warm-up
+        for (int i = 0; i < 3; i++) {
+            upload.run();
+        }
+
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            upload.run();
+        }
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    /**
+     * 디스크에 임시 저장된 multipart 파일 (Tomcat의 대용량 part와 동일한 형태)
+     */
+    private record DiskMultipartFile(Path path) implements MultipartFile {
+
+        @Override
+        public String getName() {
+            return "imageFiles";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return path.getFileName().toString();
+        }
+
+        @Override
+        public String getContentType() {
+            return "image/jpeg";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            try {
+                return Files.size(path);
+            } catch (IOException e) {
+                return 0;
+            }
+        }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            return Files.readAllBytes(path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public void transferTo(java.io.File dest) throws IOException {
+            Files.copy(path, dest.toPath());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package server.veo.fixture;
+
+import com.google.cloud.RestorableState;
+import com.google.cloud.WriteChannel;
+import java.nio.ByteBuffer;
+
+/**
+ * 기록한 바이트 수만 세는 테스트용 GCS WriteChannel
+ */
+public class CountingWriteChannel implements WriteChannel {
+
+    private long writtenBytes;
+    private boolean open = true;
+
+    @Override
+    public int write(ByteBuffer source) {
+        int remaining = source.remaining();
+        source.position(source.limit());
+        writtenBytes += remaining;
+        return remaining;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        open = false;
+    }
+
+    @Override
+    public void setChunkSize(int chunkSize) {
+    }
+
+    @Override
+    public RestorableState<WriteChannel> capture() {
+        throw new UnsupportedOperationException();
+    }
+
+    public long getWrittenBytes() {
+        return writtenBytes;
+    }
+}
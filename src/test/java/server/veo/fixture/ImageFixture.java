@@ -0,0 +1,105 @@
+package server.veo.fixture;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+/**
+ * 테스트용 사진 생성기
+ * 사분면을 빨강(좌상), 초록(우상), 파랑(좌하), 흰색(우하)으로 칠하고 잡음을 섞어 휴대폰 원본처럼 큰 JPEG를 만듭니다.
+ */
+public final class ImageFixture {
+
+    private ImageFixture() {
+    }
+
+    /**
+     * 최고 품질 JPEG (EXIF 없음)
+     */
+    public static byte[] jpeg(int width, int height) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream imageOutput = new MemoryCacheImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(1.0f);
+            writer.write(null, new IIOImage(quadrants(width, height), null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * JPEG의 SOI 바로 뒤에 EXIF 방향 값만 담은 APP1 세그먼트 삽입
+     */
+    public static byte[] withOrientation(byte[] jpeg, int orientation) {
+        ByteBuffer app1 = ByteBuffer.allocate(2 + 2 + 6 + 8 + 2 + 12 + 4);
+        app1.putShort((short) 0xFFE1);
+        app1.putShort((short) (app1.capacity() - 2));
+        app1.put("Exif\0\0".getBytes(StandardCharsets.ISO_8859_1));
+        app1.put((byte) 'M').put((byte) 'M').putShort((short) 42).putInt(8); // TIFF 헤더 (빅 엔디언)
+        app1.putShort((short) 1);                                              // IFD0 항목 수
+        app1.putShort((short) 0x0112).putShort((short) 3).putInt(1)            // Orientation, SHORT, 1개
+                .putShort((short) orientation).putShort((short) 0);
+        app1.putInt(0);                                                        // 다음 IFD 없음
+
+        byte[] result = new byte[jpeg.length + app1.capacity()];
+        System.arraycopy(jpeg, 0, result, 0, 2);
+        System.arraycopy(app1.array(), 0, result, 2, app1.capacity());
+        System.arraycopy(jpeg, 2, result, 2 + app1.capacity(), jpeg.length - 2);
+        return result;
+    }
+
+    /**
+     * PNG
+     */
+    public static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(quadrants(width, height), "png", output);
+        return output.toByteArray();
+    }
+
+    private static BufferedImage quadrants(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, width / 2, height / 2);
+        graphics.setColor(Color.GREEN);
+        graphics.fillRect(width / 2, 0, width - width / 2, height / 2);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(0, height / 2, width / 2, height - height / 2);
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(width / 2, height / 2, width - width / 2, height - height / 2);
+        graphics.dispose();
+
+        // 사분면 색은 유지하면서 고주파 잡음을 섞어 압축률을 실제 사진 수준으로 낮춤
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int rgb = image.getRGB(x, y);
+                int noise = random.nextInt(41) - 20;
+                int r = clamp(((rgb >> 16) & 0xFF) + noise);
+                int g = clamp(((rgb >> 8) & 0xFF) + noise);
+                int b = clamp((rgb & 0xFF) + noise);
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+        return image;
+    }
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(255, value));
+    }
+}
@@ -0,0 +1,127 @@
+package server.veo.fixture;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * 테스트용 최소 MP4 생성기 - ftyp, mdat(임의 바이트), moov(mvhd, trak/mdia/minf/stbl/stco)
+ * stco는 mdat 본문을 chunkCount개로 나눈 각 청크의 시작 위치를 가리킵니다.
+ */
+public final class Mp4Fixture {
+
+    public static final int TIMESCALE = 1000;
+
+    private Mp4Fixture() {
+    }
+
+    /**
+     * moov가 mdat 뒤에 있는 MP4 (fast-start 아님)
+     */
+    public static byte[] moovAtEnd(int payloadSize, int chunkCount, long durationMillis) {
+        return build(payloadSize, chunkCount, durationMillis, true);
+    }
+
+    /**
+     * moov가 mdat 앞에 있는 MP4 (fast-start)
+     */
+    public static byte[] moovFirst(int payloadSize, int chunkCount, long durationMillis) {
+        return build(payloadSize, chunkCount, durationMillis, false);
+    }
+
+    /**
+     * 파일의 stco 청크 오프셋 목록
+     */
+    public static long[] chunkOffsets(byte[] mp4) {
+        ByteBuffer buffer = ByteBuffer.wrap(mp4);
+        int stco = indexOf(mp4, boxOffset(mp4, "moov"), "stco");
+        int entryCount = buffer.getInt(stco + 8);
+        long[] offsets = new long[entryCount];
+        for (int i = 0; i < entryCount; i++) {
+            offsets[i] = Integer.toUnsignedLong(buffer.getInt(stco + 12 + i * 4));
+        }
+        return offsets;
+    }
+
+    /**
+     * 최상위 박스의 시작 위치 (없으면 -1)
+     */
+    public static int boxOffset(byte[] mp4, String type) {
+        ByteBuffer buffer = ByteBuffer.wrap(mp4);
+        int position = 0;
+        while (position + 8 <= mp4.length) {
+            if (new String(mp4, position + 4, 4, StandardCharsets.US_ASCII).equals(type)) {
+                return position;
+            }
+            position += buffer.getInt(position);
+        }
+        return -1;
+    }
+
+    private static byte[] build(int payloadSize, int chunkCount, long durationMillis, boolean moovAtEnd) {
+        byte[] ftyp = box("ftyp", ByteBuffer.allocate(12)
+                .put(ascii("isom")).putInt(0x200).put(ascii("isom")).array());
+
+        byte[] payload = new byte[payloadSize];
+        new Random(11).nextBytes(payload);
+        byte[] mdat = box("mdat", payload);
+
+        // moov 크기는 청크 오프셋 값과 무관하므로 먼저 크기를 구한 뒤 실제 오프셋으로 다시 생성
+        int moovSize = moov(new long[chunkCount], durationMillis).length;
+        long mdatPayloadStart = ftyp.length + (moovAtEnd ? 0 : moovSize) + 8L;
+        long[] offsets = new long[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            offsets[i] = mdatPayloadStart + (long) i * (payloadSize / chunkCount);
+        }
+        byte[] moov = moov(offsets, durationMillis);
+
+        ByteBuffer file = ByteBuffer.allocate(ftyp.length + mdat.length + moov.length).put(ftyp);
+        if (moovAtEnd) {
+            file.put(mdat).put(moov);
+        } else {
+            file.put(moov).put(mdat);
+        }
+        return file.array();
+    }
+
+    private static byte[] moov(long[] chunkOffsets, long durationMillis) {
+        ByteBuffer mvhd = ByteBuffer.allocate(100)
+                .putInt(0)                    // version 0, flags
+                .putInt(0).putInt(0)          // creation / modification time
+                .putInt(TIMESCALE)
+                .putInt((int) durationMillis);
+        ByteBuffer stco = ByteBuffer.allocate(8 + chunkOffsets.length * 4).putInt(0).putInt(chunkOffsets.length);
+        for (long offset : chunkOffsets) {
+            stco.putInt((int) offset);
+        }
+        byte[] stbl = box("stbl", box("stco", stco.array()));
+        byte[] trak = box("trak", box("mdia", box("minf", stbl)));
+        return box("moov", concat(box("mvhd", mvhd.array()), trak));
+    }
+
+    private static byte[] box(String type, byte[] content) {
+        return ByteBuffer.allocate(8 + content.length).putInt(8 + content.length).put(ascii(type)).put(content).array();
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        return ByteBuffer.allocate(first.length + second.length).put(first).put(second).array();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static int indexOf(byte[] content, int from, String type) {
+        byte[] needle = ascii(type);
+        outer:
+        for (int i = from; i <= content.length - needle.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (content[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,147 @@
+package server.veo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import server.veo.backend.GcsObjectStore;
+import server.veo.fixture.CountingWriteChannel;
+import server.veo.fixture.ImageFixture;
+
+class GcsImageUploadServiceTest {
+
+    private Storage storage;
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+    private List<CountingWriteChannel> writers;
+    private GcsImageUploadService uploadService;
+
+    @BeforeEach
+    void setUp() {
+        storage = mock(Storage.class);
+        executor = Executors.newFixedThreadPool(4);
+        TransferBufferPool transferBufferPool = new TransferBufferPool(1024, 4);
+        GcsObjectStore objectStore = new GcsObjectStore(storage, transferBufferPool);
+        ReflectionTestUtils.setField(objectStore, "bucketName", "test-bucket");
+        ReflectionTestUtils.setField(objectStore, "uploadChunkSize", 256 * 1024);
+        meterRegistry = new SimpleMeterRegistry();
+        ImagePreprocessor imagePreprocessor = new ImagePreprocessor(meterRegistry, true, 800, 0.85f, 100_000_000);
+        uploadService = new GcsImageUploadService(
+                objectStore, transferBufferPool, new ImageHashIndex(100), imagePreprocessor, executor);
+        ReflectionTestUtils.setField(uploadService, "uploadParallelism", 3);
+        writers = new CopyOnWriteArrayList<>();
+        when(storage.writer(any(BlobInfo.class), any(Storage.BlobWriteOption.class)))
+                .thenAnswer(invocation -> {
+                    CountingWriteChannel writer = new CountingWriteChannel();
+                    writers.add(writer);
+                    return writer;
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("병렬 업로드 후에도 결과는 입력 인덱스 순서를 유지한다")
+    void keepsIndexOrdering() throws Exception {
+        MultipartFile[] files = {image("a.jpg", "A"), image("b.png", "B"), image("c.jpg", "C"), image("d.jpg", "D")};
+
+        List<String> uris = uploadService.uploadImages(files);
+
+        assertThat(uris).containsExactly(
+                "gs://test-bucket/veo-images/sha256/" + sha256("A") + ".jpg",
+                "gs://test-bucket/veo-images/sha256/" + sha256("B") + ".png",
+                "gs://test-bucket/veo-images/sha256/" + sha256("C") + ".jpg",
+                "gs://test-bucket/veo-images/sha256/" + sha256("D") + ".jpg");
+    }
+
+    @Test
+    @DisplayName("하나의 이미지 업로드가 실패해도 나머지 이미지는 업로드된다")
+    void isolatesPerFileFailures() throws Exception {
+        String failingHash = sha256("B");
+        when(storage.writer(argThat((BlobInfo info) -> info != null && info.getName().contains(failingHash)),
+                any(Storage.BlobWriteOption.class)))
+                .thenThrow(new StorageException(503, "unavailable"));
+        MultipartFile[] files = {image("a.jpg", "A"), image("b.jpg", "B"), image("c.jpg", "C")};
+
+        List<String> uris = uploadService.uploadImages(files);
+
+        assertThat(uris).hasSize(2);
+        assertThat(uris.get(0)).contains(sha256("A"));
+        assertThat(uris.get(1)).contains(sha256("C"));
+    }
+
+    @Test
+    @DisplayName("같은 내용의 이미지는 다시 업로드하지 않고 기존 URI를 재사용한다")
+    void reusesUploadedContent() {
+        List<String> first = uploadService.uploadImages(new MultipartFile[]{image("a.jpg", "same")});
+        List<String> retry = uploadService.uploadImages(new MultipartFile[]{image("retry.jpg", "same")});
+
+        assertThat(retry).isEqualTo(first);
+        verify(storage, times(1)).writer(any(BlobInfo.class), any(Storage.BlobWriteOption.class));
+    }
+
+    @Test
+    @DisplayName("로컬 인덱스에 없더라도 GCS에 이미 있는 이미지는 업로드하지 않는다")
+    void skipsUploadWhenBlobAlreadyExists() throws Exception {
+        when(storage.get(any(BlobId.class))).thenReturn(mock(Blob.class));
+
+        List<String> uris = uploadService.uploadImages(new MultipartFile[]{image("a.jpg", "existing")});
+
+        assertThat(uris).containsExactly("gs://test-bucket/veo-images/sha256/" + sha256("existing") + ".jpg");
+        verify(storage, never()).writer(any(BlobInfo.class), any(Storage.BlobWriteOption.class));
+    }
+
+    @Test
+    @DisplayName("큰 사진은 줄여서 JPEG로 업로드하고 요청당 줄어든 바이트 수를 기록한다")
+    void uploadsDownscaledPhotoAndRecordsBytesSaved() throws Exception {
+        byte[] photo = ImageFixture.png(1600, 1200);
+        MockMultipartFile file = new MockMultipartFile("imageFiles", "photo.png", "image/png", photo);
+
+        List<String> uris = uploadService.uploadImages(new MultipartFile[]{file});
+
+        assertThat(uris).singleElement().asString()
+                .startsWith("gs://test-bucket/veo-images/sha256/")
+                .endsWith(".jpg");
+        long uploadedBytes = writers.get(0).getWrittenBytes();
+        assertThat(uploadedBytes).isLessThan(photo.length);
+        assertThat(meterRegistry.summary("veo.image.preprocess.bytes.saved").totalAmount())
+                .isEqualTo((double) (photo.length - uploadedBytes));
+    }
+
+    private MockMultipartFile image(String name, String content) {
+        return new MockMultipartFile("imageFiles", name, "image/jpeg", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String sha256(String content) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,132 @@
+package server.veo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import server.veo.backend.LocalObjectStore;
+import server.veo.fixture.Mp4Fixture;
+import server.veo.util.DigestingChannel;
+
+class GcsVideoCacheServiceTest {
+
+    private static final String OBJECT_NAME = "videos/1234567890/sample_0.mp4";
+
+    @TempDir
+    Path objectRoot;
+
+    @TempDir
+    Path videoDir;
+
+    private final AtomicInteger opens = new AtomicInteger();
+    private final CountDownLatch openGate = new CountDownLatch(1);
+
+    private byte[] content;
+    private VideoStorageService videoStorageService;
+    private LocalObjectStore objectStore;
+    private GcsVideoCacheService cacheService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        content = Mp4Fixture.moovAtEnd(300_000, 10, 8_000);
+        Path object = objectRoot.resolve(OBJECT_NAME);
+        Files.createDirectories(object.getParent());
+        Files.write(object, content);
+
+        TransferBufferPool pool = new TransferBufferPool(8 * 1024, 4);
+        objectStore = new LocalObjectStore(objectRoot.toString(), "local-bucket", pool,
+                0, 0, 0, "http://localhost:8080") {
+            @Override
+            public ReadableByteChannel openReader(String objectName) throws IOException {
+                opens.incrementAndGet();
+                try {
+                    openGate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.openReader(objectName);
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        videoStorageService = new VideoStorageService(pool, new Mp4FastStartProcessor(meterRegistry, true, 1 << 20),
+                meterRegistry, videoDir.toString(), "http://localhost:8080/", Long.MAX_VALUE, 0.9);
+        cacheService = new GcsVideoCacheService(objectStore, videoStorageService, "videos/", 10, "http://localhost:8080/");
+    }
+
+    @Test
+    @DisplayName("버킷의 비디오 URI는 프록시 URL로 바꾸고, 프록시 ID는 비디오 경로의 객체로만 되돌린다")
+    void mapsGcsUrisToProxyIds() {
+        String proxyUrl = cacheService.proxyUrlOf("gs://local-bucket/" + OBJECT_NAME);
+        String id = proxyUrl.substring(proxyUrl.lastIndexOf('/') + 1);
+
+        assertThat(proxyUrl).startsWith("http://localhost:8080/api/v1/videos/gcs/");
+        assertThat(cacheService.objectNameOf(id)).contains(OBJECT_NAME);
+        assertThat(cacheService.proxyUrlOf("gs://other-bucket/" + OBJECT_NAME))
+                .isEqualTo("https://storage.cloud.google.com/other-bucket/" + OBJECT_NAME);
+        assertThat(cacheService.objectNameOf("aW1hZ2VzL2EuanBn")).isEmpty(); // "images/a.jpg"
+        assertThat(cacheService.objectNameOf("not base64!")).isEmpty();
+
+        // 공개 주소가 설정되지 않으면 클라이언트가 접근할 수 없는 프록시 URL 대신 GCS 링크 사용
+        GcsVideoCacheService withoutPublicUrl = new GcsVideoCacheService(objectStore, videoStorageService, "videos/", 10, "");
+        assertThat(withoutPublicUrl.proxyUrlOf("gs://local-bucket/" + OBJECT_NAME))
+                .isEqualTo("https://storage.cloud.google.com/local-bucket/" + OBJECT_NAME);
+    }
+
+    @Test
+    @DisplayName("첫 요청은 fast-start 후처리를 마친 파일을 내용 기반 파일명으로 게시하고, 이후 요청은 다운로드 없이 같은 파일을 사용한다")
+    void publishesFastStartFileUnderContentHash() throws Exception {
+        openGate.countDown();
+
+        String fileName = cacheService.fetch(OBJECT_NAME);
+
+        byte[] cached = Files.readAllBytes(videoStorageService.getVideoFilePath(fileName));
+        assertThat(cached).hasSameSizeAs(content);
+        assertThat(Mp4Fixture.boxOffset(cached, "moov")).isLessThan(Mp4Fixture.boxOffset(cached, "mdat"));
+        assertThat(fileName).isEqualTo(DigestingChannel.sha256Hex(cached) + ".mp4");
+        assertThat(videoStorageService.isContentAddressed(fileName)).isTrue();
+
+        assertThat(cacheService.fetch(OBJECT_NAME)).isEqualTo(fileName);
+        assertThat(opens).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("같은 객체에 대한 동시 첫 요청은 GCS 다운로드 하나로 합쳐진다")
+    void collapsesConcurrentFirstFetches() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        Set<String> fileNames = new HashSet<>();
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(clients.submit(() -> cacheService.fetch(OBJECT_NAME)));
+            }
+            Thread.sleep(200);
+            openGate.countDown();
+
+            for (Future<String> result : results) {
+                fileNames.add(result.get());
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        assertThat(opens).hasValue(1);
+        assertThat(fileNames).hasSize(1);
+        assertThat(videoStorageService.videoFileExists(fileNames.iterator().next())).isTrue();
+    }
+}
@@ -0,0 +1,86 @@
+package server.veo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.util.Optional;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import server.veo.fixture.ImageFixture;
+
+class ImagePreprocessorTest {
+
+    private final ImagePreprocessor preprocessor =
+            new ImagePreprocessor(new SimpleMeterRegistry(), true, 800, 0.85f, 100_000_000);
+
+    @Test
+    @DisplayName("긴 변이 한도를 넘는 사진은 비율을 유지하며 줄이고 JPEG로 다시 인코딩한다")
+    void downscalesToMaxEdge() throws Exception {
+        byte[] photo = ImageFixture.jpeg(2400, 1350);
+
+        ImagePreprocessor.PreparedImage prepared = preprocessor.prepare(file("photo.jpg", "image/jpeg", photo)).orElseThrow();
+
+        BufferedImage output = decode(prepared.content());
+        assertThat(output.getWidth()).isEqualTo(800);
+        assertThat(output.getHeight()).isEqualTo(450);
+        assertThat(prepared.contentType()).isEqualTo("image/jpeg");
+        assertThat(prepared.bytesSaved()).isGreaterThan(photo.length / 2);
+    }
+
+    @Test
+    @DisplayName("EXIF 방향 값을 픽셀에 반영한다 - 6(시계 방향 90도)이면 가로/세로가 바뀌고 좌상단이 우상단으로 간다")
+    void appliesExifOrientation() throws Exception {
+        byte[] photo = ImageFixture.withOrientation(ImageFixture.jpeg(400, 200), 6);
+
+        ImagePreprocessor.PreparedImage prepared = preprocessor.prepare(file("photo.jpg", "image/jpeg", photo)).orElseThrow();
+
+        BufferedImage output = decode(prepared.content());
+        assertThat(output.getWidth()).isEqualTo(200);
+        assertThat(output.getHeight()).isEqualTo(400);
+        assertThat(dominant(output.getRGB(150, 50))).isEqualTo(Color.RED);   // 원본 좌상단
+        assertThat(dominant(output.getRGB(50, 50))).isEqualTo(Color.BLUE);   // 원본 좌하단
+        assertThat(dominant(output.getRGB(150, 350))).isEqualTo(Color.GREEN); // 원본 우상단
+    }
+
+    @Test
+    @DisplayName("줄일 필요도 회전할 필요도 없는 JPEG나 디코딩할 수 없는 형식은 다시 인코딩하지 않고 원본을 그대로 쓴다")
+    void keepsOriginalWhenNothingToGain() throws Exception {
+        byte[] small = ImageFixture.jpeg(64, 64);
+
+        Optional<ImagePreprocessor.PreparedImage> reencoded = preprocessor.prepare(file("small.jpg", "image/jpeg", small));
+        Optional<ImagePreprocessor.PreparedImage> undecodable =
+                preprocessor.prepare(file("photo.webp", "image/webp", "RIFF....WEBP".getBytes()));
+
+        assertThat(reencoded).isEmpty();
+        assertThat(undecodable).isEmpty();
+    }
+
+    private MockMultipartFile file(String name, String contentType, byte[] content) {
+        return new MockMultipartFile("imageFiles", name, contentType, content);
+    }
+
+    private BufferedImage decode(byte[] content) throws Exception {
+        return ImageIO.read(new ByteArrayInputStream(content));
+    }
+
+    private Color dominant(int rgb) {
+        int r = (rgb >> 16) & 0xFF;
+        int g = (rgb >> 8) & 0xFF;
+        int b = rgb & 0xFF;
+        if (r > 150 && g < 100 && b < 100) {
+            return Color.RED;
+        }
+        if (g > 150 && r < 100 && b < 100) {
+            return Color.GREEN;
+        }
+        if (b > 150 && r < 100 && g < 100) {
+            return Color.BLUE;
+        }
+        return Color.WHITE;
+    }
+}
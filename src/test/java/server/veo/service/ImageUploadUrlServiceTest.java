@@ -0,0 +1,123 @@
+package server.veo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import server.common.CustomException;
+import server.veo.backend.LocalObjectStore;
+import server.veo.backend.LocalUploadSessions;
+import server.veo.dto.ImageUploadSlot;
+import server.veo.dto.ImageUploadTicket;
+
+class ImageUploadUrlServiceTest {
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStore objectStore;
+    private LocalUploadSessions uploadSessions;
+    private ImageUploadUrlService uploadUrlService;
+
+    @BeforeEach
+    void setUp() {
+        TransferBufferPool pool = new TransferBufferPool(1024, 2);
+        objectStore = new LocalObjectStore(root.toString(), "local-bucket", pool,
+                0, 0, 0, "http://localhost:8080");
+        uploadSessions = new LocalUploadSessions(objectStore, pool, 3600);
+        uploadUrlService = new ImageUploadUrlService(objectStore, 900, 1024);
+    }
+
+    @Test
+    @DisplayName("슬롯별 서명 URL로 청크를 나눠 올린 객체는 요청자 본인의 참조로 GCS URI가 된다")
+    void resolvesObjectsUploadedThroughSignedUrls() throws Exception {
+        ImageUploadTicket ticket = uploadUrlService.issue(List.of("image/jpeg", "image/png"), 7L);
+
+        assertThat(ticket.slots()).extracting(ImageUploadSlot::objectName)
+                .containsExactly(
+                        "veo-uploads/7/" + ticket.uploadId() + "/0.jpg",
+                        "veo-uploads/7/" + ticket.uploadId() + "/1.png");
+        for (ImageUploadSlot slot : ticket.slots()) {
+            assertThat(slot.headers()).containsEntry("x-goog-resumable", "start");
+            upload(slot, new byte[300]);
+        }
+
+        List<String> gcsUris = uploadUrlService.resolve(
+                ticket.slots().stream().map(ImageUploadSlot::objectName).toList(), 7L);
+
+        assertThat(gcsUris).containsExactly(
+                "gs://local-bucket/veo-uploads/7/" + ticket.uploadId() + "/0.jpg",
+                "gs://local-bucket/veo-uploads/7/" + ticket.uploadId() + "/1.png");
+    }
+
+    @Test
+    @DisplayName("다른 회원의 객체나 업로드가 끝나지 않은 객체는 거부한다")
+    void rejectsForeignOrIncompleteObjects() throws Exception {
+        ImageUploadTicket ticket = uploadUrlService.issue(List.of("image/jpeg"), 7L);
+        ImageUploadSlot slot = ticket.slots().get(0);
+
+        assertThatThrownBy(() -> uploadUrlService.resolve(List.of(slot.objectName()), 7L))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("업로드가 완료되지 않은");
+
+        upload(slot, new byte[100]);
+        assertThatThrownBy(() -> uploadUrlService.resolve(List.of(slot.objectName()), 8L))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("잘못된 이미지 객체 참조");
+        assertThatThrownBy(() -> uploadUrlService.resolve(List.of("veo-images/sha256/abc.jpg"), 7L))
+                .isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("서명이 변조되었거나 최대 크기를 넘는 업로드는 받지 않는다")
+    void rejectsTamperedSignatureAndOversizedUploads() throws Exception {
+        ImageUploadSlot slot = uploadUrlService.issue(List.of("image/jpeg"), 7L).slots().get(0);
+        Map<String, String> query = queryOf(slot.uploadUrl());
+
+        assertThat(objectStore.verifyUploadSignature("veo-uploads/8/other.jpg", query.get("contentType"),
+                Long.parseLong(query.get("maxBytes")), Long.parseLong(query.get("expires")), query.get("signature")))
+                .isFalse();
+
+        String sessionId = uploadSessions.start(slot.objectName(), "image/jpeg", Long.parseLong(query.get("maxBytes")));
+        assertThatThrownBy(() -> uploadSessions.writeAll(sessionId, new ByteArrayInputStream(new byte[2048])))
+                .hasMessageContaining("허용 범위");
+        assertThat(objectStore.exists(slot.objectName())).isFalse();
+    }
+
+    /**
+     * 클라이언트 흐름 재현 - 서명 검증 후 세션을 열고 두 청크로 나눠 업로드
+     */
+    private void upload(ImageUploadSlot slot, byte[] content) throws Exception {
+        Map<String, String> query = queryOf(slot.uploadUrl());
+        long maxBytes = Long.parseLong(query.get("maxBytes"));
+        assertThat(objectStore.verifyUploadSignature(query.get("object"), query.get("contentType"), maxBytes,
+                Long.parseLong(query.get("expires")), query.get("signature"))).isTrue();
+
+        String sessionId = uploadSessions.start(query.get("object"), query.get("contentType"), maxBytes);
+        int half = content.length / 2;
+        LocalUploadSessions.Progress first = uploadSessions.write(sessionId, 0, (long) content.length,
+                new ByteArrayInputStream(content, 0, half));
+        assertThat(first.complete()).isFalse();
+        LocalUploadSessions.Progress last = uploadSessions.write(sessionId, half, (long) content.length,
+                new ByteArrayInputStream(content, half, content.length - half));
+        assertThat(last.complete()).isTrue();
+    }
+
+    private Map<String, String> queryOf(String url) {
+        return Arrays.stream(URI.create(url).getRawQuery().split("&"))
+                .map(pair -> pair.split("=", 2))
+                .collect(Collectors.toMap(pair -> pair[0], pair -> URLDecoder.decode(pair[1], StandardCharsets.UTF_8)));
+    }
+}
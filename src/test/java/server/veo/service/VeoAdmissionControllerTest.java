@@ -0,0 +1,194 @@
+package server.veo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import server.common.ErrorCode;
+import server.common.TooManyRequestsException;
+import server.member.entity.MemberRole;
+
+class VeoAdmissionControllerTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private final Map<String, VeoAdmissionController.Ticket> tickets = new HashMap<>();
+    private List<String> started;
+    private VeoAdmissionController admissionController;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        started = new ArrayList<>();
+        // 동시 실행 2, 대기열 2, 처리량 정보가 없을 때 Retry-After 30초
+        admissionController = new VeoAdmissionController(Runnable::run, meterRegistry, 2, 2, 10, 30, 600, 1, 2);
+    }
+
+    @Test
+    @DisplayName("동시 실행 한도를 넘는 작업은 대기열 순번을 받고, 슬롯이 반환되면 순서대로 시작한다")
+    void queuesBeyondConcurrencyLimit() {
+        VeoAdmissionController.Ticket first = submit("op-1");
+        submit("op-2");
+        submit("op-3");
+        submit("op-4");
+
+        assertThat(started).containsExactly("op-1", "op-2");
+        assertThat(admissionController.queuePosition("op-3")).isEqualTo(1);
+        assertThat(admissionController.queuePosition("op-4")).isEqualTo(2);
+
+        admissionController.release(first);
+
+        assertThat(started).containsExactly("op-1", "op-2", "op-3");
+        assertThat(admissionController.queuePosition("op-4")).isEqualTo(1);
+        assertThat(meterRegistry.get("veo.admission.queue.depth").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("veo.admission.running").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("대기열까지 가득 차면 Retry-After와 함께 429로 즉시 거절한다")
+    void rejectsWhenQueueIsFull() {
+        for (int i = 1; i <= 4; i++) {
+            submit("op-" + i);
+        }
+
+        assertThatThrownBy(() -> admissionController.acquire("op-5", MEMBER_ID, MemberRole.USER))
+                .isInstanceOfSatisfying(TooManyRequestsException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.VEO_ADMISSION_QUEUE_FULL);
+                    assertThat(e.getRetryAfterSeconds()).isEqualTo(30);
+                });
+        assertThat(meterRegistry.get("veo.admission.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Retry-After는 최근 완료 처리량으로 추정한다")
+    void estimatesRetryAfterFromThroughput() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            admissionController.release(submit("op-" + i));
+            Thread.sleep(50);
+        }
+
+        // 약 100ms 동안 2건 완료 → 초당 약 20건 → 1초(최소값)
+        assertThat(admissionController.retryAfterSeconds()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 중에 취소된 작업은 대기열에서 빠지고 시작되지 않는다")
+    void releasingQueuedTicketRemovesIt() {
+        VeoAdmissionController.Ticket first = submit("op-1");
+        submit("op-2");
+        VeoAdmissionController.Ticket queued = submit("op-3");
+
+        admissionController.release(queued);
+        admissionController.release(first);
+
+        assertThat(started).containsExactly("op-1", "op-2");
+        assertThat(admissionController.queuePosition("op-3")).isZero();
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업을 작업 ID로 취소하면 슬롯이 바로 다음 대기 작업에 넘어가고, 처리량에는 포함되지 않는다")
+    void cancellingRunningOperationHandsSlotToNextInQueue() {
+        VeoAdmissionController.Ticket first = submit("op-1");
+        submit("op-2");
+        submit("op-3");
+
+        assertThat(admissionController.cancel("op-1")).isTrue();
+        assertThat(admissionController.isReleased(first)).isTrue();
+        assertThat(started).containsExactly("op-1", "op-2", "op-3");
+
+        // 이미 반환된 작업과 이 노드에 없는 작업은 취소할 자리표가 없음
+        assertThat(admissionController.cancel("op-1")).isFalse();
+        assertThat(admissionController.cancel("op-unknown")).isFalse();
+        assertThat(admissionController.retryAfterSeconds()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("대기열은 회원별로 돌아가며 꺼내므로 한 회원이 몰아 넣어도 다른 회원은 한 바퀴 안에 시작하고, ADMIN은 한 바퀴에 2건씩 꺼내진다")
+    void schedulesQueuedOperationsFairlyAcrossMembers() {
+        // 동시 실행 1, 대기열 10
+        admissionController = new VeoAdmissionController(Runnable::run, meterRegistry, 1, 10, 10, 30, 600, 1, 2);
+        VeoAdmissionController.Ticket running = submit("a-1", 1L, MemberRole.USER);
+        for (int i = 2; i <= 5; i++) {
+            submit("a-" + i, 1L, MemberRole.USER);
+        }
+        submit("b-1", 2L, MemberRole.USER);
+        for (int i = 1; i <= 3; i++) {
+            submit("c-" + i, 3L, MemberRole.ADMIN);
+        }
+
+        // 먼저 몰아 넣은 회원 뒤에 줄 서지 않고 한 바퀴 안에 차례가 옴
+        assertThat(admissionController.queuePosition("b-1")).isEqualTo(2);
+        assertThat(admissionController.queuePosition("c-2")).isEqualTo(4);
+
+        VeoAdmissionController.Ticket current = running;
+        for (int i = 0; i < 8; i++) {
+            admissionController.release(current);
+            String operationId = started.get(started.size() - 1);
+            current = tickets.get(operationId);
+        }
+
+        assertThat(started).containsExactly("a-1", "a-2", "b-1", "c-1", "c-2", "a-3", "c-3", "a-4", "a-5");
+        // 회원 ID 대신 등급과 앞서 넣어 둔 작업 수 구간으로 기록 (a-1, a-2, b-1 / a-3~a-5 / c-1 / c-2, c-3)
+        assertThat(memberWaitCount("USER", "0")).isEqualTo(3);
+        assertThat(memberWaitCount("USER", "1-3")).isEqualTo(3);
+        assertThat(memberWaitCount("ADMIN", "0")).isEqualTo(1);
+        assertThat(memberWaitCount("ADMIN", "1-3")).isEqualTo(2);
+        assertThat(meterRegistry.find("veo.admission.member.wait").tagKeys("member").timer()).isNull();
+        assertThat(meterRegistry.get("veo.admission.wait").timer().count()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("veoExecutor가 포화되면 작업을 호출 스레드에서 실행하지 않고 미뤄 두었다가 다시 전달한다")
+    void defersDispatchWhenExecutorRejects() {
+        AtomicBoolean saturated = new AtomicBoolean(true);
+        List<Runnable> executed = new ArrayList<>();
+        admissionController = new VeoAdmissionController(task -> {
+            if (saturated.get()) {
+                throw new RejectedExecutionException("saturated");
+            }
+            executed.add(task);
+        }, meterRegistry, 2, 2, 10, 30, 600, 1, 2);
+
+        submit("op-1");
+        submit("op-2");
+        assertThat(executed).isEmpty();
+        assertThat(started).isEmpty();
+
+        admissionController.retryDeferredDispatches();
+        assertThat(executed).isEmpty();
+
+        saturated.set(false);
+        admissionController.retryDeferredDispatches();
+        executed.forEach(Runnable::run);
+        assertThat(started).containsExactly("op-1", "op-2");
+
+        // 이미 전달된 작업은 다시 실행하지 않음
+        admissionController.retryDeferredDispatches();
+        assertThat(executed).hasSize(2);
+    }
+
+    private long memberWaitCount(String role, String backlog) {
+        return meterRegistry.get("veo.admission.member.wait").tag("role", role).tag("backlog", backlog).timer().count();
+    }
+
+    private VeoAdmissionController.Ticket submit(String operationId) {
+        return submit(operationId, MEMBER_ID, MemberRole.USER);
+    }
+
+    private VeoAdmissionController.Ticket submit(String operationId, Long memberId, MemberRole memberRole) {
+        VeoAdmissionController.Ticket ticket = admissionController.acquire(operationId, memberId, memberRole);
+        tickets.put(operationId, ticket);
+        admissionController.dispatch(ticket, () -> started.add(operationId));
+        return ticket;
+    }
+}
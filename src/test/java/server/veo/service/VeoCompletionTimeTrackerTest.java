@@ -0,0 +1,70 @@
+package server.veo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VeoCompletionTimeTrackerTest {
+
+    private static final VeoPollingKey KEY = new VeoPollingKey("veo-test", 3);
+
+    private SimpleMeterRegistry meterRegistry;
+    private VeoCompletionTimeTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new VeoCompletionTimeTracker(meterRegistry,
+                100, 5, 90, 20_000, 2_000, 5_000, 0.05, 0.95);
+    }
+
+    @Test
+    @DisplayName("학습 데이터가 없으면 사전 기대값 이전 구간은 sparse 간격으로 폴링한다")
+    void usesPriorBeforeSamplesAreCollected() {
+        // 사전 기대값 90초 → dense 구간 54초 ~ 144초
+        assertThat(tracker.nextPollDelayMillis(KEY, 0)).isEqualTo(20_000);
+        assertThat(tracker.nextPollDelayMillis(KEY, 50_000)).isEqualTo(4_000);
+        assertThat(tracker.nextPollDelayMillis(KEY, 60_000)).isEqualTo(2_000);
+        assertThat(tracker.nextPollDelayMillis(KEY, 200_000)).isEqualTo(5_000);
+    }
+
+    @Test
+    @DisplayName("관측된 완료 시간 분포 주변에서만 촘촘하게 폴링한다")
+    void densePollingAroundObservedCompletionTimes() {
+        for (int i = 0; i < 20; i++) {
+            tracker.recordCompletion(KEY, 60_000 + i * 1_000L); // 60초 ~ 79초
+        }
+
+        assertThat(tracker.completionPercentileMillis(KEY, 0.05)).isEqualTo(60_000);
+        assertThat(tracker.completionPercentileMillis(KEY, 0.95)).isEqualTo(78_000);
+
+        assertThat(tracker.nextPollDelayMillis(KEY, 10_000)).isEqualTo(20_000);
+        assertThat(tracker.nextPollDelayMillis(KEY, 59_000)).isEqualTo(2_000);
+        assertThat(tracker.nextPollDelayMillis(KEY, 70_000)).isEqualTo(2_000);
+        assertThat(tracker.nextPollDelayMillis(KEY, 90_000)).isEqualTo(5_000);
+    }
+
+    @Test
+    @DisplayName("분포는 (모델, 이미지 개수)별로 분리되어 학습된다")
+    void distributionsAreKeyedByModelAndImageCount() {
+        VeoPollingKey otherKey = new VeoPollingKey("veo-test", 1);
+        tracker.recordCompletion(KEY, 60_000);
+
+        assertThat(tracker.completionPercentileMillis(otherKey, 0.5)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("학습된 분위수와 작업별 폴링 횟수를 메트릭으로 노출한다")
+    void exportsMetrics() {
+        tracker.recordCompletion(KEY, 60_000);
+        tracker.recordPollCount(KEY, 7);
+
+        assertThat(meterRegistry.get("veo.completion.time.seconds")
+                .tag("quantile", "0.5").gauge().value()).isEqualTo(60.0);
+        assertThat(meterRegistry.get("veo.poller.polls.per.operation")
+                .summary().totalAmount()).isEqualTo(7.0);
+    }
+}
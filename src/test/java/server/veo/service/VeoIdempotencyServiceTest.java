@@ -0,0 +1,137 @@
+package server.veo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import server.common.CustomException;
+import server.common.ErrorCode;
+import server.common.TooManyRequestsException;
+import server.veo.dto.VideoGenerationResponse;
+
+class VeoIdempotencyServiceTest {
+
+    private static final String KEY = "7c1d0c52-retry-key";
+
+    private Map<String, Object> redis;
+    private Map<String, VideoGenerationResponse> operations;
+    private AtomicInteger submissions;
+    private VeoIdempotencyService idempotencyService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redis = new HashMap<>();
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class)))
+                .thenAnswer(call -> redis.putIfAbsent(call.getArgument(0), call.getArgument(1)) == null);
+        when(valueOperations.get(anyString())).thenAnswer(call -> redis.get(call.<String>getArgument(0)));
+        doAnswer(call -> redis.put(call.getArgument(0), call.getArgument(1)))
+                .when(valueOperations).set(anyString(), any(), any(Duration.class));
+        when(redisTemplate.delete(anyString())).thenAnswer(call -> redis.remove(call.<String>getArgument(0)) != null);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any()))
+                .thenAnswer(call -> redis.remove(call.<List<String>>getArgument(1).get(0), call.getArgument(2)) ? 1L : 0L);
+
+        operations = new HashMap<>();
+        submissions = new AtomicInteger();
+        idempotencyService = new VeoIdempotencyService(redisTemplate, new TransferBufferPool(1024, 1),
+                new SimpleMeterRegistry(), 300, 24, 2);
+    }
+
+    @Test
+    @DisplayName("같은 키로 재전송된 요청은 새 작업 없이 원래 작업의 현재 상태(진행 중, 완료)를 받는다")
+    void retriesAttachToOriginalOperation() {
+        String fingerprint = idempotencyService.fingerprintOf(List.of("veo-uploads/7/a/0.jpg"));
+
+        VideoGenerationResponse first = execute(fingerprint, "op-1");
+        VideoGenerationResponse inFlight = execute(fingerprint, "op-2");
+        assertThat(inFlight.operationId()).isEqualTo("op-1");
+        assertThat(inFlight.isFinished()).isFalse();
+
+        operations.put("op-1", first.complete(null));
+        VideoGenerationResponse afterCompletion = execute(fingerprint, "op-3");
+        assertThat(afterCompletion.operationId()).isEqualTo("op-1");
+        assertThat(afterCompletion.isFinished()).isTrue();
+
+        assertThat(submissions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 내용이 오면 422로 거절하고, 접수에 실패한 키는 다시 사용할 수 있다")
+    void rejectsMismatchAndReleasesFailedClaims() {
+        execute(idempotencyService.fingerprintOf(List.of("veo-uploads/7/a/0.jpg")), "op-1");
+
+        assertThatThrownBy(() -> execute(idempotencyService.fingerprintOf(List.of("veo-uploads/7/b/0.jpg")), "op-2"))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.VEO_IDEMPOTENCY_KEY_REUSED));
+
+        String otherKey = "second-retry-key";
+        Function<String, VideoGenerationResponse> failing = operationId -> {
+            throw new CustomException(ErrorCode.VEO_ADMISSION_QUEUE_FULL);
+        };
+        assertThatThrownBy(() -> idempotencyService.execute(otherKey, 7L, "fp", "op-3", failing, this::lookup))
+                .isInstanceOf(CustomException.class);
+
+        VideoGenerationResponse retried = idempotencyService.execute(otherKey, 7L, "fp", "op-4", this::submit, this::lookup);
+        assertThat(retried.operationId()).isEqualTo("op-4");
+    }
+
+    @Test
+    @DisplayName("원래 요청이 아직 접수 중이면 기다리지 않고 Retry-After와 함께 409, 작업이 정리된 키는 새 작업으로 접수한다")
+    void answersInProgressImmediatelyAndReusesKeysOfEvictedOperations() {
+        String fingerprint = "fp";
+        // 다른 요청이 키를 선점하고 아직 이미지를 업로드하는 중
+        redis.put("veo:idempotency:7:" + KEY, fingerprint + " op-1");
+
+        assertThatThrownBy(() -> execute(fingerprint, "op-2"))
+                .isInstanceOfSatisfying(TooManyRequestsException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.VEO_IDEMPOTENT_REQUEST_IN_PROGRESS);
+                    assertThat(e.getRetryAfterSeconds()).isEqualTo(2);
+                });
+        assertThat(submissions).hasValue(0);
+
+        // 접수는 끝났지만 작업이 레지스트리 보관 기간이 지나 정리됨
+        redis.put("veo:idempotency:7:" + KEY, fingerprint + " op-1 submitted");
+
+        VideoGenerationResponse resubmitted = execute(fingerprint, "op-3");
+        assertThat(resubmitted.operationId()).isEqualTo("op-3");
+        assertThat(redis.get("veo:idempotency:7:" + KEY)).isEqualTo(fingerprint + " op-3 submitted");
+        assertThat(submissions).hasValue(1);
+    }
+
+    private VideoGenerationResponse execute(String fingerprint, String operationId) {
+        return idempotencyService.execute(KEY, 7L, fingerprint, operationId, this::submit, this::lookup);
+    }
+
+    private VideoGenerationResponse submit(String operationId) {
+        submissions.incrementAndGet();
+        VideoGenerationResponse accepted = VideoGenerationResponse.inProgress(operationId, "prompt");
+        operations.put(operationId, accepted);
+        return accepted;
+    }
+
+    private Optional<VideoGenerationResponse> lookup(String operationId) {
+        return Optional.ofNullable(operations.get(operationId));
+    }
+}
@@ -0,0 +1,115 @@
+package server.veo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import server.veo.dto.VeoOperationProgress;
+import server.veo.dto.VeoOperationTransition;
+import server.veo.dto.VideoGenerationResponse;
+import server.veo.dto.VideoGenerationStatus;
+
+class VeoOperationEventsTest {
+
+    private static final String OPERATION_ID = "op-1";
+
+    private VeoOperationStore operationStore;
+    private VeoCompletionTimeTracker tracker;
+    private List<String> sentEvents;
+    private VeoOperationEvents events;
+
+    @BeforeEach
+    void setUp() {
+        operationStore = mock(VeoOperationStore.class);
+        when(operationStore.findRecord(OPERATION_ID)).thenReturn(Optional.empty());
+        when(operationStore.findTransitions(OPERATION_ID)).thenReturn(List.of());
+
+        // 사전 기대값 90초, 학습 최소 샘플 5개
+        tracker = new VeoCompletionTimeTracker(new SimpleMeterRegistry(),
+                100, 5, 90, 20_000, 2_000, 5_000, 0.05, 0.95);
+        VeoAdmissionController admissionController =
+                new VeoAdmissionController(Runnable::run, new SimpleMeterRegistry(), 2, 2, 10, 30, 600, 1, 2);
+
+        sentEvents = new ArrayList<>();
+        events = new VeoOperationEvents(operationStore, tracker, admissionController,
+                mock(RedisMessageListenerContainer.class), 60_000) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                return new SseEmitter(timeoutMillis) {
+                    @Override
+                    public void send(SseEventBuilder builder) {
+                        String frame = builder.build().stream()
+                                .map(part -> String.valueOf(part.getData()))
+                                .collect(Collectors.joining());
+                        sentEvents.add(frame.substring(frame.indexOf("event:") + 6, frame.indexOf('\n')));
+                    }
+                };
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("구독 즉시 현재 상태를 보내고, 발행된 전이를 전달하며, 종료 상태를 보내면 구독을 정리한다")
+    void streamsSnapshotTransitionsAndCompletes() {
+        VideoGenerationResponse accepted = VideoGenerationResponse.inProgress(OPERATION_ID, "prompt").queued(1);
+
+        events.subscribe(OPERATION_ID, () -> accepted);
+        assertThat(sentEvents).containsExactly("state", "progress");
+        assertThat(events.subscriberCount()).isEqualTo(1);
+
+        VideoGenerationResponse failed = accepted.start().fail("boom");
+        when(operationStore.deserializeEvent(any())).thenReturn(accepted.start(), failed);
+        events.onMessage(new DefaultMessage(new byte[0], new byte[0]), null);
+        events.onMessage(new DefaultMessage(new byte[0], new byte[0]), null);
+
+        assertThat(sentEvents).containsExactly("state", "progress", "state", "state");
+        assertThat(events.subscriberCount()).isZero();
+
+        // 종료 후 진행률 주기에는 보낼 대상이 없음
+        events.publishProgress();
+        assertThat(sentEvents).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("진행률은 완료 시간 중앙값 기준으로 추정하고, p95를 넘기면 남은 시간을 비운다")
+    void estimatesProgressFromCompletionDistribution() {
+        for (int i = 0; i < 10; i++) {
+            tracker.recordCompletion(new VeoPollingKey(VeoVideoService.VEO_MODEL, 0), 60_000 + i * 2_000L); // 60~78초 → 중앙값 68초, p95 78초
+        }
+        LocalDateTime startedAt = LocalDateTime.now().minusSeconds(30);
+        when(operationStore.findTransitions(OPERATION_ID)).thenReturn(List.of(
+                new VeoOperationTransition(VideoGenerationStatus.IN_PROGRESS, null, "node-a", startedAt)));
+
+        events.subscribe(OPERATION_ID, () -> VideoGenerationResponse.inProgress(OPERATION_ID, "prompt"));
+        VeoOperationEvents.Subscription subscription = subscriptionOf();
+
+        VeoOperationProgress early = events.progressOf(subscription, startedAt.plusSeconds(34));
+        assertThat(early.progressPercent()).isEqualTo(50);
+        assertThat(early.estimatedRemainingSeconds()).isEqualTo(34);
+
+        VeoOperationProgress late = events.progressOf(subscription, startedAt.plusSeconds(75));
+        assertThat(late.progressPercent()).isEqualTo(95);
+        assertThat(late.estimatedRemainingSeconds()).isEqualTo(3);
+
+        VeoOperationProgress overdue = events.progressOf(subscription, startedAt.plusSeconds(120));
+        assertThat(overdue.elapsedSeconds()).isEqualTo(120);
+        assertThat(overdue.estimatedRemainingSeconds()).isNull();
+    }
+
+    private VeoOperationEvents.Subscription subscriptionOf() {
+        return events.subscriptionsOf(OPERATION_ID).get(0);
+    }
+}
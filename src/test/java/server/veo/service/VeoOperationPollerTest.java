@@ -0,0 +1,76 @@
+package server.veo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.genai.types.GenerateVideosOperation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import server.common.CustomException;
+import server.common.ErrorCode;
+import server.veo.backend.VideoGenerationBackend;
+
+class VeoOperationPollerTest {
+
+    private static final VeoPollingKey KEY = new VeoPollingKey("veo-test", 1);
+
+    private VideoGenerationBackend backend;
+    private VeoCompletionTimeTracker tracker;
+    private VeoOperationPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        backend = mock(VideoGenerationBackend.class);
+        // 폴링 간격을 모두 10ms로 두어 테스트가 바로 진행되도록 함
+        tracker = new VeoCompletionTimeTracker(new SimpleMeterRegistry(), 100, 5, 90, 10, 10, 10, 0.05, 0.95);
+        poller = new VeoOperationPoller(backend, tracker);
+        ReflectionTestUtils.setField(poller, "tickMillis", 10L);
+        ReflectionTestUtils.setField(poller, "batchSize", 20);
+        ReflectionTestUtils.setField(poller, "workerThreads", 1);
+        ReflectionTestUtils.setField(poller, "maxWaitSeconds", 300L);
+        poller.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        poller.stop();
+    }
+
+    @Test
+    @DisplayName("재개한 작업의 완료 시간은 재개 시점이 아니라 원래 제출 시각부터 기록한다")
+    void recordsCompletionFromOriginalSubmission() throws Exception {
+        when(backend.getVideosOperation(any())).thenReturn(GenerateVideosOperation.builder().done(true).build());
+        long submittedAt = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(60);
+
+        poller.register("op-1", GenerateVideosOperation.builder().name("remote-1").build(), KEY, submittedAt)
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(tracker.completionPercentileMillis(KEY, 0.5)).isGreaterThanOrEqualTo(60_000);
+    }
+
+    @Test
+    @DisplayName("원래 제출 시각 기준으로 최대 대기 시간을 넘긴 재개 작업은 폴링 없이 시간 초과로 끝난다")
+    void expiresResumedOperationPastOriginalDeadline() {
+        long submittedAt = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(400);
+
+        CompletableFuture<GenerateVideosOperation> future =
+                poller.register("op-2", GenerateVideosOperation.builder().name("remote-2").build(), KEY, submittedAt);
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.VEO_OPERATION_TIMEOUT));
+        assertThat(poller.pendingCount()).isZero();
+    }
+}
@@ -0,0 +1,104 @@
+package server.veo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import server.common.ErrorCode;
+import server.common.TooManyRequestsException;
+
+class VeoRateLimiterTest {
+
+    private StringRedisTemplate redisTemplate;
+    private VeoRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        // USER 3개(시간당 10개), ADMIN 30개(시간당 300개), IP 10개(시간당 30개)
+        rateLimiter = new VeoRateLimiter(redisTemplate, new SimpleMeterRegistry(), true, 3, 10, 30, 300, 10, 30);
+    }
+
+    @Test
+    @DisplayName("허용된 요청은 회원 등급의 한도와 회원/IP 버킷 중 작은 남은 토큰 수를 헤더로 알린다")
+    void writesRemainingQuotaHeaders() {
+        givenScriptResult("1 2 9 0");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        rateLimiter.consume(member(7L, "USER"), "10.0.0.1", response);
+
+        assertThat(response.getHeader(VeoRateLimiter.LIMIT_HEADER)).isEqualTo("3");
+        assertThat(response.getHeader(VeoRateLimiter.REMAINING_HEADER)).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 남은 한도 헤더와 함께 Retry-After(올림 초)를 담아 429로 거절한다")
+    void rejectsWhenBucketIsEmpty() {
+        givenScriptResult("0 0 4 2500");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> rateLimiter.consume(member(7L, "ADMIN"), "10.0.0.1", response))
+                .isInstanceOfSatisfying(TooManyRequestsException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.VEO_RATE_LIMIT_EXCEEDED);
+                    assertThat(e.getRetryAfterSeconds()).isEqualTo(3);
+                });
+        assertThat(response.getHeader(VeoRateLimiter.LIMIT_HEADER)).isEqualTo("30");
+        assertThat(response.getHeader(VeoRateLimiter.REMAINING_HEADER)).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에는 생성을 막지 않는다")
+    void allowsWhenRedisIsUnavailable() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        rateLimiter.consume(member(7L, "USER"), "10.0.0.1", new MockHttpServletResponse());
+    }
+
+    @Test
+    @DisplayName("접수에 실패한 요청은 차감한 토큰을 회원/IP 버킷에 버킷 크기만큼 돌려준다")
+    void refundsReservedToken() {
+        givenScriptResult("1 2 9 0");
+
+        VeoRateLimiter.Reservation reservation =
+                rateLimiter.consume(member(7L, "USER"), "10.0.0.1", new MockHttpServletResponse());
+        reservation.refund();
+
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("veo:ratelimit:member:7", "veo:ratelimit:ip:10.0.0.1")), eq("3"), eq("10"));
+    }
+
+    @Test
+    @DisplayName("시간당 충전량이 0 이하인 설정은 기동 시 거절한다")
+    void rejectsNonPositiveRefill() {
+        assertThatThrownBy(() -> new VeoRateLimiter(redisTemplate, new SimpleMeterRegistry(), true, 3, 0, 30, 300, 10, 30))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenScriptResult(String result) {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any()))
+                .thenReturn(result);
+    }
+
+    private Authentication member(Long memberId, String role) {
+        return new UsernamePasswordAuthenticationToken(memberId, null, List.of(new SimpleGrantedAuthority(role)));
+    }
+}
@@ -0,0 +1,55 @@
+package server.veo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.genai.types.GenerateVideosConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import server.veo.dto.GeneratedVideo;
+
+class VeoResultCacheTest {
+
+    private static final GenerateVideosConfig CONFIG = GenerateVideosConfig.builder()
+            .aspectRatio("16:9")
+            .seed(8)
+            .build();
+
+    private SimpleMeterRegistry meterRegistry;
+    private VeoResultCache resultCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        resultCache = new VeoResultCache(new ConcurrentMapCacheManager(VeoResultCache.CACHE_NAME), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("입력 이미지, 프롬프트, 설정, 모델 중 하나라도 다르면 다른 캐시 키가 만들어진다")
+    void keyCoversAllInputs() {
+        String key = VeoResultCache.keyOf("veo", "prompt", CONFIG, List.of("gs://b/a.jpg"));
+
+        assertThat(VeoResultCache.keyOf("veo", "prompt", CONFIG, List.of("gs://b/a.jpg"))).isEqualTo(key);
+        assertThat(VeoResultCache.keyOf("veo-2", "prompt", CONFIG, List.of("gs://b/a.jpg"))).isNotEqualTo(key);
+        assertThat(VeoResultCache.keyOf("veo", "other", CONFIG, List.of("gs://b/a.jpg"))).isNotEqualTo(key);
+        assertThat(VeoResultCache.keyOf("veo", "prompt", CONFIG.toBuilder().seed(9).build(), List.of("gs://b/a.jpg")))
+                .isNotEqualTo(key);
+        assertThat(VeoResultCache.keyOf("veo", "prompt", CONFIG, List.of("gs://b/b.jpg"))).isNotEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("저장된 결과는 적중으로, 없는 결과는 미스로 집계된다")
+    void countsHitsAndMisses() {
+        GeneratedVideo video = GeneratedVideo.create("temp", "https://storage.cloud.google.com/b/videos/v.mp4", 8);
+
+        assertThat(resultCache.find("key")).isEmpty();
+        resultCache.put("key", video);
+        assertThat(resultCache.find("key")).contains(video);
+
+        assertThat(meterRegistry.get("veo.result.cache").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("veo.result.cache").tag("result", "miss").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,102 @@
+package server.veo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import server.common.CustomException;
+import server.common.ErrorCode;
+import server.common.TooManyRequestsException;
+import server.member.entity.MemberRole;
+import server.veo.backend.VideoGenerationBackend;
+import server.veo.dto.VideoGenerationResponse;
+import server.veo.dto.VideoGenerationStatus;
+
+class VeoVideoServiceTest {
+
+    private static final List<String> OBJECT_NAMES = List.of("veo-uploads/7/a/0.jpg");
+
+    private VideoGenerationBackend backend;
+    private VeoOperationStore operationStore;
+    private SimpleMeterRegistry meterRegistry;
+    private List<Runnable> dispatched;
+    private VeoVideoService videoService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        backend = mock(VideoGenerationBackend.class);
+        operationStore = mock(VeoOperationStore.class);
+        meterRegistry = new SimpleMeterRegistry();
+        dispatched = new ArrayList<>();
+
+        ImageUploadUrlService imageUploadUrlService = mock(ImageUploadUrlService.class);
+        when(imageUploadUrlService.resolve(OBJECT_NAMES, 7L)).thenReturn(List.of("gs://local-bucket/veo-uploads/7/a/0.jpg"));
+
+        // veoExecutor에 넘어간 작업은 테스트가 직접 실행
+        VeoAdmissionController admissionController =
+                new VeoAdmissionController(dispatched::add, meterRegistry, 2, 2, 10, 30, 600, 1, 2);
+        VeoIdempotencyService idempotencyService = new VeoIdempotencyService(mock(RedisTemplate.class),
+                new TransferBufferPool(1024, 1), meterRegistry, 300, 24, 2);
+
+        videoService = new VeoVideoService(backend, mock(GcsImageUploadService.class), operationStore,
+                mock(VeoOperationPoller.class), mock(VeoResultCache.class), admissionController,
+                mock(GcsVideoCacheService.class), mock(VideoMetadataService.class), imageUploadUrlService,
+                idempotencyService, mock(RedisMessageListenerContainer.class));
+    }
+
+    @Test
+    @DisplayName("승인 후 실행 전에 다른 노드에서 취소된 작업은 취소 알림을 받지 못해도 Veo에 제출하지 않고 슬롯을 반환한다")
+    void skipsGenerationCancelledBetweenAdmissionAndDispatch() {
+        VideoGenerationResponse accepted =
+                videoService.submitUploaded(OBJECT_NAMES, 7L, MemberRole.USER, null, () -> VeoRateLimiter.Reservation.NONE);
+        assertThat(accepted.status()).isEqualTo(VideoGenerationStatus.IN_PROGRESS);
+        assertThat(dispatched).hasSize(1);
+
+        // 취소가 FAILED를 먼저 저장 - 레지스트리는 이후의 진행 상태 저장을 거절함
+        when(operationStore.save(any())).thenReturn(false);
+        dispatched.get(0).run();
+
+        verify(backend, never()).generateVideos(any(), any(), any(), any());
+        assertThat(meterRegistry.get("veo.admission.running").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차 접수하지 못한 요청은 차감한 요청 한도를 돌려준다")
+    void refundsRateLimitWhenQueueIsFull() {
+        VeoRateLimiter.Reservation reservation = mock(VeoRateLimiter.Reservation.class);
+        for (int i = 0; i < 4; i++) {
+            videoService.submitUploaded(OBJECT_NAMES, 7L, MemberRole.USER, null, () -> VeoRateLimiter.Reservation.NONE);
+        }
+
+        assertThatThrownBy(() -> videoService.submitUploaded(OBJECT_NAMES, 7L, MemberRole.USER, null, () -> reservation))
+                .isInstanceOf(TooManyRequestsException.class);
+        verify(reservation).refund();
+    }
+
+    @Test
+    @DisplayName("다른 회원의 작업은 조회할 수 없다")
+    void rejectsReadingAnotherMembersOperation() {
+        VideoGenerationResponse response = VideoGenerationResponse.inProgress("op-1", "prompt");
+        when(operationStore.findRecord("op-1"))
+                .thenReturn(Optional.of(new VeoOperationRecord(response, null, 7L, List.of())));
+
+        assertThat(videoService.getOperation("op-1", 7L)).isEqualTo(response);
+        assertThatThrownBy(() -> videoService.getOperation("op-1", 8L))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.VEO_OPERATION_FORBIDDEN));
+    }
+}
@@ -0,0 +1,100 @@
+package server.veo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import server.veo.backend.LocalObjectStore;
+import server.veo.dto.GeneratedVideo;
+import server.veo.dto.VideoMetadata;
+import server.veo.fixture.Mp4Fixture;
+import server.veo.util.DigestingChannel;
+
+class VideoMetadataServiceTest {
+
+    private static final String OBJECT_NAME = "videos/42/sample_0.mp4";
+
+    @TempDir
+    Path objectRoot;
+
+    @TempDir
+    Path videoDir;
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+
+    private byte[] mp4;
+    private GcsVideoCacheService gcsVideoCacheService;
+    private VideoStorageService videoStorageService;
+    private GeneratedVideo video;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mp4 = Mp4Fixture.moovFirst(64 * 1024, 4, 7600);
+        Path object = objectRoot.resolve(OBJECT_NAME);
+        Files.createDirectories(object.getParent());
+        Files.write(object, mp4);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TransferBufferPool pool = new TransferBufferPool(8 * 1024, 4);
+        LocalObjectStore objectStore = new LocalObjectStore(objectRoot.toString(), "local-bucket", pool,
+                0, 0, 0, "http://localhost:8080");
+        videoStorageService = new VideoStorageService(pool, new Mp4FastStartProcessor(meterRegistry, true, 1 << 20),
+                meterRegistry, videoDir.toString(), "http://localhost:8080/", Long.MAX_VALUE, 0.9);
+        gcsVideoCacheService = new GcsVideoCacheService(objectStore, videoStorageService, "videos/", 10, "http://localhost:8080/");
+
+        String gcsUri = "gs://local-bucket/" + OBJECT_NAME;
+        video = GeneratedVideo.create(gcsVideoCacheService.videoIdOf(gcsUri).orElseThrow(),
+                gcsVideoCacheService.proxyUrlOf(gcsUri), 8);
+    }
+
+    @Test
+    @DisplayName("ffmpeg가 없으면 포스터 없이 크기와 mvhd 재생 길이를 채우고 비디오 ID로 캐시한다")
+    void fillsSizeAndDurationWithoutFfmpeg() throws Exception {
+        VideoMetadataService metadataService = newMetadataService("missing-ffmpeg-binary");
+
+        GeneratedVideo enriched = metadataService.enrich(video).get();
+
+        assertThat(enriched.fileSizeBytes()).isEqualTo(mp4.length);
+        assertThat(enriched.durationSeconds()).isEqualTo(8); // 7.6초 반올림
+        assertThat(enriched.thumbnailUrl()).isNull();
+        // 프록시 URL 대신 로컬 캐시에 게시된 내용 기반 URL (immutable)
+        String contentUrl = "http://localhost:8080/api/v1/videos/" + DigestingChannel.sha256Hex(mp4) + ".mp4";
+        assertThat(enriched.url()).isEqualTo(contentUrl);
+        assertThat(cacheManager.getCache(VideoMetadataService.CACHE_NAME).get(video.id(), VideoMetadata.class))
+                .isEqualTo(new VideoMetadata((long) mp4.length, 8, null, contentUrl));
+    }
+
+    @Test
+    @DisplayName("ffmpeg로 만든 포스터를 비디오 옆에 게시하고 URL을 채운다")
+    void publishesPosterNextToVideo() throws Exception {
+        Path fakeFfmpeg = objectRoot.resolve("fake-ffmpeg.sh");
+        Files.writeString(fakeFfmpeg, """
+                #!/bin/sh
+                [ "$1" = "-version" ] && exit 0
+                for last; do :; done
+                printf 'jpeg' > "$last"
+                """);
+        Files.setPosixFilePermissions(fakeFfmpeg, PosixFilePermissions.fromString("rwx------"));
+
+        GeneratedVideo enriched = newMetadataService(fakeFfmpeg.toString()).enrich(video).get();
+
+        String videoFileName = gcsVideoCacheService.fetch(OBJECT_NAME);
+        Path posterPath = videoStorageService.posterPathOf(videoFileName);
+        assertThat(enriched.thumbnailUrl())
+                .isEqualTo("http://localhost:8080/api/v1/videos/" + videoFileName + "/poster");
+        assertThat(posterPath.getParent()).isEqualTo(videoStorageService.getVideoFilePath(videoFileName).getParent());
+        assertThat(Files.readString(posterPath)).isEqualTo("jpeg");
+    }
+
+    private VideoMetadataService newMetadataService(String ffmpegPath) {
+        return new VideoMetadataService(gcsVideoCacheService, videoStorageService, cacheManager, Runnable::run,
+                new SimpleMeterRegistry(), ffmpegPath, 10, 480);
+    }
+}
@@ -0,0 +1,157 @@
+package server.veo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import server.veo.fixture.Mp4Fixture;
+import server.veo.util.DigestingChannel;
+
+class VideoStorageServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private VideoStorageService storageService;
+
+    @BeforeEach
+    void setUp() {
+        storageService = newStorageService(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("스트림을 저장하면서 크기와 SHA-256을 계산하고 임시 파일을 남기지 않는다")
+    void streamsVideoWithSizeAndChecksum() throws Exception {
+        byte[] content = new byte[10_000];
+        new Random(7).nextBytes(content);
+
+        StoredVideo stored = storageService.saveVideo(new ByteArrayInputStream(content), "video/mp4");
+
+        assertThat(stored.fileName()).isEqualTo(stored.sha256() + ".mp4");
+        assertThat(storageService.isContentAddressed(stored.fileName())).isTrue();
+        assertThat(storageService.contentHashOf(stored.fileName())).contains(stored.sha256());
+        assertThat(stored.url()).isEqualTo("http://localhost:8080/api/v1/videos/" + stored.fileName());
+        assertThat(stored.sizeBytes()).isEqualTo(content.length);
+        assertThat(stored.sha256()).isEqualTo(DigestingChannel.sha256Hex(content));
+        assertThat(Files.readAllBytes(storageService.getVideoFilePath(stored.fileName()))).isEqualTo(content);
+        assertThat(regularFiles()).containsExactly(storageService.getVideoFilePath(stored.fileName()));
+    }
+
+    @Test
+    @DisplayName("스트림 도중 실패하면 부분 파일을 남기지 않는다")
+    void leavesNoPartialFileOnFailure() throws Exception {
+        InputStream failing = new SequenceInputStream(new ByteArrayInputStream(new byte[5_000]), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        });
+
+        assertThatThrownBy(() -> storageService.saveVideo(failing, "video/mp4"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("비디오 파일 저장 실패");
+        assertThat(regularFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("파일명 해시 앞 2자리 디렉토리에 저장하고 존재 여부는 메모리 인덱스로 답한다")
+    void storesInShardAndAnswersExistenceFromIndex() throws Exception {
+        StoredVideo stored = storageService.saveVideo(new ByteArrayInputStream(new byte[10]), "video/mp4");
+        Path filePath = storageService.getVideoFilePath(stored.fileName());
+
+        assertThat(directory.relativize(filePath).getNameCount()).isEqualTo(2);
+        assertThat(filePath.getParent().getFileName().toString()).matches("[0-9a-f]{2}");
+        assertThat(storageService.videoFileExists(stored.fileName())).isTrue();
+        assertThat(storageService.videoFileExists("missing.mp4")).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 내용을 다시 저장하면 같은 파일명을 돌려주고 파일은 하나만 남긴다")
+    void deduplicatesIdenticalContent() throws Exception {
+        byte[] content = randomBytes(2_000, 11);
+
+        StoredVideo first = storageService.saveVideo(new ByteArrayInputStream(content), "video/mp4");
+        StoredVideo second = storageService.saveVideo(new ByteArrayInputStream(content), "video/mp4");
+
+        assertThat(second.fileName()).isEqualTo(first.fileName());
+        assertThat(second.sizeBytes()).isEqualTo(content.length);
+        assertThat(regularFiles()).containsExactly(storageService.getVideoFilePath(first.fileName()));
+        assertThat(storageService.isContentAddressed("gcs_0011.mp4")).isFalse();
+        assertThat(storageService.contentHashOf("gcs_0011.mp4")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("용량 한도를 넘으면 가장 오래 접근하지 않은 파일부터 삭제한다")
+    void evictsLeastRecentlyAccessedFilesOverQuota() {
+        storageService = newStorageService(2_500);
+        String first = storageService.saveVideo(new ByteArrayInputStream(randomBytes(1_000, 1)), "video/mp4").fileName();
+        String second = storageService.saveVideo(new ByteArrayInputStream(randomBytes(1_000, 2)), "video/mp4").fileName();
+        storageService.getVideoFilePath(first);
+        String third = storageService.saveVideo(new ByteArrayInputStream(randomBytes(1_000, 3)), "video/mp4").fileName();
+
+        storageService.evictIfOverQuota();
+
+        assertThat(storageService.videoFileExists(second)).isFalse();
+        assertThat(Files.exists(storageService.getVideoFilePath(second))).isFalse();
+        assertThat(storageService.videoFileExists(first)).isTrue();
+        assertThat(storageService.videoFileExists(third)).isTrue();
+    }
+
+    @Test
+    @DisplayName("시작 시 평면 구조 파일을 샤드로 옮기고 남은 임시 파일을 정리하여 인덱스를 구성한다")
+    void loadsIndexAndMigratesFlatLayout() throws Exception {
+        Files.write(directory.resolve("legacy.mp4"), new byte[300]);
+        Files.write(directory.resolve(".writing-123.tmp"), new byte[10]);
+
+        storageService.loadIndex();
+
+        assertThat(storageService.videoFileExists("legacy.mp4")).isTrue();
+        assertThat(regularFiles()).containsExactly(storageService.getVideoFilePath("legacy.mp4"));
+    }
+
+    @Test
+    @DisplayName("moov가 뒤에 있는 MP4는 fast-start로 바꿔 게시하고 크기와 체크섬은 게시된 파일 기준이다")
+    void publishesMp4WithMoovFirst() throws Exception {
+        byte[] original = Mp4Fixture.moovAtEnd(32 * 1024, 4, 8000);
+
+        StoredVideo stored = storageService.saveVideo(new ByteArrayInputStream(original), "video/mp4");
+
+        byte[] published = Files.readAllBytes(storageService.getVideoFilePath(stored.fileName()));
+        assertThat(Mp4Fixture.boxOffset(published, "moov")).isLessThan(Mp4Fixture.boxOffset(published, "mdat"));
+        assertThat(stored.sizeBytes()).isEqualTo(published.length);
+        assertThat(stored.sha256()).isEqualTo(DigestingChannel.sha256Hex(published));
+        assertThat(regularFiles()).hasSize(1);
+    }
+
+    private VideoStorageService newStorageService(long maxBytes) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new VideoStorageService(new TransferBufferPool(1024, 2),
+                new Mp4FastStartProcessor(meterRegistry, true, 1 << 20), meterRegistry,
+                directory.toString(), "http://localhost:8080/", maxBytes, 0.9);
+    }
+
+    private List<Path> regularFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).toList();
+        }
+    }
+
+    private static byte[] randomBytes(int size, long seed) {
+        byte[] bytes = new byte[size];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,75 @@
+package server.veo.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import server.veo.fixture.Mp4Fixture;
+
+class Mp4FastStartTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("moov를 첫 mdat 앞으로 옮기고 stco가 같은 샘플 바이트를 가리키도록 보정한다")
+    void relocatesMoovAndShiftsChunkOffsets() throws Exception {
+        byte[] original = Mp4Fixture.moovAtEnd(64 * 1024, 8, 8000);
+        Path source = Files.write(directory.resolve("source.mp4"), original);
+
+        byte[] rewritten;
+        Mp4FastStart.Layout layout;
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            layout = Mp4FastStart.inspect(channel);
+            ByteArrayOutputStream target = new ByteArrayOutputStream();
+            Mp4FastStart.relocateMoov(channel, layout, 1 << 20, Channels.newChannel(target));
+            rewritten = target.toByteArray();
+        }
+
+        assertThat(layout.needsRelocation()).isTrue();
+        assertThat(rewritten).hasSameSizeAs(original);
+        assertThat(Mp4Fixture.boxOffset(rewritten, "moov")).isLessThan(Mp4Fixture.boxOffset(rewritten, "mdat"));
+        assertThat(layout.relocatedPlayableOffset()).isLessThan(layout.playableOffset());
+
+        long[] before = Mp4Fixture.chunkOffsets(original);
+        long[] after = Mp4Fixture.chunkOffsets(rewritten);
+        for (int i = 0; i < before.length; i++) {
+            assertThat(after[i]).isEqualTo(before[i] + layout.moovSize());
+            assertThat(Arrays.copyOfRange(rewritten, (int) after[i], (int) after[i] + 16))
+                    .isEqualTo(Arrays.copyOfRange(original, (int) before[i], (int) before[i] + 16));
+        }
+    }
+
+    @Test
+    @DisplayName("이미 fast-start인 MP4는 변환이 필요 없고, MP4가 아니면 분석 결과가 없다")
+    void detectsLayoutsThatNeedNoRewrite() throws Exception {
+        Path fastStart = Files.write(directory.resolve("fast.mp4"), Mp4Fixture.moovFirst(1024, 2, 1000));
+        Path notMp4 = Files.write(directory.resolve("random.bin"), new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+
+        try (FileChannel channel = FileChannel.open(fastStart, StandardOpenOption.READ)) {
+            assertThat(Mp4FastStart.inspect(channel).needsRelocation()).isFalse();
+        }
+        try (FileChannel channel = FileChannel.open(notMp4, StandardOpenOption.READ)) {
+            assertThat(Mp4FastStart.inspect(channel)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("mvhd의 timescale과 duration으로 재생 길이를 읽는다")
+    void readsDurationFromMovieHeader() throws Exception {
+        Path video = Files.write(directory.resolve("video.mp4"), Mp4Fixture.moovAtEnd(1024, 2, 8250));
+
+        try (FileChannel channel = FileChannel.open(video, StandardOpenOption.READ)) {
+            assertThat(Mp4MovieHeader.readDuration(channel)).isEqualTo(Duration.ofMillis(8250));
+        }
+    }
+}